@@ -6,6 +6,10 @@ import com.itmsg.domain.approval.dto.ApprovalResponse;
 import com.itmsg.domain.approval.entity.ApprovalStatus;
 import com.itmsg.domain.approval.entity.ApprovalType;
 import com.itmsg.domain.approval.service.ApprovalService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -17,6 +21,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -48,9 +53,9 @@ public class ApprovalController {
     
     @GetMapping("/number/{approvalNumber}")
     @Operation(summary = "승인 번호로 조회", description = "승인 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<ApprovalResponse> getApprovalByNumber(@PathVariable String approvalNumber) {
-        ApprovalResponse response = approvalService.getApprovalByNumber(approvalNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApprovalResponse> getApprovalByNumber(@PathVariable String approvalNumber, WebRequest webRequest) {
+        String etag = approvalService.getApprovalByNumberETag(approvalNumber);
+        return ETags.conditional(webRequest, etag, () -> approvalService.getApprovalByNumber(approvalNumber));
     }
     
     @GetMapping
@@ -64,6 +69,30 @@ public class ApprovalController {
                 approvalType, status, requesterId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "승인 목록 조회 (무한 스크롤)", description = "승인 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<ApprovalResponse>> searchApprovalsSlice(
+            @RequestParam(required = false) ApprovalType approvalType,
+            @RequestParam(required = false) ApprovalStatus status,
+            @RequestParam(required = false) Long requesterId,
+            @PageableDefault(size = 20, sort = "requestedAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(approvalService.searchApprovalsSlice(
+                approvalType, status, requesterId, pageable, total));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "승인 목록 조회 (커서)", description = "승인 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<ApprovalResponse>> searchApprovalsByCursor(
+            @RequestParam(required = false) ApprovalType approvalType,
+            @RequestParam(required = false) ApprovalStatus status,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(approvalService.searchApprovalsByCursor(
+                approvalType, status, requesterId, cursor, size));
+    }
     
     @GetMapping("/my-pending")
     @Operation(summary = "내가 승인할 대기 건 목록", description = "현재 로그인 사용자가 승인할 대기 건 목록을 조회합니다.")
@@ -31,6 +31,13 @@ public class ApprovalResponse {
     private LocalDateTime createdAt;
     
     public static ApprovalResponse from(Approval approval) {
+        return from(approval, approval.getRequester() != null ? approval.getRequester().getName() : null);
+    }
+
+    /**
+     * 요청자 이름을 따로 받아 변환 (요청자가 현재 사용자면 인증 정보의 이름을 넘겨 users 조회를 생략)
+     */
+    public static ApprovalResponse from(Approval approval, String requesterName) {
         return ApprovalResponse.builder()
                 .id(approval.getId())
                 .approvalNumber(approval.getApprovalNumber())
@@ -39,7 +46,7 @@ public class ApprovalResponse {
                 .status(approval.getStatus())
                 .currentStep(approval.getCurrentStep())
                 .totalSteps(approval.getTotalSteps())
-                .requesterName(approval.getRequester() != null ? approval.getRequester().getName() : null)
+                .requesterName(requesterName)
                 .requestedAt(approval.getRequestedAt())
                 .completedAt(approval.getCompletedAt())
                 .approvalLines(approval.getApprovalLines().stream()
@@ -1,11 +1,9 @@
 package com.itmsg.domain.approval.repository;
 
 import com.itmsg.domain.approval.entity.Approval;
-import com.itmsg.domain.approval.entity.ApprovalStatus;
 import com.itmsg.domain.approval.entity.ApprovalType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,7 +15,7 @@ import java.util.Optional;
  * 승인 Repository
  */
 @Repository
-public interface ApprovalRepository extends JpaRepository<Approval, Long> {
+public interface ApprovalRepository extends JpaRepository<Approval, Long>, JpaSpecificationExecutor<Approval> {
     
     /**
      * 승인 번호로 조회
@@ -27,6 +25,15 @@ public interface ApprovalRepository extends JpaRepository<Approval, Long> {
            "WHERE a.approvalNumber = :approvalNumber AND a.deletedAt IS NULL")
     Optional<Approval> findByApprovalNumber(@Param("approvalNumber") String approvalNumber);
     
+    /**
+     * 승인 번호로 승인 및 응답에 포함되는 연관 엔티티(요청자)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(a.version, 0)), '.', str(COALESCE(u.version, 0))) " +
+           "FROM Approval a " +
+           "LEFT JOIN a.requester u " +
+           "WHERE a.approvalNumber = :approvalNumber")
+    Optional<String> findVersionByApprovalNumber(@Param("approvalNumber") String approvalNumber);
+    
     /**
      * 승인 번호 중복 확인
      */
@@ -59,26 +66,5 @@ public interface ApprovalRepository extends JpaRepository<Approval, Long> {
            "AND a.deletedAt IS NULL")
     List<Approval> findPendingApprovalsByApproverId(@Param("approverId") Long approverId);
     
-    /**
-     * 검색 및 필터링
-     */
-    @Query("SELECT a FROM Approval a " +
-           "WHERE (:approvalType IS NULL OR a.approvalType = :approvalType) " +
-           "AND (:status IS NULL OR a.status = :status) " +
-           "AND (:requesterId IS NULL OR a.requester.id = :requesterId) " +
-           "AND a.deletedAt IS NULL")
-    Page<Approval> search(@Param("approvalType") ApprovalType approvalType,
-                          @Param("status") ApprovalStatus status,
-                          @Param("requesterId") Long requesterId,
-                          Pageable pageable);
-    
-    /**
-     * 연도/월별 승인 개수 조회 (자동 채번용)
-     */
-    @Query("SELECT COUNT(a) FROM Approval a " +
-           "WHERE EXTRACT(YEAR FROM a.requestedAt) = :year " +
-           "AND EXTRACT(MONTH FROM a.requestedAt) = :month " +
-           "AND a.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
 }
 
@@ -0,0 +1,24 @@
+package com.itmsg.domain.approval.repository;
+
+import com.itmsg.domain.approval.entity.Approval;
+import com.itmsg.domain.approval.entity.ApprovalStatus;
+import com.itmsg.domain.approval.entity.ApprovalType;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 승인 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class ApprovalSpecs {
+
+    private ApprovalSpecs() {
+    }
+
+    public static Specification<Approval> search(ApprovalType approvalType, ApprovalStatus status, Long requesterId) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.equal("approvalType", approvalType),
+                Specs.equal("status", status),
+                Specs.equalId("requester", requesterId));
+    }
+}
@@ -9,16 +9,29 @@ import com.itmsg.domain.approval.entity.ApprovalLineStatus;
 import com.itmsg.domain.approval.entity.ApprovalStatus;
 import com.itmsg.domain.approval.entity.ApprovalType;
 import com.itmsg.domain.approval.repository.ApprovalRepository;
+import com.itmsg.domain.approval.repository.ApprovalSpecs;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +49,9 @@ public class ApprovalService {
     private final ApprovalRepository approvalRepository;
     private final UserRepository userRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
     
     /**
      * 승인 요청 생성
@@ -78,7 +94,8 @@ public class ApprovalService {
         }
         
         Approval savedApproval = approvalRepository.save(approval);
-        return ApprovalResponse.from(savedApproval);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.APPROVAL, savedApproval.getId(), savedApproval.getStatus(), savedApproval));
+        return ApprovalResponse.from(savedApproval, AuthenticatedUser.current().getDisplayName());
     }
     
     /**
@@ -89,8 +106,9 @@ public class ApprovalService {
         Approval approval = approvalRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.APPROVAL_NOT_FOUND));
         
-        User currentUser = getCurrentUser();
-        approval.approve(currentUser.getId(), request.getComment());
+        ApprovalStatus previousStatus = approval.getStatus();
+        approval.approve(currentUserId(), request.getComment());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.APPROVAL, approval.getId(), previousStatus, approval.getStatus(), approval));
         
         return ApprovalResponse.from(approval);
     }
@@ -103,8 +121,9 @@ public class ApprovalService {
         Approval approval = approvalRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.APPROVAL_NOT_FOUND));
         
-        User currentUser = getCurrentUser();
-        approval.reject(currentUser.getId(), request.getComment());
+        ApprovalStatus previousStatus = approval.getStatus();
+        approval.reject(currentUserId(), request.getComment());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.APPROVAL, approval.getId(), previousStatus, approval.getStatus(), approval));
         
         return ApprovalResponse.from(approval);
     }
@@ -117,7 +136,9 @@ public class ApprovalService {
         Approval approval = approvalRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.APPROVAL_NOT_FOUND));
         
+        ApprovalStatus previousStatus = approval.getStatus();
         approval.cancel();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.APPROVAL, approval.getId(), previousStatus, approval.getStatus(), approval));
         return ApprovalResponse.from(approval);
     }
     
@@ -139,6 +160,15 @@ public class ApprovalService {
         return ApprovalResponse.from(approval);
     }
     
+    /**
+     * 승인 번호 조회 ETag (없으면 null)
+     */
+    public String getApprovalByNumberETag(String approvalNumber) {
+        return approvalRepository.findVersionByApprovalNumber(approvalNumber)
+                .map(version -> ETags.of("approval", approvalNumber, version))
+                .orElse(null);
+    }
+    
     /**
      * 승인 목록 조회 (검색 및 필터링)
      */
@@ -146,17 +176,50 @@ public class ApprovalService {
                                                    ApprovalStatus status,
                                                    Long requesterId,
                                                    Pageable pageable) {
-        Page<Approval> approvals = approvalRepository.search(
-                approvalType, status, requesterId, pageable);
+        Page<Approval> approvals = approvalRepository.findAll(
+                ApprovalSpecs.search(approvalType, status, requesterId), pageable);
         return approvals.map(ApprovalResponse::from);
     }
     
+    /**
+     * 승인 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<ApprovalResponse> searchApprovalsSlice(ApprovalType approvalType,
+                                                                ApprovalStatus status, Long requesterId,
+                                                                Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(searchApprovals(approvalType, status, requesterId, pageable));
+        }
+        Slice<Approval> rows = sliceQuery.findSlice(
+                Approval.class, ApprovalSpecs.search(approvalType, status, requesterId), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(RowFilter.of("approvals")
+                        .eq("approval_type", approvalType)
+                        .eq("status", status)
+                        .eq("requester_id", requesterId))
+                : null;
+        return SliceResponse.of(rows.map(ApprovalResponse::from), total, totalMode);
+    }
+    
+    /**
+     * 승인 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<ApprovalResponse> searchApprovalsByCursor(ApprovalType approvalType,
+                                                                ApprovalStatus status, Long requesterId,
+                                                                String cursor, int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Approval> rows = approvalRepository.findBy(
+                ApprovalSpecs.search(approvalType, status, requesterId)
+                        .and(Specs.seekBefore("requestedAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("requestedAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Approval::getRequestedAt, Approval::getId, ApprovalResponse::from);
+    }
+    
     /**
      * 내가 승인할 대기 건 목록 조회
      */
     public List<ApprovalResponse> getMyPendingApprovals() {
-        User currentUser = getCurrentUser();
-        List<Approval> approvals = approvalRepository.findPendingApprovalsByApproverId(currentUser.getId());
+        List<Approval> approvals = approvalRepository.findPendingApprovalsByApproverId(currentUserId());
         return approvals.stream()
                 .map(ApprovalResponse::from)
                 .toList();
@@ -166,21 +229,24 @@ public class ApprovalService {
      * 내가 요청한 승인 목록 조회
      */
     public List<ApprovalResponse> getMyRequestedApprovals() {
-        User currentUser = getCurrentUser();
-        List<Approval> approvals = approvalRepository.findByRequesterId(currentUser.getId());
+        List<Approval> approvals = approvalRepository.findByRequesterId(currentUserId());
         return approvals.stream()
                 .map(ApprovalResponse::from)
                 .toList();
     }
     
     /**
-     * 현재 로그인 사용자 조회
+     * 현재 로그인 사용자 참조 (토큰의 사용자 id 로 만든 프록시, DB 조회 없음)
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return userRepository.getReferenceById(currentUserId());
+    }
+    
+    /**
+     * 현재 로그인 사용자 id
+     */
+    private Long currentUserId() {
+        return AuthenticatedUser.current().getUserId();
     }
 }
 
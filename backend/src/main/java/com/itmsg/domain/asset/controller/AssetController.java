@@ -4,6 +4,11 @@ import com.itmsg.domain.asset.dto.AssetRequest;
 import com.itmsg.domain.asset.dto.AssetResponse;
 import com.itmsg.domain.asset.entity.AssetType;
 import com.itmsg.domain.asset.service.AssetService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +21,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/assets")
@@ -41,9 +49,9 @@ public class AssetController {
     
     @GetMapping("/number/{assetNumber}")
     @Operation(summary = "자산 번호로 조회", description = "자산 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<AssetResponse> getAssetByNumber(@PathVariable String assetNumber) {
-        AssetResponse response = assetService.getAssetByNumber(assetNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<AssetResponse> getAssetByNumber(@PathVariable String assetNumber, WebRequest webRequest) {
+        String etag = assetService.getAssetByNumberETag(assetNumber);
+        return ETags.conditional(webRequest, etag, () -> assetService.getAssetByNumber(assetNumber));
     }
     
     @GetMapping
@@ -56,6 +64,38 @@ public class AssetController {
         Page<AssetResponse> response = assetService.getAssets(assetType, isExpired, managerId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "자산 자동완성", description = "자산명 또는 시리얼 번호로 자산을 찾아 id/이름만 반환합니다. 오타를 허용합니다.")
+    public ResponseEntity<List<SuggestionResponse>> suggestAssets(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(assetService.suggestAssets(q, limit));
+    }
+
+    @GetMapping("/slice")
+    @Operation(summary = "자산 목록 조회 (무한 스크롤)", description = "자산 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<AssetResponse>> getAssetsSlice(
+            @Parameter(description = "자산 유형") @RequestParam(required = false) AssetType assetType,
+            @Parameter(description = "폐기 여부") @RequestParam(required = false) Boolean isExpired,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long managerId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "전체 건수 계산 방식 (NONE: 생략, ESTIMATE: 근사값, EXACT: 정확한 값)") @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(assetService.getAssetsSlice(
+                assetType, isExpired, managerId, pageable, total));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "자산 목록 조회 (커서)", description = "자산 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<AssetResponse>> getAssetsByCursor(
+            @Parameter(description = "자산 유형") @RequestParam(required = false) AssetType assetType,
+            @Parameter(description = "폐기 여부") @RequestParam(required = false) Boolean isExpired,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long managerId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(assetService.getAssetsByCursor(
+                assetType, isExpired, managerId, cursor, size));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "자산 수정", description = "자산 정보를 수정합니다.")
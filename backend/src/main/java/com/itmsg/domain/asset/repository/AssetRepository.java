@@ -1,35 +1,48 @@
 package com.itmsg.domain.asset.repository;
 
 import com.itmsg.domain.asset.entity.Asset;
-import com.itmsg.domain.asset.entity.AssetType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.itmsg.global.common.repository.SuggestionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Asset Repository
  */
 @Repository
-public interface AssetRepository extends JpaRepository<Asset, Long> {
+public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset> {
     
     Optional<Asset> findByAssetNumber(String assetNumber);
     
-    boolean existsByAssetNumber(String assetNumber);
+    /**
+     * 자산 번호로 자산 및 응답에 포함되는 연관 엔티티(관리자)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(a.version, 0)), '.', str(COALESCE(m.version, 0))) " +
+           "FROM Asset a " +
+           "LEFT JOIN a.manager m " +
+           "WHERE a.assetNumber = :assetNumber")
+    Optional<String> findVersionByAssetNumber(@Param("assetNumber") String assetNumber);
     
-    @Query("SELECT a FROM Asset a " +
-           "WHERE (:assetType IS NULL OR a.assetType = :assetType) " +
-           "AND (:isExpired IS NULL OR a.isExpired = :isExpired) " +
-           "AND (:managerId IS NULL OR a.manager.id = :managerId) " +
-           "AND a.deletedAt IS NULL")
-    Page<Asset> search(@Param("assetType") AssetType assetType,
-                      @Param("isExpired") Boolean isExpired,
-                      @Param("managerId") Long managerId,
-                      Pageable pageable);
+    boolean existsByAssetNumber(String assetNumber);
+
+    @Query(value = "SELECT a.id AS \"id\", a.name AS \"label\", a.serial_number AS \"detail\" " +
+                   "FROM assets a " +
+                   "WHERE a.deleted_at IS NULL " +
+                   "AND (a.name ILIKE :pattern OR a.serial_number ILIKE :pattern " +
+                   "OR :query <% a.name OR :query <% a.serial_number) " +
+                   "ORDER BY (a.name ILIKE :prefix OR a.serial_number ILIKE :prefix) DESC, " +
+                   "GREATEST(word_similarity(:query, a.name), word_similarity(:query, a.serial_number)) DESC, a.name, a.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionRow> suggest(@Param("query") String query,
+                                @Param("pattern") String pattern,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit);
 }
 
 
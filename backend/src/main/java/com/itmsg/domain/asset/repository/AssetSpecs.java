@@ -0,0 +1,23 @@
+package com.itmsg.domain.asset.repository;
+
+import com.itmsg.domain.asset.entity.Asset;
+import com.itmsg.domain.asset.entity.AssetType;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 자산 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class AssetSpecs {
+
+    private AssetSpecs() {
+    }
+
+    public static Specification<Asset> search(AssetType assetType, Boolean isExpired, Long managerId) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.equal("assetType", assetType),
+                Specs.equal("isExpired", isExpired),
+                Specs.equalId("manager", managerId));
+    }
+}
@@ -3,20 +3,39 @@ package com.itmsg.domain.asset.service;
 import com.itmsg.domain.asset.dto.AssetRequest;
 import com.itmsg.domain.asset.dto.AssetResponse;
 import com.itmsg.domain.asset.entity.Asset;
+import com.itmsg.domain.asset.entity.AssetStatus;
 import com.itmsg.domain.asset.entity.AssetType;
 import com.itmsg.domain.asset.repository.AssetRepository;
+import com.itmsg.domain.asset.repository.AssetSpecs;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.common.util.Typeahead;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +46,9 @@ public class AssetService {
     private final AssetRepository assetRepository;
     private final UserRepository userRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
     
     @Transactional
     public AssetResponse createAsset(AssetRequest request) {
@@ -52,6 +74,7 @@ public class AssetService {
 
         Asset asset = assetBuilder.build();
         Asset savedAsset = assetRepository.save(asset);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.ASSET, savedAsset.getId(), savedAsset.getStatus(), savedAsset));
 
         log.info("자산 생성 완료: {}", savedAsset.getAssetNumber());
         return AssetResponse.from(savedAsset);
@@ -69,11 +92,55 @@ public class AssetService {
         return AssetResponse.from(asset);
     }
     
+    public String getAssetByNumberETag(String assetNumber) {
+        return assetRepository.findVersionByAssetNumber(assetNumber)
+                .map(version -> ETags.of("asset", assetNumber, version))
+                .orElse(null);
+    }
+    
     public Page<AssetResponse> getAssets(AssetType assetType, Boolean isExpired, Long managerId, Pageable pageable) {
-        return assetRepository.search(assetType, isExpired, managerId, pageable)
+        return assetRepository.findAll(AssetSpecs.search(assetType, isExpired, managerId), pageable)
                 .map(AssetResponse::from);
     }
     
+    public List<SuggestionResponse> suggestAssets(String query, int limit) {
+        String normalized = Typeahead.normalize(query);
+        if (normalized == null) {
+            return List.of();
+        }
+        return assetRepository.suggest(normalized, Typeahead.containsPattern(normalized),
+                        Typeahead.prefixPattern(normalized), Typeahead.limit(limit))
+                .stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+    
+    public SliceResponse<AssetResponse> getAssetsSlice(AssetType assetType, Boolean isExpired, Long managerId,
+                                                       Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(getAssets(assetType, isExpired, managerId, pageable));
+        }
+        Slice<Asset> rows = sliceQuery.findSlice(
+                Asset.class, AssetSpecs.search(assetType, isExpired, managerId), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(RowFilter.of("assets")
+                        .eq("asset_type", assetType)
+                        .eq("is_expired", isExpired)
+                        .eq("manager_id", managerId))
+                : null;
+        return SliceResponse.of(rows.map(AssetResponse::from), total, totalMode);
+    }
+    
+    public CursorPage<AssetResponse> getAssetsByCursor(AssetType assetType, Boolean isExpired,
+                                                       Long managerId, String cursor, int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Asset> rows = assetRepository.findBy(
+                AssetSpecs.search(assetType, isExpired, managerId)
+                        .and(Specs.seekBefore("createdAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("createdAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Asset::getCreatedAt, Asset::getId, AssetResponse::from);
+    }
+    
     @Transactional
     public AssetResponse updateAsset(Long id, AssetRequest request) {
         Asset asset = assetRepository.findById(id)
@@ -96,6 +163,7 @@ public class AssetService {
             request.notes(),
             manager
         );
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ASSET, asset.getId(), asset.getStatus(), asset.getStatus(), asset));
 
         log.info("자산 수정 완료: {}", asset.getAssetNumber());
         return AssetResponse.from(asset);
@@ -106,7 +174,9 @@ public class AssetService {
         Asset asset = assetRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ASSET_NOT_FOUND));
         
+        AssetStatus previousStatus = asset.getStatus();
         asset.expire();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ASSET, asset.getId(), previousStatus, asset.getStatus(), asset));
         
         log.info("자산 폐기 처리: {}", asset.getAssetNumber());
         return AssetResponse.from(asset);
@@ -117,7 +187,9 @@ public class AssetService {
         Asset asset = assetRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ASSET_NOT_FOUND));
         
+        AssetStatus previousStatus = asset.getStatus();
         asset.restore();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ASSET, asset.getId(), previousStatus, asset.getStatus(), asset));
         
         log.info("자산 복원 처리: {}", asset.getAssetNumber());
         return AssetResponse.from(asset);
@@ -129,6 +201,7 @@ public class AssetService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ASSET_NOT_FOUND));
         
         asset.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.ASSET, asset.getId(), asset.getStatus(), asset));
         
         log.info("자산 삭제 완료: {}", asset.getAssetNumber());
     }
@@ -5,17 +5,21 @@ import com.itmsg.domain.auth.dto.LoginResponse;
 import com.itmsg.domain.auth.dto.RefreshTokenRequest;
 import com.itmsg.domain.auth.dto.RefreshTokenResponse;
 import com.itmsg.domain.auth.dto.ForgotPasswordRequest;
+import com.itmsg.domain.auth.service.AuthRateLimiter;
 import com.itmsg.domain.auth.service.AuthService;
 import com.itmsg.domain.user.dto.UserCreateRequest;
 import com.itmsg.domain.user.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 Controller
  */
@@ -26,19 +30,22 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인합니다.")
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(
+            @Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // getRemoteAddr 는 신뢰 프록시(server.tomcat.remoteip.internal-proxies)가 넘긴 X-Forwarded-For 로 복원된 클라이언트 주소
+        authRateLimiter.checkLogin(request.getEmail(), httpRequest.getRemoteAddr());
+        return authService.login(request).thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @PostMapping("/register")
-    public ResponseEntity<UserResponse> register(@Valid @RequestBody UserCreateRequest request) {
-        UserResponse response = authService.register(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public CompletableFuture<ResponseEntity<UserResponse>> register(@Valid @RequestBody UserCreateRequest request) {
+        return authService.register(request)
+                .thenApply(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새로운 액세스 토큰을 발급받습니다.")
@@ -48,9 +55,18 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "로그아웃", description = "리프레시 토큰 계열을 폐기합니다. 이후 해당 로그인의 리프레시 토큰으로는 갱신할 수 없습니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "비밀번호 찾기", description = "이메일로 임시 비밀번호를 발급합니다.")
     @PostMapping("/forgot-password")
-    public ResponseEntity<String> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
+    public ResponseEntity<String> forgotPassword(
+            @Valid @RequestBody ForgotPasswordRequest request, HttpServletRequest httpRequest) {
+        authRateLimiter.checkForgotPassword(request.getEmail(), httpRequest.getRemoteAddr());
         String tempPassword = authService.forgotPassword(request);
         // 개발 환경에서만 임시 비밀번호 반환 (운영 환경에서는 제거 필요)
         return ResponseEntity.ok("임시 비밀번호가 발급되었습니다: " + tempPassword);
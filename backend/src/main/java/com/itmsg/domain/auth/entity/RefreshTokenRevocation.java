@@ -0,0 +1,51 @@
+package com.itmsg.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 폐기 Entity (append-only)
+ * 적재는 RefreshTokenRevocationRepository 의 INSERT ... ON CONFLICT 로만 수행하고, JPA 로는 조회만 한다
+ */
+@Entity
+@Immutable
+@Table(name = "refresh_token_revocations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_revocation", columnNames = {"scope", "token_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RevocationScope scope;
+
+    @Column(nullable = false, length = 36)
+    private String tokenId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RevocationReason reason;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,20 @@
+package com.itmsg.domain.auth.entity;
+
+import lombok.Getter;
+
+/**
+ * 리프레시 토큰 폐기 사유
+ */
+@Getter
+public enum RevocationReason {
+    
+    ROTATED("갱신으로 교체"),
+    LOGOUT("로그아웃"),
+    REUSE_DETECTED("재사용 감지");
+    
+    private final String description;
+    
+    RevocationReason(String description) {
+        this.description = description;
+    }
+}
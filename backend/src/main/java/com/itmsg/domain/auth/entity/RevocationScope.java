@@ -0,0 +1,19 @@
+package com.itmsg.domain.auth.entity;
+
+import lombok.Getter;
+
+/**
+ * 리프레시 토큰 폐기 단위
+ */
+@Getter
+public enum RevocationScope {
+    
+    TOKEN("토큰"),
+    FAMILY("토큰 계열");
+    
+    private final String description;
+    
+    RevocationScope(String description) {
+        this.description = description;
+    }
+}
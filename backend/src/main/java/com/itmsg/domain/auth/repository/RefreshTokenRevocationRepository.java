@@ -0,0 +1,71 @@
+package com.itmsg.domain.auth.repository;
+
+import com.itmsg.domain.auth.entity.RefreshTokenRevocation;
+import com.itmsg.domain.auth.entity.RevocationScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 폐기 Repository
+ */
+@Repository
+public interface RefreshTokenRevocationRepository extends JpaRepository<RefreshTokenRevocation, Long> {
+
+    /**
+     * 폐기 기록 추가 (이미 있으면 무시)
+     * 유니크 제약으로 원자적으로 판정하므로, 같은 토큰을 동시에 기록하면 한쪽만 1 을 반환한다
+     *
+     * @return 추가된 행 수 (이미 폐기되어 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO refresh_token_revocations (scope, token_id, reason, expires_at, revoked_at) " +
+                   "VALUES (:scope, :tokenId, :reason, :expiresAt, :revokedAt) " +
+                   "ON CONFLICT (scope, token_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("scope") String scope,
+                       @Param("tokenId") String tokenId,
+                       @Param("reason") String reason,
+                       @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("revokedAt") LocalDateTime revokedAt);
+
+    boolean existsByScopeAndTokenId(RevocationScope scope, String tokenId);
+
+    /**
+     * 폐기 시각 조회
+     */
+    @Query("SELECT r.revokedAt FROM RefreshTokenRevocation r WHERE r.scope = :scope AND r.tokenId = :tokenId")
+    Optional<LocalDateTime> findRevokedAt(@Param("scope") RevocationScope scope, @Param("tokenId") String tokenId);
+
+    /**
+     * 보관 기한이 남은 id 목록 (폐기 필터 적재용)
+     */
+    @Query("SELECT r.tokenId FROM RefreshTokenRevocation r WHERE r.scope = :scope AND r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("scope") RevocationScope scope, @Param("now") LocalDateTime now);
+
+    /**
+     * 지정 시각 이후 폐기된 유효한 id 목록 (폐기 필터 동기화용)
+     */
+    @Query("SELECT r.tokenId FROM RefreshTokenRevocation r " +
+           "WHERE r.scope = :scope AND r.revokedAt >= :since AND r.expiresAt > :now")
+    List<String> findTokenIdsRevokedSince(@Param("scope") RevocationScope scope,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("now") LocalDateTime now);
+
+    long countByScopeAndExpiresAtAfter(RevocationScope scope, LocalDateTime now);
+
+    /**
+     * 보관 기한이 지난 폐기 기록 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token_revocations WHERE expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
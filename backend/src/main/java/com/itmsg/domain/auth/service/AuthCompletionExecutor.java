@@ -0,0 +1,72 @@
+package com.itmsg.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 후속 처리 실행기
+ * 비밀번호 해싱이 끝난 로그인/회원가입의 DB 트랜잭션(로그인 결과 반영, 토큰 발급, 사용자 저장)을
+ * 해싱 전용 스레드 풀과 분리된 제한된 스레드 풀에서 실행하여, 해싱 스레드가 DB 대기로 묶이지 않게 한다.
+ * 대기 큐(auth.completion.queue-capacity)가 가득 차면 거부(RejectedExecutionException, 503)한다.
+ *
+ * 메트릭: auth.completion.rejected (거부 수), auth.completion.queue (대기 중 작업 수)
+ */
+@Slf4j
+@Component
+public class AuthCompletionExecutor implements Executor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public AuthCompletionExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${auth.completion.threads:8}") int threads,
+            @Value("${auth.completion.queue-capacity:200}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auth-completion-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.rejectedCounter = Counter.builder("auth.completion.rejected")
+                .description("대기 큐 초과로 거부된 인증 후속 처리 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.completion.queue", List.of(), executor, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * @throws RejectedExecutionException 대기 큐가 가득 찬 경우
+     */
+    @Override
+    public void execute(Runnable command) {
+        try {
+            executor.execute(command);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("인증 후속 처리 대기 큐 초과로 요청 거부");
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
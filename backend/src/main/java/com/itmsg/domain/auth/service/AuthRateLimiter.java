@@ -0,0 +1,76 @@
+package com.itmsg.domain.auth.service;
+
+import com.itmsg.global.common.ratelimit.TokenBucketLimiter;
+import com.itmsg.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 인증 API 요청 제한 (이메일별 + 클라이언트 IP 별 토큰 버킷)
+ * 로그인/비밀번호 찾기 요청을 DB 조회와 BCrypt 해싱 전에 검사하여 무차별 대입 트래픽을 먼저 걸러낸다.
+ * 한 사무실의 사용자들이 같은 IP 를 공유할 수 있으므로 IP 한도는 이메일 한도보다 넉넉하게 둔다.
+ * 제한은 노드 단위이다.
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private final TokenBucketLimiter loginByEmail;
+    private final TokenBucketLimiter loginByIp;
+    private final TokenBucketLimiter forgotPasswordByEmail;
+    private final TokenBucketLimiter forgotPasswordByIp;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${auth.rate-limit.login-per-email:5}") int loginPerEmail,
+            @Value("${auth.rate-limit.login-per-ip:60}") int loginPerIp,
+            @Value("${auth.rate-limit.forgot-password-per-email:3}") int forgotPasswordPerEmail,
+            @Value("${auth.rate-limit.forgot-password-per-ip:20}") int forgotPasswordPerIp) {
+        Duration minute = Duration.ofMinutes(1);
+        Duration hour = Duration.ofHours(1);
+        this.loginByEmail = new TokenBucketLimiter("auth.login.email", loginPerEmail, minute, maxKeys, meterRegistry);
+        this.loginByIp = new TokenBucketLimiter("auth.login.ip", loginPerIp, minute, maxKeys, meterRegistry);
+        this.forgotPasswordByEmail = new TokenBucketLimiter(
+                "auth.forgot-password.email", forgotPasswordPerEmail, hour, maxKeys, meterRegistry);
+        this.forgotPasswordByIp = new TokenBucketLimiter(
+                "auth.forgot-password.ip", forgotPasswordPerIp, hour, maxKeys, meterRegistry);
+    }
+
+    /**
+     * 로그인 요청 제한 검사 (분당 한도)
+     *
+     * @throws TooManyRequestsException 한도 초과
+     */
+    public void checkLogin(String email, String clientIp) {
+        check(loginByIp, clientIp, "로그인");
+        check(loginByEmail, normalize(email), "로그인");
+    }
+
+    /**
+     * 비밀번호 찾기 요청 제한 검사 (시간당 한도)
+     *
+     * @throws TooManyRequestsException 한도 초과
+     */
+    public void checkForgotPassword(String email, String clientIp) {
+        check(forgotPasswordByIp, clientIp, "비밀번호 찾기");
+        check(forgotPasswordByEmail, normalize(email), "비밀번호 찾기");
+    }
+
+    private void check(TokenBucketLimiter limiter, String key, String action) {
+        Duration retryAfter = limiter.tryAcquire(key);
+        if (!retryAfter.isZero()) {
+            log.warn("{} 요청 제한 초과: key={}, retryAfter={}ms", action, key, retryAfter.toMillis());
+            throw new TooManyRequestsException(retryAfter);
+        }
+    }
+
+    private String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -5,6 +5,7 @@ import com.itmsg.domain.auth.dto.LoginResponse;
 import com.itmsg.domain.auth.dto.RefreshTokenResponse;
 import com.itmsg.domain.auth.dto.ForgotPasswordRequest;
 import com.itmsg.domain.auth.dto.ResetPasswordRequest;
+import com.itmsg.domain.auth.entity.RevocationReason;
 import com.itmsg.domain.user.dto.UserCreateRequest;
 import com.itmsg.domain.user.dto.UserResponse;
 import com.itmsg.domain.user.entity.User;
@@ -15,22 +16,27 @@ import com.itmsg.domain.company.repository.CompanyRepository;
 import com.itmsg.domain.company.repository.DepartmentRepository;
 import com.itmsg.domain.role.entity.Role;
 import com.itmsg.domain.role.repository.RoleRepository;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
-import com.itmsg.global.security.CustomUserDetails;
 import com.itmsg.global.security.JwtTokenProvider;
+import com.itmsg.global.security.PasswordHasher;
+import com.itmsg.global.security.RefreshTokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -49,116 +55,148 @@ public class AuthService {
     private final DepartmentRepository departmentRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final AuthCompletionExecutor authCompletionExecutor;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 로그인
+     * 계정 조회/상태 검사는 요청 스레드에서, 비밀번호 검증은 해싱 전용 스레드 풀(PasswordHasher)에서 실행하고
+     * 로그인 결과 반영은 후속 처리 스레드 풀(AuthCompletionExecutor)에서 별도 트랜잭션으로 처리한다.
+     * 요청 스레드는 해싱을 기다리지 않고 반환된다.
+     * 저장된 해시의 강도가 설정보다 낮으면 로그인 성공 시 새 강도로 다시 해싱해 저장한다.
      */
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<LoginResponse> login(LoginRequest request) {
         log.info("로그인 시도: {}", request.getEmail());
 
-        try {
-            // 1. 사용자 조회 및 기본 검증
-            User user = userRepository.findByEmailWithRoles(request.getEmail())
-                    .orElseThrow(() -> {
-                        log.warn("사용자를 찾을 수 없음: {}", request.getEmail());
-                        return new BusinessException(ErrorCode.USER_NOT_FOUND);
-                    });
+        // 1~2. 사용자 조회 및 계정 상태 체크
+        User user = findLoginUser(request.getEmail());
 
-            log.info("사용자 조회 성공: {}, 활성={}, 승인={}, 잠금={}",
-                    user.getEmail(), user.getIsActive(), user.getIsApproved(), user.getIsLocked());
+        // 3. 비밀번호 검증 (해싱 전용 스레드 풀)
+        return passwordHasher.verify(request.getPassword(), user.getPassword())
+                .thenApplyAsync(verification -> completeLogin(request.getEmail(), verification), authCompletionExecutor);
+    }
 
-            // 2. 계정 상태 상세 체크
-            if (!user.getIsActive()) {
-                log.warn("비활성화된 계정: {}", user.getEmail());
-                throw new BusinessException(ErrorCode.USER_NOT_ACTIVE);
-            }
-            if (!user.getIsApproved()) {
-                log.warn("승인되지 않은 계정: {}", user.getEmail());
-                throw new BusinessException(ErrorCode.USER_NOT_APPROVED);
-            }
-            if (user.getIsLocked()) {
-                log.warn("잠긴 계정: {}", user.getEmail());
-                throw new BusinessException(ErrorCode.USER_LOCKED);
-            }
+    /**
+     * 로그인 대상 사용자 조회 및 계정 상태 체크
+     */
+    private User findLoginUser(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> {
+                    log.warn("사용자를 찾을 수 없음: {}", email);
+                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
+                });
 
-            // 3. 비밀번호 검증
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                log.warn("비밀번호 불일치: {}", user.getEmail());
+        log.info("사용자 조회 성공: {}, 활성={}, 승인={}, 잠금={}",
+                user.getEmail(), user.getIsActive(), user.getIsApproved(), user.getIsLocked());
 
-                // 로그인 실패 카운트 증가
-                user.loginFailed();
-                userRepository.save(user);
+        if (!user.getIsActive()) {
+            log.warn("비활성화된 계정: {}", user.getEmail());
+            throw new BusinessException(ErrorCode.USER_NOT_ACTIVE);
+        }
+        if (!user.getIsApproved()) {
+            log.warn("승인되지 않은 계정: {}", user.getEmail());
+            throw new BusinessException(ErrorCode.USER_NOT_APPROVED);
+        }
+        if (user.getIsLocked()) {
+            log.warn("잠긴 계정: {}", user.getEmail());
+            throw new BusinessException(ErrorCode.USER_LOCKED);
+        }
+        return user;
+    }
 
-                throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+    /**
+     * 비밀번호 검증 결과 반영 (후속 처리 스레드에서 실행)
+     */
+    private LoginResponse completeLogin(String email, PasswordHasher.Verification verification) {
+        if (!verification.matched()) {
+            log.warn("비밀번호 불일치: {}", email);
+
+            // 로그인 실패 카운트 원자적 증가 (한도 도달 시 잠금)
+            Integer failedCount = userRepository.incrementFailedLoginCount(email, User.MAX_FAILED_LOGIN_COUNT);
+            if (failedCount != null && failedCount >= User.MAX_FAILED_LOGIN_COUNT) {
+                log.warn("로그인 실패 한도 초과로 계정 잠금: {}", email);
             }
 
-            // 4. 권한 정보 구성
-            Collection<GrantedAuthority> authorities = user.getRoles().stream()
-                    .map(role -> (GrantedAuthority) () -> role.getName())
-                    .collect(Collectors.toList());
-
-            log.info("사용자 권한 정보 구성됨: {}", authorities.stream()
-                    .map(GrantedAuthority::getAuthority)
-                    .collect(Collectors.toList()));
-
-            // 5. 인증 객체 생성
-            CustomUserDetails userDetails = new CustomUserDetails(user);
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, authorities);
-
-            // 6. 로그인 성공 처리
-            user.loginSuccess();
-            userRepository.save(user);
-            log.info("로그인 성공 처리 완료: {}", user.getEmail());
-
-            // 7. 토큰 생성
-            String accessToken = jwtTokenProvider.createAccessToken(user.getEmail(), authorities);
-            String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
-
-            log.info("토큰 생성 완료: {} (access token length: {})",
-                    user.getEmail(), accessToken.length());
-
-            return LoginResponse.of(
-                    accessToken,
-                    refreshToken,
-                    jwtTokenProvider.getAccessTokenValidity(),
-                    UserResponse.from(user)
-            );
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        }
 
+        try {
+            return transactionTemplate.execute(status -> issueLoginTokens(email, verification.upgradedPassword()));
         } catch (BusinessException e) {
             log.error("비즈니스 예외 발생: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
-            log.error("로그인 처리 중 예외 발생: {}", request.getEmail(), e);
+            log.error("로그인 처리 중 예외 발생: {}", email, e);
+            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        }
+    }
 
-            // 로그인 실패 카운트 증가 (BusinessException이 아닌 경우)
-            try {
-                userRepository.findByEmail(request.getEmail()).ifPresent(user -> {
-                    user.loginFailed();
-                    userRepository.save(user);
-                });
-            } catch (Exception saveException) {
-                log.error("로그인 실패 카운트 증가 중 오류: {}", saveException.getMessage());
-            }
+    /**
+     * 로그인 성공 처리 및 토큰 발급
+     */
+    private LoginResponse issueLoginTokens(String email, String upgradedPassword) {
+        User user = userRepository.findByEmailWithRoles(email)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-            throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
+        // 4. 권한 정보 구성
+        Collection<GrantedAuthority> authorities = user.getRoles().stream()
+                .map(role -> (GrantedAuthority) () -> role.getName())
+                .collect(Collectors.toList());
+
+        log.info("사용자 권한 정보 구성됨: {}", authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+
+        // 5. 로그인 성공 처리 (해시 강도 상향 포함)
+        user.loginSuccess();
+        if (upgradedPassword != null) {
+            user.rehashPassword(upgradedPassword);
+            log.info("비밀번호 해시 강도 상향: {}", user.getEmail());
         }
+        log.info("로그인 성공 처리 완료: {}", user.getEmail());
+
+        // 6. 토큰 생성
+        String accessToken = jwtTokenProvider.createAccessToken(user, authorities);
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+
+        log.info("토큰 생성 완료: {} (access token length: {})",
+                user.getEmail(), accessToken.length());
+
+        return LoginResponse.of(
+                accessToken,
+                refreshToken,
+                jwtTokenProvider.getAccessTokenValidity(),
+                UserResponse.from(user)
+        );
     }
 
     /**
      * 회원가입
+     * 비밀번호 해싱은 해싱 전용 스레드 풀에서 실행하고, 사용자 저장은 해싱 후 후속 처리 스레드 풀에서 별도 트랜잭션으로 처리한다.
      */
-    @Transactional
-    public UserResponse register(UserCreateRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<UserResponse> register(UserCreateRequest request) {
         log.info("회원가입 시작: email={}, name={}", request.getEmail(), request.getName());
 
-        // 이메일 중복 체크
+        // 이메일 중복 체크 (해싱 전에 빠르게 거부)
         if (userRepository.existsByEmail(request.getEmail())) {
             log.warn("이미 존재하는 이메일: {}", request.getEmail());
             throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
         }
 
+        return passwordHasher.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> transactionTemplate.execute(status -> createUser(request, encodedPassword)),
+                        authCompletionExecutor);
+    }
+
+    /**
+     * 사용자 생성 (해싱된 비밀번호 사용)
+     */
+    private UserResponse createUser(UserCreateRequest request, String encodedPassword) {
         // Company 조회 (companyId가 없으면 첫 번째 회사 사용)
         Company company;
         if (request.getCompanyId() != null) {
@@ -203,7 +241,7 @@ public class AuthService {
         log.info("사용자 생성 시작");
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .phoneNumber(request.getPhoneNumber())
                 .company(company)
@@ -221,6 +259,7 @@ public class AuthService {
 
         log.info("사용자 저장 시도");
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.USER, savedUser.getId(), null, savedUser));
         log.info("신규 사용자 등록 성공: email={}, userId={}", savedUser.getEmail(), savedUser.getId());
 
         return UserResponse.from(savedUser);
@@ -228,17 +267,37 @@ public class AuthService {
 
     /**
      * 토큰 갱신
+     * 사용한 리프레시 토큰은 교체됨으로 기록하고 같은 계열의 새 토큰을 발급한다.
+     * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 계열 전체를 폐기한다.
      */
     @Transactional
     public RefreshTokenResponse refreshToken(String refreshToken) {
         try {
             // 리프레시 토큰 검증
-            if (!jwtTokenProvider.validateToken(refreshToken)) {
+            RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+            if (claims == null) {
                 throw new BusinessException(ErrorCode.INVALID_TOKEN);
             }
 
-            // 리프레시 토큰에서 이메일 추출
-            String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+            // 폐기된 계열(로그아웃/재사용 감지) 확인
+            if (refreshTokenStore.isFamilyRevoked(claims.familyId())) {
+                log.warn("폐기된 리프레시 토큰 계열: {}", claims.email());
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+
+            // 토큰 교체 기록 (이미 교체된 토큰이면 동시 갱신 또는 재사용)
+            RefreshTokenStore.Rotation rotation = refreshTokenStore.markRotated(claims);
+            if (rotation == RefreshTokenStore.Rotation.CONCURRENT) {
+                log.warn("동시 갱신 요청으로 이미 교체된 리프레시 토큰: {}", claims.email());
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+            if (rotation == RefreshTokenStore.Rotation.REUSED) {
+                log.warn("교체된 리프레시 토큰 재사용 감지, 계열 폐기: {}", claims.email());
+                refreshTokenStore.revokeFamily(claims.familyId(), RevocationReason.REUSE_DETECTED);
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+
+            String email = claims.email();
 
             // 사용자 조회
             User user = userRepository.findByEmail(email)
@@ -260,8 +319,8 @@ public class AuthService {
                     .map(role -> (GrantedAuthority) () -> role.getName())
                     .collect(Collectors.toList());
 
-            String newAccessToken = jwtTokenProvider.createAccessToken(user.getEmail(), authorities);
-            String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+            String newAccessToken = jwtTokenProvider.createAccessToken(user, authorities);
+            String newRefreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), claims.familyId());
 
             log.info("토큰 갱신 성공: {}", user.getEmail());
 
@@ -275,6 +334,21 @@ public class AuthService {
         }
     }
 
+    /**
+     * 로그아웃 (리프레시 토큰 계열 폐기)
+     * 이미 유효하지 않은 토큰이면 폐기할 것이 없으므로 그대로 성공 처리한다.
+     * 발급된 Access Token 은 만료 시까지 유효하다.
+     */
+    @Transactional
+    public void logout(String refreshToken) {
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (claims == null) {
+            return;
+        }
+        refreshTokenStore.revokeFamily(claims.familyId(), RevocationReason.LOGOUT);
+        log.info("로그아웃: {}", claims.email());
+    }
+
     /**
      * 비밀번호 찾기 (임시 비밀번호 발급)
      * 실제 운영 환경에서는 이메일로 임시 비밀번호를 전송해야 합니다.
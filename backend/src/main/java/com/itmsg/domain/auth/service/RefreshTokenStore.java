@@ -0,0 +1,201 @@
+package com.itmsg.domain.auth.service;
+
+import com.itmsg.domain.auth.entity.RevocationReason;
+import com.itmsg.domain.auth.entity.RevocationScope;
+import com.itmsg.domain.auth.repository.RefreshTokenRevocationRepository;
+import com.itmsg.global.security.RefreshTokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 폐기 저장소 (토큰 교체 + 재사용 감지 + 계열 폐기)
+ *
+ * - 갱신에 사용된 토큰은 TOKEN 폐기 기록을 INSERT ... ON CONFLICT DO NOTHING 으로 남긴다.
+ *   이미 기록된 토큰이면(재사용) 유니크 제약으로 원자적으로 판정되며, 호출자는 계열 전체를 폐기한다.
+ *   단, 교체된 지 reuse-grace-ms 이내의 토큰은 동시 갱신(여러 탭, 클라이언트 재시도)으로 보고
+ *   해당 요청만 거부하며 계열은 폐기하지 않는다.
+ * - 폐기된 계열(로그아웃/재사용 감지)은 메모리 Bloom filter 로 먼저 확인하여,
+ *   폐기되지 않은 대부분의 토큰은 DB 조회 없이 통과시키고 필터가 양성일 때만 DB 로 확정한다.
+ * - 필터는 기동 시 DB 에서 적재하고, 이 노드의 폐기는 즉시, 다른 노드의 폐기는 sync-ms 주기로 반영한다.
+ *   적재 전에는 모든 확인을 DB 로 처리한다.
+ * - 보관 기한이 지난 기록은 cleanup-cron 에 삭제하고 필터를 다시 만든다 (Bloom filter 는 삭제를 지원하지 않음).
+ *
+ * 메트릭: refresh-token.revocation.checks (result=filtered/false-positive/revoked), refresh-token.reuse-detected,
+ *        refresh-token.concurrent-refresh
+ */
+@Slf4j
+@Service
+public class RefreshTokenStore {
+
+    /** 동기화 조회 구간의 겹침 (늦게 커밋된 폐기 기록 누락 방지) */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RefreshTokenRevocationRepository revocationRepository;
+    private final Duration refreshTokenValidity;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration reuseGrace;
+    private final Counter filteredCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private final Counter reuseCounter;
+    private final Counter concurrentRefreshCounter;
+
+    /** 폐기된 계열 id 필터 (적재 전에는 null) */
+    private volatile BloomFilter familyFilter;
+    private LocalDateTime syncedUntil;
+
+    public RefreshTokenStore(
+            RefreshTokenRevocationRepository revocationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${auth.refresh-token.bloom-expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.refresh-token.bloom-false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.refresh-token.reuse-grace-ms:5000}") long reuseGraceMillis) {
+        this.revocationRepository = revocationRepository;
+        this.refreshTokenValidity = Duration.ofMillis(refreshTokenValidity);
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+        this.reuseGrace = Duration.ofMillis(reuseGraceMillis);
+        this.filteredCounter = checkCounter(meterRegistry, "filtered");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false-positive");
+        this.revokedCounter = checkCounter(meterRegistry, "revoked");
+        this.reuseCounter = Counter.builder("refresh-token.reuse-detected")
+                .description("교체된 리프레시 토큰의 재사용 감지 수")
+                .register(meterRegistry);
+        this.concurrentRefreshCounter = Counter.builder("refresh-token.concurrent-refresh")
+                .description("유예 시간 안에 같은 리프레시 토큰으로 들어온 갱신 요청 수 (계열은 폐기하지 않음)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 계열 폐기 여부
+     */
+    public boolean isFamilyRevoked(String familyId) {
+        BloomFilter filter = familyFilter;
+        if (filter != null && !filter.mightContain(familyId)) {
+            filteredCounter.increment();
+            return false;
+        }
+        boolean revoked = revocationRepository.existsByScopeAndTokenId(RevocationScope.FAMILY, familyId);
+        (revoked ? revokedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    /**
+     * 갱신에 사용된 토큰을 교체됨으로 기록
+     * 이미 교체된 토큰이면 교체 시각이 유예 시간(reuse-grace-ms) 이내인지로 동시 갱신과 재사용을 구분한다
+     */
+    @Transactional
+    public Rotation markRotated(RefreshTokenClaims claims) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = revocationRepository.insertIfAbsent(RevocationScope.TOKEN.name(), claims.tokenId(),
+                RevocationReason.ROTATED.name(), claims.expiresAt(), now);
+        if (inserted == 1) {
+            return Rotation.ROTATED;
+        }
+        LocalDateTime rotatedAt = revocationRepository.findRevokedAt(RevocationScope.TOKEN, claims.tokenId())
+                .orElse(null);
+        if (rotatedAt != null && !rotatedAt.isBefore(now.minus(reuseGrace))) {
+            concurrentRefreshCounter.increment();
+            return Rotation.CONCURRENT;
+        }
+        reuseCounter.increment();
+        return Rotation.REUSED;
+    }
+
+    /**
+     * 토큰 계열 폐기 (호출 트랜잭션이 롤백되어도 유지되도록 별도 트랜잭션)
+     * 계열의 어떤 토큰도 지금부터 리프레시 토큰 유효 시간 안에 만료되므로 그때까지 보관한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeFamily(String familyId, RevocationReason reason) {
+        LocalDateTime now = LocalDateTime.now();
+        revocationRepository.insertIfAbsent(RevocationScope.FAMILY.name(), familyId, reason.name(),
+                now.plus(refreshTokenValidity), now);
+        BloomFilter filter = familyFilter;
+        if (filter != null) {
+            filter.put(familyId);
+        }
+        log.info("리프레시 토큰 계열 폐기: familyId={}, reason={}", familyId, reason);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("리프레시 토큰 폐기 필터 적재 실패 (DB 조회로 확인)", e);
+        }
+    }
+
+    /**
+     * 폐기 필터 재생성 (보관 중인 폐기 계열 전체 적재)
+     */
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> familyIds = revocationRepository.findActiveTokenIds(RevocationScope.FAMILY, startedAt);
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, familyIds.size() * 2L), falsePositiveRate);
+        familyIds.forEach(filter::put);
+        familyFilter = filter;
+        syncedUntil = startedAt;
+        log.info("리프레시 토큰 폐기 필터 적재: {}건", familyIds.size());
+        sync();
+    }
+
+    /**
+     * 다른 노드에서 폐기된 계열 반영
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sync-ms:5000}")
+    public synchronized void sync() {
+        BloomFilter filter = familyFilter;
+        if (filter == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        revocationRepository.findTokenIdsRevokedSince(RevocationScope.FAMILY, syncedUntil.minus(SYNC_OVERLAP), now)
+                .forEach(filter::put);
+        syncedUntil = now;
+    }
+
+    /**
+     * 보관 기한이 지난 폐기 기록 삭제 후 필터 재생성
+     */
+    @Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 40 3 * * *}")
+    public void cleanup() {
+        int deleted = revocationRepository.deleteExpired(LocalDateTime.now());
+        log.info("만료된 리프레시 토큰 폐기 기록 삭제: {}건", deleted);
+        rebuild();
+    }
+
+    /**
+     * 토큰 교체 결과
+     */
+    public enum Rotation {
+        /** 처음 사용된 토큰 (교체 완료) */
+        ROTATED,
+        /** 유예 시간 안에 이미 교체된 토큰 (동시 갱신, 요청만 거부) */
+        CONCURRENT,
+        /** 유예 시간이 지난 뒤 다시 사용된 토큰 (재사용, 계열 폐기) */
+        REUSED
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("refresh-token.revocation.checks")
+                .description("리프레시 토큰 계열 폐기 확인 수 (filtered: 필터에서 통과, 그 외: DB 확인)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -2,6 +2,7 @@ package com.itmsg.domain.company.controller;
 
 import com.itmsg.domain.company.entity.Company;
 import com.itmsg.domain.company.repository.CompanyRepository;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,11 +25,11 @@ public class CompanyController {
     
     private final CompanyRepository companyRepository;
     
-    @Operation(summary = "회사 목록 조회", description = "전체 회사 목록을 조회합니다.")
+    @Operation(summary = "회사 목록 조회", description = "전체 회사 목록을 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
     @GetMapping
-    public ResponseEntity<List<Company>> getCompanies() {
-        List<Company> companies = companyRepository.findAll();
-        return ResponseEntity.ok(companies);
+    public ResponseEntity<List<Company>> getCompanies(WebRequest webRequest) {
+        String etag = ETags.of("companies", companyRepository.findVersionStamp());
+        return ETags.conditional(webRequest, etag, companyRepository::findAll);
     }
 }
 
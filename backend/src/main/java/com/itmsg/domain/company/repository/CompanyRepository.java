@@ -1,6 +1,7 @@
 package com.itmsg.domain.company.repository;
 
 import com.itmsg.domain.company.entity.Company;
+import com.itmsg.global.common.repository.VersionStamp;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -38,6 +39,13 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
      */
     @Query("SELECT c FROM Company c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<Company> findByIdAndNotDeleted(Long id);
+
+    /**
+     * 회사 테이블 버전 집계 (목록 ETag 계산용)
+     */
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastUpdatedAt, " +
+           "COALESCE(SUM(c.version), 0) AS versionSum FROM Company c")
+    VersionStamp findVersionStamp();
 }
 
 
@@ -1,20 +1,36 @@
 package com.itmsg.domain.dashboard.controller;
 
+import com.itmsg.domain.dashboard.dto.CounterReconcileResponse;
 import com.itmsg.domain.dashboard.dto.DashboardStatsResponse;
+import com.itmsg.domain.dashboard.dto.KpiSnapshotResponse;
 import com.itmsg.domain.dashboard.dto.RecentActivityResponse;
+import com.itmsg.domain.dashboard.dto.StreamTicketResponse;
+import com.itmsg.domain.dashboard.service.ActivityFeedService;
+import com.itmsg.domain.dashboard.service.DashboardCounterService;
+import com.itmsg.domain.dashboard.service.DashboardKpiService;
+import com.itmsg.domain.dashboard.service.DashboardScopedStatsService;
 import com.itmsg.domain.dashboard.service.DashboardService;
+import com.itmsg.domain.dashboard.service.DashboardStreamService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.security.JwtTokenProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -25,30 +41,108 @@ import java.util.List;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardCounterService dashboardCounterService;
+    private final ActivityFeedService activityFeedService;
+    private final DashboardKpiService dashboardKpiService;
+    private final DashboardStreamService dashboardStreamService;
+    private final DashboardScopedStatsService dashboardScopedStatsService;
+    private final JwtTokenProvider jwtTokenProvider;
 
     @GetMapping("/stats")
-    @Operation(summary = "대시보드 통계 조회", description = "대시보드에 표시할 주요 통계 데이터를 조회합니다.")
-    public ResponseEntity<DashboardStatsResponse> getDashboardStats() {
+    @Operation(summary = "대시보드 통계 조회", description = "대시보드에 표시할 주요 통계 데이터를 조회합니다. "
+            + "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
+    public ResponseEntity<DashboardStatsResponse> getDashboardStats(WebRequest webRequest) {
+        String etag = dashboardService.getDashboardStatsETag();
+        if (ETags.matches(webRequest, etag)) {
+            return ETags.notModified(etag);
+        }
         DashboardStatsResponse stats = dashboardService.getDashboardStats();
-        return ResponseEntity.ok(stats);
+        // 이전 값이 섞인 부분 결과는 캐시되지 않도록 ETag 를 붙이지 않는다
+        if (stats.isPartial()) {
+            return ResponseEntity.ok(stats);
+        }
+        return ETags.ok(etag, stats);
+    }
+
+    @GetMapping("/stats/company")
+    @Operation(summary = "회사 대시보드 통계 조회", description = "로그인 사용자 소속 회사 기준의 대시보드 통계를 조회합니다.")
+    public ResponseEntity<DashboardStatsResponse> getCompanyDashboardStats() {
+        return ResponseEntity.ok(dashboardScopedStatsService.getCompanyStats());
+    }
+
+    @GetMapping("/stats/department")
+    @Operation(summary = "부서 대시보드 통계 조회", description = "로그인 사용자 소속 부서 기준의 대시보드 통계를 조회합니다.")
+    public ResponseEntity<DashboardStatsResponse> getDepartmentDashboardStats() {
+        return ResponseEntity.ok(dashboardScopedStatsService.getDepartmentStats());
     }
 
     @GetMapping("/activities")
     @Operation(summary = "최근 활동 조회", description = "대시보드에 표시할 최근 활동 목록을 조회합니다.")
     public ResponseEntity<List<RecentActivityResponse>> getRecentActivities(
-            @Parameter(description = "조회할 활동 개수 (기본값: 10)") @RequestParam(defaultValue = "10") int limit) {
+            @Parameter(description = "조회할 활동 개수 (기본값: 10, 최대 100)") @RequestParam(defaultValue = "10") int limit) {
         List<RecentActivityResponse> activities = dashboardService.getRecentActivities(limit);
         return ResponseEntity.ok(activities);
     }
 
     @GetMapping("/activities/all")
-    @Operation(summary = "전체 최근 활동 조회", description = "페이징 처리된 전체 최근 활동 목록을 조회합니다.")
-    public ResponseEntity<Page<RecentActivityResponse>> getAllRecentActivities(
+    @Operation(summary = "전체 최근 활동 조회", description = "페이징 처리된 전체 최근 활동 목록을 조회합니다. "
+            + "전체 건수는 계산하지 않으며 hasNext 로 다음 페이지 존재 여부를 알려줍니다.")
+    public ResponseEntity<SliceResponse<RecentActivityResponse>> getAllRecentActivities(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "활동 타입 필터 (sr, project, approval)") @RequestParam(required = false) String type) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<RecentActivityResponse> activities = dashboardService.getAllRecentActivities(pageable, type);
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "활동 타입 필터 (sr, project, approval, issue, incident, release, asset)") @RequestParam(required = false) String type) {
+        SliceResponse<RecentActivityResponse> activities = dashboardService.getAllRecentActivities(page, size, type);
         return ResponseEntity.ok(activities);
     }
+
+    @GetMapping("/activities/feed")
+    @Operation(summary = "활동 피드 조회", description = "커서 기반으로 최근 활동 목록을 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<RecentActivityResponse>> getActivityFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "활동 타입 필터 (sr, project, approval, issue, incident, release, asset)") @RequestParam(required = false) String type) {
+        return ResponseEntity.ok(activityFeedService.getFeed(cursor, size, type));
+    }
+
+    @PostMapping("/stream/ticket")
+    @Operation(summary = "대시보드 스트림 티켓 발급", description = "스트림 연결(ticket 파라미터)에 쓸 1회용 티켓을 발급합니다. "
+            + "티켓은 expiresIn(ms) 동안 한 번만 사용할 수 있으므로 재연결할 때마다 새로 발급받아야 합니다.")
+    public ResponseEntity<StreamTicketResponse> issueStreamTicket() {
+        String ticket = jwtTokenProvider.createStreamTicket(SecurityContextHolder.getContext().getAuthentication());
+        return ResponseEntity.ok(StreamTicketResponse.builder()
+                .ticket(ticket)
+                .expiresIn(jwtTokenProvider.getStreamTicketValidity())
+                .build());
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대시보드 실시간 스트림", description = "카운터 증감(counters)과 새 활동(activity)을 Server-Sent Events 로 전달합니다. "
+            + "EventSource 는 헤더를 보낼 수 없으므로 /stream/ticket 으로 발급받은 티켓을 ticket 파라미터로 전달합니다. "
+            + "최초 연결 시 stats 이벤트로 현재 통계를 보내며, Last-Event-ID(헤더 또는 lastEventId 파라미터)로 재연결하면 놓친 이벤트를 다시 보냅니다.")
+    public SseEmitter streamDashboard(
+            @Parameter(description = "마지막으로 받은 이벤트 id") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "마지막으로 받은 이벤트 id (새 티켓으로 다시 연결할 때)") @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        return dashboardStreamService.subscribe(lastEventId != null ? lastEventId : lastEventIdParam);
+    }
+
+    @GetMapping("/kpi/history")
+    @Operation(summary = "KPI 이력 조회", description = "최근 N개월의 월별 KPI 스냅샷을 조회합니다.")
+    public ResponseEntity<List<KpiSnapshotResponse>> getKpiHistory(
+            @Parameter(description = "조회할 개월 수 (당월 포함)") @RequestParam(defaultValue = "12") int months) {
+        return ResponseEntity.ok(dashboardKpiService.getHistory(months));
+    }
+
+    @PostMapping("/kpi/snapshot")
+    @PreAuthorize("hasRole('SYSTEM_ADMIN')")
+    @Operation(summary = "KPI 스냅샷 갱신", description = "현재 카운터 기준으로 당월 KPI 스냅샷을 즉시 갱신합니다.")
+    public ResponseEntity<KpiSnapshotResponse> takeKpiSnapshot() {
+        return ResponseEntity.ok(dashboardKpiService.takeSnapshot());
+    }
+
+    @PostMapping("/counters/reconcile")
+    @PreAuthorize("hasRole('SYSTEM_ADMIN')")
+    @Operation(summary = "대시보드 카운터 재계산", description = "원본 테이블 기준으로 카운터를 재계산하고 불일치 내역을 반환합니다.")
+    public ResponseEntity<CounterReconcileResponse> reconcileCounters() {
+        return ResponseEntity.ok(dashboardCounterService.reconcile());
+    }
 }
@@ -0,0 +1,17 @@
+package com.itmsg.domain.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 대시보드 카운터 증감 DTO (실시간 스트림용)
+ */
+@Getter
+@Builder
+public class CounterDeltaResponse {
+    private String entityType;
+    private String changeType;
+    private Map<String, Long> deltas; // 카운터 키 -> 증감값 (예: SR:STATUS:APPROVED -> 1)
+}
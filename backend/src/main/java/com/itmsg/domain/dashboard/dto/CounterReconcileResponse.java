@@ -0,0 +1,30 @@
+package com.itmsg.domain.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대시보드 카운터 재계산 결과 DTO
+ */
+@Getter
+@Builder
+public class CounterReconcileResponse {
+    private int checkedCounters;
+    private int driftedCounters;
+    private List<CounterDrift> drifts;
+    private LocalDateTime reconciledAt;
+
+    /**
+     * 저장값과 실제값이 다른 카운터
+     */
+    @Getter
+    @Builder
+    public static class CounterDrift {
+        private String counterKey;
+        private long storedValue;
+        private long actualValue;
+    }
+}
@@ -3,6 +3,8 @@ package com.itmsg.domain.dashboard.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 @Builder
 public class DashboardStatsResponse {
@@ -20,4 +22,8 @@ public class DashboardStatsResponse {
     private double srRequestsTrend;
     private double pendingApprovalsTrend;
     private double completionRateTrend;
+
+    // 마감 시간 안에 조회되지 않아 이전 값으로 채운 항목 (projects, serviceRequests, approvals, totals, trends)
+    private boolean partial;
+    private List<String> staleFields;
 }
@@ -0,0 +1,16 @@
+package com.itmsg.domain.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 월별 KPI 스냅샷 DTO
+ */
+@Getter
+@Builder
+public class KpiSnapshotResponse {
+    private String month; // yyyy-MM
+    private Map<String, Double> values;
+}
@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
 @Builder
 public class RecentActivityResponse {
     private String id;
-    private String type; // 'sr', 'project', 'approval', 'issue', 'incident'
+    private String type; // 'sr', 'project', 'approval', 'issue', 'incident', 'release', 'asset'
     private String title;
     private String description;
     private LocalDateTime createdAt;
@@ -0,0 +1,14 @@
+package com.itmsg.domain.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대시보드 스트림 티켓 DTO
+ */
+@Getter
+@Builder
+public class StreamTicketResponse {
+    private String ticket;
+    private long expiresIn; // 유효 시간 (ms)
+}
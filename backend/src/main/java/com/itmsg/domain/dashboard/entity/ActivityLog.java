@@ -0,0 +1,60 @@
+package com.itmsg.domain.dashboard.entity;
+
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 로그 Entity (append-only)
+ * 적재는 ActivityLogWriter 의 JDBC 배치로만 수행하고, JPA 로는 조회만 한다
+ */
+@Entity
+@Immutable
+@Table(name = "activity_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeType changeType;
+
+    @Column(nullable = false, length = 300)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(length = 50)
+    private String status;
+
+    @Column(length = 100)
+    private String actorName;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
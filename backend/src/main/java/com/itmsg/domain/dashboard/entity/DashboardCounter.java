@@ -0,0 +1,61 @@
+package com.itmsg.domain.dashboard.entity;
+
+import com.itmsg.global.common.event.EntityType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 대시보드 카운터 Entity
+ * 값 변경은 Repository 의 원자적 UPSERT 로만 수행한다
+ */
+@Entity
+@Table(name = "dashboard_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DashboardCounter {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyMM");
+
+    @Id
+    @Column(length = 100)
+    private String counterKey;
+
+    @Column(nullable = false)
+    private Long counterValue;
+
+    @Column(nullable = false)
+    private Long revision;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 전체 건수 키 (예: SR:TOTAL)
+     */
+    public static String totalKey(EntityType entityType) {
+        return entityType.name() + ":TOTAL";
+    }
+
+    /**
+     * 상태별 건수 키 (예: SR:STATUS:APPROVED)
+     */
+    public static String statusKey(EntityType entityType, String status) {
+        return entityType.name() + ":STATUS:" + status;
+    }
+
+    /**
+     * 월별 SR 요청 건수 키 (예: SR:MONTH:2501)
+     */
+    public static String srMonthKey(LocalDate requestDate) {
+        return EntityType.SR.name() + ":MONTH:" + requestDate.format(MONTH_FORMAT);
+    }
+}
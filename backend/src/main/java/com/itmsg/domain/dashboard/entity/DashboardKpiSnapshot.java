@@ -0,0 +1,73 @@
+package com.itmsg.domain.dashboard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 월별 KPI 스냅샷 Entity
+ * 값 변경은 Repository 의 UPSERT 로만 수행한다
+ */
+@Entity
+@Table(name = "dashboard_kpi_snapshots")
+@IdClass(DashboardKpiSnapshot.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DashboardKpiSnapshot {
+
+    /** 진행 중 프로젝트 수 */
+    public static final String ACTIVE_PROJECTS = "ACTIVE_PROJECTS";
+
+    /** 월 SR 접수 건수 */
+    public static final String SR_INTAKE = "SR_INTAKE";
+
+    /** 승인 대기 건수 */
+    public static final String PENDING_APPROVALS = "PENDING_APPROVALS";
+
+    /** SR 완료율 (%) */
+    public static final String COMPLETION_RATE = "COMPLETION_RATE";
+
+    @Id
+    @Column(nullable = false)
+    private LocalDate snapshotMonth;
+
+    @Id
+    @Column(nullable = false, length = 50)
+    private String kpiKey;
+
+    @Column(nullable = false)
+    private Double kpiValue;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * SR 상태별 건수 키 (예: SR_STATUS:APPROVED)
+     */
+    public static String srStatusKey(String status) {
+        return "SR_STATUS:" + status;
+    }
+
+    /**
+     * 복합 키 (스냅샷 월 + KPI 키)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate snapshotMonth;
+        private String kpiKey;
+    }
+}
@@ -0,0 +1,55 @@
+package com.itmsg.domain.dashboard.repository;
+
+import com.itmsg.domain.dashboard.entity.ActivityLog;
+import com.itmsg.global.common.event.EntityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 활동 로그 Repository
+ * 모든 조회는 (occurred_at DESC, id DESC) 인덱스 순서를 따른다
+ */
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+
+    /**
+     * 최근 활동 페이지 조회 (COUNT 쿼리 없이 페이지 크기 + 1 건만 읽음)
+     */
+    @Query("SELECT a FROM ActivityLog a ORDER BY a.occurredAt DESC, a.id DESC")
+    Slice<ActivityLog> findRecent(Pageable pageable);
+
+    /**
+     * 타입별 최근 활동 페이지 조회 (COUNT 쿼리 없이 페이지 크기 + 1 건만 읽음)
+     */
+    @Query("SELECT a FROM ActivityLog a WHERE a.entityType = :entityType ORDER BY a.occurredAt DESC, a.id DESC")
+    Slice<ActivityLog> findRecentByEntityType(@Param("entityType") EntityType entityType, Pageable pageable);
+
+    /**
+     * 커서 이후 활동 조회 (keyset)
+     */
+    @Query("SELECT a FROM ActivityLog a " +
+           "WHERE a.occurredAt < :occurredAt OR (a.occurredAt = :occurredAt AND a.id < :id) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityLog> findFeedAfter(@Param("occurredAt") LocalDateTime occurredAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    /**
+     * 커서 이후 타입별 활동 조회 (keyset)
+     */
+    @Query("SELECT a FROM ActivityLog a " +
+           "WHERE a.entityType = :entityType " +
+           "AND (a.occurredAt < :occurredAt OR (a.occurredAt = :occurredAt AND a.id < :id)) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityLog> findFeedAfterByEntityType(@Param("entityType") EntityType entityType,
+                                                @Param("occurredAt") LocalDateTime occurredAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+}
@@ -0,0 +1,143 @@
+package com.itmsg.domain.dashboard.repository;
+
+import com.itmsg.domain.dashboard.entity.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대시보드 카운터 Repository
+ */
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+
+    /**
+     * 키 목록으로 카운터 조회
+     */
+    List<DashboardCounter> findByCounterKeyIn(Collection<String> counterKeys);
+
+    /**
+     * 카운터 증감 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_counters (counter_key, counter_value, updated_at) " +
+                   "VALUES (:counterKey, :delta, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (counter_key) DO UPDATE " +
+                   "SET counter_value = dashboard_counters.counter_value + EXCLUDED.counter_value, " +
+                   "revision = dashboard_counters.revision + 1, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int increment(@Param("counterKey") String counterKey, @Param("delta") long delta);
+
+    /**
+     * 카운터 값 덮어쓰기 (재계산 보정용)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_counters (counter_key, counter_value, updated_at) " +
+                   "VALUES (:counterKey, :counterValue, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (counter_key) DO UPDATE " +
+                   "SET counter_value = EXCLUDED.counter_value, " +
+                   "revision = dashboard_counters.revision " +
+                   "+ CASE WHEN dashboard_counters.counter_value <> EXCLUDED.counter_value THEN 1 ELSE 0 END, " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int overwrite(@Param("counterKey") String counterKey, @Param("counterValue") long counterValue);
+
+    /**
+     * 전체 카운터 리비전 합계 (어느 카운터든 바뀌면 증가)
+     */
+    @Query("SELECT COALESCE(SUM(c.revision), 0) FROM DashboardCounter c")
+    long sumRevision();
+
+    /**
+     * 전체 카운터 행 잠금 (재계산 중 동시 증감 차단)
+     */
+    @Query(value = "SELECT counter_key FROM dashboard_counters ORDER BY counter_key FOR UPDATE", nativeQuery = true)
+    List<String> lockAll();
+
+    /**
+     * 원본 테이블 기준 카운터 재계산
+     */
+    @Query(value = "SELECT 'USER:TOTAL' AS \"counterKey\", COUNT(*) AS \"counterValue\" FROM users WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'PROJECT:TOTAL', COUNT(*) FROM projects WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'PROJECT:STATUS:' || status, COUNT(*) FROM projects WHERE deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'SR:TOTAL', COUNT(*) FROM service_requests WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'SR:STATUS:' || status, COUNT(*) FROM service_requests WHERE deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'SR:MONTH:' || TO_CHAR(request_date, 'YYMM'), COUNT(*) FROM service_requests " +
+                   "WHERE deleted_at IS NULL GROUP BY TO_CHAR(request_date, 'YYMM') " +
+                   "UNION ALL SELECT 'APPROVAL:TOTAL', COUNT(*) FROM approvals WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'APPROVAL:STATUS:' || status, COUNT(*) FROM approvals WHERE deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'ISSUE:TOTAL', COUNT(*) FROM issues WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'ISSUE:STATUS:' || status, COUNT(*) FROM issues WHERE deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'INCIDENT:TOTAL', COUNT(*) FROM incidents WHERE deleted_at IS NULL " +
+                   "UNION ALL SELECT 'INCIDENT:STATUS:' || status, COUNT(*) FROM incidents WHERE deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'ASSET:TOTAL', COUNT(*) FROM assets WHERE deleted_at IS NULL",
+           nativeQuery = true)
+    List<CounterValue> recount();
+
+    /**
+     * 회사 범위 카운터 집계 (recount 와 같은 키 형식, SR 월별 건수는 fromDate 이후만)
+     * 프로젝트는 소속 회사, 그 외는 요청자/보고자/담당자/관리자의 소속 회사 기준
+     */
+    @Query(value = "SELECT 'USER:TOTAL' AS \"counterKey\", COUNT(*) AS \"counterValue\" FROM users " +
+                   "WHERE company_id = :companyId AND deleted_at IS NULL " +
+                   "UNION ALL SELECT 'PROJECT:STATUS:' || status, COUNT(*) FROM projects " +
+                   "WHERE company_id = :companyId AND deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'SR:TOTAL', COUNT(*) FROM service_requests sr JOIN users u ON u.id = sr.requester_id " +
+                   "WHERE u.company_id = :companyId AND sr.deleted_at IS NULL " +
+                   "UNION ALL SELECT 'SR:STATUS:' || sr.status, COUNT(*) FROM service_requests sr JOIN users u ON u.id = sr.requester_id " +
+                   "WHERE u.company_id = :companyId AND sr.deleted_at IS NULL GROUP BY sr.status " +
+                   "UNION ALL SELECT 'SR:MONTH:' || TO_CHAR(sr.request_date, 'YYMM'), COUNT(*) FROM service_requests sr " +
+                   "JOIN users u ON u.id = sr.requester_id " +
+                   "WHERE u.company_id = :companyId AND sr.deleted_at IS NULL AND sr.request_date >= :fromDate " +
+                   "GROUP BY TO_CHAR(sr.request_date, 'YYMM') " +
+                   "UNION ALL SELECT 'APPROVAL:STATUS:' || a.status, COUNT(*) FROM approvals a JOIN users u ON u.id = a.requester_id " +
+                   "WHERE u.company_id = :companyId AND a.deleted_at IS NULL GROUP BY a.status " +
+                   "UNION ALL SELECT 'ISSUE:TOTAL', COUNT(*) FROM issues i JOIN users u ON u.id = i.reporter_id " +
+                   "WHERE u.company_id = :companyId AND i.deleted_at IS NULL " +
+                   "UNION ALL SELECT 'INCIDENT:TOTAL', COUNT(*) FROM incidents inc JOIN users u ON u.id = inc.assignee_id " +
+                   "WHERE u.company_id = :companyId AND inc.deleted_at IS NULL " +
+                   "UNION ALL SELECT 'ASSET:TOTAL', COUNT(*) FROM assets ast JOIN users u ON u.id = ast.manager_id " +
+                   "WHERE u.company_id = :companyId AND ast.deleted_at IS NULL",
+           nativeQuery = true)
+    List<CounterValue> countByCompany(@Param("companyId") Long companyId, @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * 부서 범위 카운터 집계 (recount 와 같은 키 형식, SR 월별 건수는 fromDate 이후만)
+     * SR 은 요청 부서, 프로젝트는 PM 의 부서, 그 외는 요청자/보고자/담당자/관리자의 부서 기준
+     */
+    @Query(value = "SELECT 'USER:TOTAL' AS \"counterKey\", COUNT(*) AS \"counterValue\" FROM users " +
+                   "WHERE department_id = :departmentId AND deleted_at IS NULL " +
+                   "UNION ALL SELECT 'PROJECT:STATUS:' || p.status, COUNT(*) FROM projects p JOIN users u ON u.id = p.pm_id " +
+                   "WHERE u.department_id = :departmentId AND p.deleted_at IS NULL GROUP BY p.status " +
+                   "UNION ALL SELECT 'SR:TOTAL', COUNT(*) FROM service_requests " +
+                   "WHERE requester_dept_id = :departmentId AND deleted_at IS NULL " +
+                   "UNION ALL SELECT 'SR:STATUS:' || status, COUNT(*) FROM service_requests " +
+                   "WHERE requester_dept_id = :departmentId AND deleted_at IS NULL GROUP BY status " +
+                   "UNION ALL SELECT 'SR:MONTH:' || TO_CHAR(request_date, 'YYMM'), COUNT(*) FROM service_requests " +
+                   "WHERE requester_dept_id = :departmentId AND deleted_at IS NULL AND request_date >= :fromDate " +
+                   "GROUP BY TO_CHAR(request_date, 'YYMM') " +
+                   "UNION ALL SELECT 'APPROVAL:STATUS:' || a.status, COUNT(*) FROM approvals a JOIN users u ON u.id = a.requester_id " +
+                   "WHERE u.department_id = :departmentId AND a.deleted_at IS NULL GROUP BY a.status " +
+                   "UNION ALL SELECT 'ISSUE:TOTAL', COUNT(*) FROM issues i JOIN users u ON u.id = i.reporter_id " +
+                   "WHERE u.department_id = :departmentId AND i.deleted_at IS NULL " +
+                   "UNION ALL SELECT 'INCIDENT:TOTAL', COUNT(*) FROM incidents inc JOIN users u ON u.id = inc.assignee_id " +
+                   "WHERE u.department_id = :departmentId AND inc.deleted_at IS NULL " +
+                   "UNION ALL SELECT 'ASSET:TOTAL', COUNT(*) FROM assets ast JOIN users u ON u.id = ast.manager_id " +
+                   "WHERE u.department_id = :departmentId AND ast.deleted_at IS NULL",
+           nativeQuery = true)
+    List<CounterValue> countByDepartment(@Param("departmentId") Long departmentId, @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * 재계산 결과 Projection
+     */
+    interface CounterValue {
+        String getCounterKey();
+        Long getCounterValue();
+    }
+}
@@ -0,0 +1,41 @@
+package com.itmsg.domain.dashboard.repository;
+
+import com.itmsg.domain.dashboard.entity.DashboardKpiSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대시보드 월별 KPI 스냅샷 Repository
+ */
+@Repository
+public interface DashboardKpiSnapshotRepository extends JpaRepository<DashboardKpiSnapshot, DashboardKpiSnapshot.Key> {
+
+    /**
+     * 특정 월의 스냅샷 조회
+     */
+    List<DashboardKpiSnapshot> findBySnapshotMonth(LocalDate snapshotMonth);
+
+    /**
+     * 기간 내 스냅샷 조회 (차트용)
+     */
+    List<DashboardKpiSnapshot> findBySnapshotMonthBetweenOrderBySnapshotMonthAscKpiKeyAsc(LocalDate from, LocalDate to);
+
+    /**
+     * 스냅샷 값 기록 (행이 있으면 덮어쓰기)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_kpi_snapshots (snapshot_month, kpi_key, kpi_value, updated_at) " +
+                   "VALUES (:snapshotMonth, :kpiKey, :kpiValue, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (snapshot_month, kpi_key) DO UPDATE " +
+                   "SET kpi_value = EXCLUDED.kpi_value, updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int upsert(@Param("snapshotMonth") LocalDate snapshotMonth,
+               @Param("kpiKey") String kpiKey,
+               @Param("kpiValue") double kpiValue);
+}
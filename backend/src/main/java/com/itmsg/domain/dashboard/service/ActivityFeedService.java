@@ -0,0 +1,103 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.dashboard.dto.RecentActivityResponse;
+import com.itmsg.domain.dashboard.entity.ActivityLog;
+import com.itmsg.domain.dashboard.repository.ActivityLogRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 활동 피드 서비스
+ * activity_log 를 (occurredAt DESC, id DESC) 인덱스 순서로 읽는다.
+ * 다음 페이지는 마지막 항목의 (occurredAt, id) 를 담은 커서로 이어서 조회한다.
+ * 전체 건수(COUNT)는 계산하지 않으며, 조회 크기는 1 ~ Keyset.MAX_SIZE 로 제한한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityFeedService {
+
+    private final ActivityLogRepository activityLogRepository;
+
+    /**
+     * 커서 기반 활동 피드 조회
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ Keyset.MAX_SIZE)
+     * @param type   활동 타입 필터 (sr, project, approval, issue, incident, release, asset / null 이면 전체)
+     */
+    public CursorPage<RecentActivityResponse> getFeed(String cursor, int size, String type) {
+        EntityType entityType = parseType(type);
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+
+        Pageable limit = PageRequest.of(0, Keyset.fetchSize(size));
+        List<ActivityLog> rows = entityType == null
+                ? activityLogRepository.findFeedAfter(keyset.key(), keyset.id(), limit)
+                : activityLogRepository.findFeedAfterByEntityType(entityType, keyset.key(), keyset.id(), limit);
+
+        return Keyset.page(rows, size, ActivityLog::getOccurredAt, ActivityLog::getId, this::toResponse);
+    }
+
+    /**
+     * 최근 활동 상위 N건 조회 (1 ~ Keyset.MAX_SIZE)
+     */
+    public List<RecentActivityResponse> getLatest(int limit) {
+        return activityLogRepository.findRecent(PageRequest.of(0, Keyset.boundedSize(limit))).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 최근 활동 페이지 조회 (전체 건수 없이 다음 페이지 존재 여부만 제공)
+     */
+    public SliceResponse<RecentActivityResponse> getActivities(int page, int size, String type) {
+        EntityType entityType = parseType(type);
+        Pageable pageable = PageRequest.of(Math.max(0, page), Keyset.boundedSize(size));
+        Slice<ActivityLog> rows = entityType == null
+                ? activityLogRepository.findRecent(pageable)
+                : activityLogRepository.findRecentByEntityType(entityType, pageable);
+        return SliceResponse.of(rows.map(this::toResponse), null, TotalMode.NONE);
+    }
+
+    private RecentActivityResponse toResponse(ActivityLog activity) {
+        return RecentActivityResponse.builder()
+                .id("activity-" + activity.getId())
+                .type(typeOf(activity.getEntityType()))
+                .title(activity.getTitle())
+                .description(activity.getDescription())
+                .createdAt(activity.getOccurredAt())
+                .status(activity.getStatus())
+                .userName(activity.getActorName() != null ? activity.getActorName() : "Unknown")
+                .build();
+    }
+
+    private String typeOf(EntityType entityType) {
+        return entityType.name().toLowerCase(Locale.ROOT);
+    }
+
+    private EntityType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return EntityType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "지원하지 않는 활동 타입입니다: " + type);
+        }
+    }
+}
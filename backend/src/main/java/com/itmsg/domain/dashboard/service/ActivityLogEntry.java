@@ -0,0 +1,21 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 적재 대기 중인 활동 로그 항목
+ */
+public record ActivityLogEntry(
+        EntityType entityType,
+        Long entityId,
+        ChangeType changeType,
+        String title,
+        String description,
+        String status,
+        String actorName,
+        LocalDateTime occurredAt
+) {
+}
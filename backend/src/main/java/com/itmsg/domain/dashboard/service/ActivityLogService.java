@@ -0,0 +1,154 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.approval.entity.Approval;
+import com.itmsg.domain.asset.entity.Asset;
+import com.itmsg.domain.incident.entity.Incident;
+import com.itmsg.domain.issue.entity.Issue;
+import com.itmsg.domain.project.entity.Project;
+import com.itmsg.domain.release.entity.Release;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 활동 로그 기록 서비스
+ * 변경 이벤트를 발행 트랜잭션 안에서 받아 로그 항목을 만들고(지연 로딩 연관 포함),
+ * 커밋이 끝난 뒤에만 쓰기 버퍼에 넘겨 롤백된 변경이 기록되지 않도록 한다.
+ * 버퍼에 넘긴 항목은 ActivityLogEntry 이벤트로도 발행되어 실시간 스트림에 전달된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityLogService {
+
+    /** 활동 로그를 남기는 엔티티 */
+    private static final Set<EntityType> LOGGED_TYPES = EnumSet.of(
+            EntityType.SR, EntityType.PROJECT, EntityType.APPROVAL, EntityType.ISSUE,
+            EntityType.INCIDENT, EntityType.RELEASE, EntityType.ASSET);
+
+    /** 활동 로그를 남기는 변경 유형 (단순 수정은 제외) */
+    private static final Set<ChangeType> LOGGED_CHANGES = EnumSet.of(
+            ChangeType.CREATED, ChangeType.STATUS_CHANGED, ChangeType.DELETED);
+
+    private static final int TITLE_LENGTH = 300;
+    private static final int DESCRIPTION_LENGTH = 500;
+    private static final int ACTOR_LENGTH = 100;
+
+    private final ActivityLogWriter activityLogWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!LOGGED_TYPES.contains(event.getEntityType()) || !LOGGED_CHANGES.contains(event.getChangeType())) {
+            return;
+        }
+
+        ActivityLogEntry entry = toEntry(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(entry);
+                }
+            });
+        } else {
+            record(entry);
+        }
+    }
+
+    private void record(ActivityLogEntry entry) {
+        activityLogWriter.enqueue(entry);
+        eventPublisher.publishEvent(entry);
+    }
+
+    private ActivityLogEntry toEntry(EntityChangedEvent event) {
+        Subject subject = subjectOf(event);
+        String description = switch (event.getChangeType()) {
+            case CREATED -> subject.createdDescription();
+            case STATUS_CHANGED -> "상태 변경: " + event.getPreviousStatus() + " → " + event.getStatus();
+            default -> event.getEntityType().getDescription() + " " + event.getChangeType().getDescription();
+        };
+        String actorName = currentUserName();
+        if (actorName == null) {
+            actorName = subject.owner() != null ? subject.owner().getName() : "Unknown";
+        }
+
+        return new ActivityLogEntry(
+                event.getEntityType(),
+                event.getEntityId(),
+                event.getChangeType(),
+                truncate(subject.title(), TITLE_LENGTH),
+                truncate(description, DESCRIPTION_LENGTH),
+                event.getStatus(),
+                truncate(actorName, ACTOR_LENGTH),
+                event.getOccurredAt());
+    }
+
+    /**
+     * 엔티티별 표시 제목, 생성 시 설명, 담당 사용자
+     */
+    private Subject subjectOf(EntityChangedEvent event) {
+        return switch (event.getEntityType()) {
+            case SR -> {
+                ServiceRequest sr = event.getEntity(ServiceRequest.class);
+                yield new Subject("SR-" + sr.getSrNumber(), sr.getTitle(), sr.getRequester());
+            }
+            case PROJECT -> {
+                Project project = event.getEntity(Project.class);
+                yield new Subject(project.getName(), "프로젝트 생성됨", project.getPm());
+            }
+            case APPROVAL -> {
+                Approval approval = event.getEntity(Approval.class);
+                yield new Subject("승인-" + approval.getApprovalNumber(),
+                        approval.getApprovalType() + " 승인 요청", approval.getRequester());
+            }
+            case ISSUE -> {
+                Issue issue = event.getEntity(Issue.class);
+                yield new Subject(issue.getIssueNumber(), issue.getTitle(), issue.getReporter());
+            }
+            case INCIDENT -> {
+                Incident incident = event.getEntity(Incident.class);
+                yield new Subject(incident.getIncidentNumber(), incident.getTitle(), incident.getAssignee());
+            }
+            case RELEASE -> {
+                Release release = event.getEntity(Release.class);
+                yield new Subject(release.getReleaseNumber(), release.getTitle(), release.getRequester());
+            }
+            case ASSET -> {
+                Asset asset = event.getEntity(Asset.class);
+                yield new Subject(asset.getAssetNumber(), asset.getName(), asset.getManager());
+            }
+            default -> throw new IllegalArgumentException("활동 로그 대상이 아닌 엔티티: " + event.getEntityType());
+        };
+    }
+
+    /**
+     * 현재 인증된 사용자 이름 (배치/시스템 작업이면 null)
+     */
+    private String currentUserName() {
+        return AuthenticatedUser.findCurrent()
+                .map(AuthenticatedUser::getDisplayName)
+                .orElse(null);
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    private record Subject(String title, String createdDescription, User owner) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.itmsg.domain.dashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활동 로그 쓰기 버퍼 (write-behind)
+ * 커밋된 활동을 메모리 큐에 모아 두고, 전용 스레드가 batch-size 건이 모이거나
+ * flush-interval-ms 가 지나면 JDBC 배치 INSERT 로 한 번에 적재한다.
+ * 큐가 가득 차면 요청 스레드를 붙잡지 않도록 항목을 버리고 activity.log.dropped 메트릭으로 집계한다.
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_log (entity_type, entity_id, change_type, title, description, status, actor_name, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<ActivityLogEntry> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public ActivityLogWriter(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${activity-log.batch-size:200}") int batchSize,
+            @Value("${activity-log.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${activity-log.queue-capacity:10000}") int queueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writtenCounter = Counter.builder("activity.log.written")
+                .description("적재된 활동 로그 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("activity.log.dropped")
+                .description("버퍼가 가득 차 버려진 활동 로그 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("activity.log.failed")
+                .description("배치 적재에 실패한 활동 로그 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("activity.log.pending", List.of(), queue);
+    }
+
+    @PostConstruct
+    void start() {
+        worker = new Thread(this::run, "activity-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 활동 로그 적재 요청 (대기하지 않음)
+     */
+    public void enqueue(ActivityLogEntry entry) {
+        if (!queue.offer(entry)) {
+            droppedCounter.increment();
+            log.warn("활동 로그 버퍼 초과로 항목 폐기: {} {} {}", entry.entityType(), entry.entityId(), entry.changeType());
+        }
+    }
+
+    /**
+     * 종료 시 남은 항목을 모두 적재
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<ActivityLogEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void run() {
+        List<ActivityLogEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ActivityLogEntry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 이후 flush-interval-ms 동안 batch-size 까지 모은다
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    ActivityLogEntry next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ActivityLogEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setString(1, entry.entityType().name());
+                ps.setLong(2, entry.entityId());
+                ps.setString(3, entry.changeType().name());
+                ps.setString(4, entry.title());
+                ps.setString(5, entry.description());
+                ps.setString(6, entry.status());
+                ps.setString(7, entry.actorName());
+                ps.setTimestamp(8, Timestamp.valueOf(entry.occurredAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("활동 로그 배치 적재 실패: {}건", batch.size(), e);
+        }
+    }
+}
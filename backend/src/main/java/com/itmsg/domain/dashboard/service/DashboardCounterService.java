@@ -0,0 +1,172 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.dashboard.dto.CounterReconcileResponse;
+import com.itmsg.domain.dashboard.entity.DashboardCounter;
+import com.itmsg.domain.dashboard.repository.DashboardCounterRepository;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대시보드 카운터 서비스
+ * 엔티티 변경 이벤트를 받아 같은 트랜잭션 안에서 카운터를 증감하고,
+ * 주기적으로 원본 테이블 기준으로 재계산하여 어긋난 값을 보정한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardCounterService {
+
+    /** 상태별 카운터를 유지하는 엔티티 */
+    private static final Set<EntityType> STATUS_TRACKED = EnumSet.of(
+            EntityType.PROJECT, EntityType.SR, EntityType.APPROVAL, EntityType.ISSUE, EntityType.INCIDENT);
+
+    /** 전체 건수만 유지하는 엔티티 */
+    private static final Set<EntityType> TOTAL_TRACKED = EnumSet.of(EntityType.ASSET, EntityType.USER);
+
+    private final DashboardCounterRepository dashboardCounterRepository;
+
+    /**
+     * 카운터 리비전 합계 (통계 ETag 계산용)
+     */
+    public long getRevision() {
+        return dashboardCounterRepository.sumRevision();
+    }
+
+    /**
+     * 카운터 값 조회 (없는 키는 0)
+     */
+    public Map<String, Long> getCounters(Collection<String> counterKeys) {
+        Map<String, Long> values = dashboardCounterRepository.findByCounterKeyIn(counterKeys).stream()
+                .collect(Collectors.toMap(DashboardCounter::getCounterKey, DashboardCounter::getCounterValue));
+        Map<String, Long> result = new HashMap<>();
+        for (String key : counterKeys) {
+            result.put(key, values.getOrDefault(key, 0L));
+        }
+        return result;
+    }
+
+    /**
+     * 엔티티 변경 시 카운터 증감 (발행 트랜잭션에 참여)
+     */
+    @EventListener
+    @Transactional
+    public void onEntityChanged(EntityChangedEvent event) {
+        deltasFor(event).forEach((key, delta) -> {
+            if (delta != 0) {
+                dashboardCounterRepository.increment(key, delta);
+            }
+        });
+    }
+
+    /**
+     * 변경 이벤트에 따른 카운터 증감값 계산
+     * 동시 트랜잭션 간 교착을 피하기 위해 키 순서로 정렬된 맵을 반환한다
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Long> deltasFor(EntityChangedEvent event) {
+        Map<String, Long> deltas = new TreeMap<>();
+        EntityType type = event.getEntityType();
+        if (!STATUS_TRACKED.contains(type) && !TOTAL_TRACKED.contains(type)) {
+            return deltas;
+        }
+
+        switch (event.getChangeType()) {
+            case CREATED -> applyRowDelta(deltas, event, event.getStatus(), 1);
+            case DELETED -> applyRowDelta(deltas, event, event.getStatus(), -1);
+            case STATUS_CHANGED -> {
+                if (STATUS_TRACKED.contains(type)) {
+                    addDelta(deltas, DashboardCounter.statusKey(type, event.getPreviousStatus()), -1);
+                    addDelta(deltas, DashboardCounter.statusKey(type, event.getStatus()), 1);
+                }
+            }
+            case UPDATED -> {
+                // 건수에 영향 없음
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 카운터 재계산 및 보정
+     * 카운터 행을 먼저 잠가 재계산 중에 커밋되는 증감이 보정값에 덮어써지지 않도록 한다
+     */
+    @Transactional
+    @Scheduled(cron = "${dashboard.counters.reconcile-cron:0 30 3 * * *}")
+    public CounterReconcileResponse reconcile() {
+        dashboardCounterRepository.lockAll();
+
+        Map<String, Long> stored = dashboardCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(DashboardCounter::getCounterKey, DashboardCounter::getCounterValue));
+        Map<String, Long> actual = dashboardCounterRepository.recount().stream()
+                .collect(Collectors.toMap(DashboardCounterRepository.CounterValue::getCounterKey,
+                        DashboardCounterRepository.CounterValue::getCounterValue));
+
+        Map<String, Long> expected = new TreeMap<>(stored.keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), key -> 0L)));
+        expected.putAll(actual);
+
+        List<CounterReconcileResponse.CounterDrift> drifts = new ArrayList<>();
+        expected.forEach((key, actualValue) -> {
+            long storedValue = stored.getOrDefault(key, 0L);
+            if (storedValue != actualValue) {
+                dashboardCounterRepository.overwrite(key, actualValue);
+                drifts.add(CounterReconcileResponse.CounterDrift.builder()
+                        .counterKey(key)
+                        .storedValue(storedValue)
+                        .actualValue(actualValue)
+                        .build());
+            }
+        });
+
+        if (drifts.isEmpty()) {
+            log.info("대시보드 카운터 재계산 완료: {}건 일치", expected.size());
+        } else {
+            drifts.forEach(drift -> log.warn("대시보드 카운터 불일치 보정: {} {} -> {}",
+                    drift.getCounterKey(), drift.getStoredValue(), drift.getActualValue()));
+        }
+
+        return CounterReconcileResponse.builder()
+                .checkedCounters(expected.size())
+                .driftedCounters(drifts.size())
+                .drifts(drifts)
+                .reconciledAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void applyRowDelta(Map<String, Long> deltas, EntityChangedEvent event, String status, long delta) {
+        EntityType type = event.getEntityType();
+        addDelta(deltas, DashboardCounter.totalKey(type), delta);
+        if (STATUS_TRACKED.contains(type) && status != null) {
+            addDelta(deltas, DashboardCounter.statusKey(type, status), delta);
+        }
+        if (type == EntityType.SR) {
+            ServiceRequest sr = event.getEntity(ServiceRequest.class);
+            addDelta(deltas, DashboardCounter.srMonthKey(sr.getRequestDate()), delta);
+        }
+    }
+
+    private void addDelta(Map<String, Long> deltas, String key, long delta) {
+        deltas.merge(key, delta, Long::sum);
+    }
+}
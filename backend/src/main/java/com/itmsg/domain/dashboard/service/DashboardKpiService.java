@@ -0,0 +1,130 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.approval.entity.ApprovalStatus;
+import com.itmsg.domain.dashboard.dto.KpiSnapshotResponse;
+import com.itmsg.domain.dashboard.entity.DashboardCounter;
+import com.itmsg.domain.dashboard.entity.DashboardKpiSnapshot;
+import com.itmsg.domain.dashboard.repository.DashboardKpiSnapshotRepository;
+import com.itmsg.domain.project.entity.ProjectStatus;
+import com.itmsg.domain.sr.entity.SrStatus;
+import com.itmsg.global.common.event.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 대시보드 월별 KPI 스냅샷 서비스
+ * 주기적으로 대시보드 카운터를 읽어 당월 스냅샷 행을 갱신한다.
+ * 월이 바뀌면 직전 월의 마지막 스냅샷이 해당 월의 월말 값이 되므로,
+ * 전월 대비 추세는 전월 행 한 번 조회로 계산할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardKpiService {
+
+    private final DashboardKpiSnapshotRepository dashboardKpiSnapshotRepository;
+    private final DashboardCounterService dashboardCounterService;
+
+    /**
+     * 당월 KPI 스냅샷 갱신
+     */
+    @Transactional
+    @Scheduled(cron = "${dashboard.kpi.snapshot-cron:0 */10 * * * *}")
+    public KpiSnapshotResponse takeSnapshot() {
+        LocalDate today = LocalDate.now();
+        Map<String, Double> values = collectCurrentValues(today);
+
+        LocalDate month = today.withDayOfMonth(1);
+        values.forEach((key, value) -> dashboardKpiSnapshotRepository.upsert(month, key, value));
+
+        log.debug("대시보드 KPI 스냅샷 갱신: {} {}건", YearMonth.from(month), values.size());
+        return KpiSnapshotResponse.builder()
+                .month(YearMonth.from(month).toString())
+                .values(values)
+                .build();
+    }
+
+    /**
+     * 특정 월의 KPI 값 조회 (없는 KPI 는 0)
+     */
+    public Map<String, Double> getSnapshot(YearMonth month) {
+        Map<String, Double> values = new TreeMap<>();
+        for (DashboardKpiSnapshot snapshot : dashboardKpiSnapshotRepository.findBySnapshotMonth(month.atDay(1))) {
+            values.put(snapshot.getKpiKey(), snapshot.getKpiValue());
+        }
+        return values;
+    }
+
+    /**
+     * 최근 N개월 KPI 이력 조회 (당월 포함, 오래된 월부터)
+     */
+    public List<KpiSnapshotResponse> getHistory(int months) {
+        YearMonth to = YearMonth.now();
+        YearMonth from = to.minusMonths(Math.max(1, months) - 1L);
+
+        Map<LocalDate, Map<String, Double>> byMonth = dashboardKpiSnapshotRepository
+                .findBySnapshotMonthBetweenOrderBySnapshotMonthAscKpiKeyAsc(from.atDay(1), to.atDay(1)).stream()
+                .collect(Collectors.groupingBy(DashboardKpiSnapshot::getSnapshotMonth, TreeMap::new,
+                        Collectors.toMap(DashboardKpiSnapshot::getKpiKey, DashboardKpiSnapshot::getKpiValue,
+                                (a, b) -> b, LinkedHashMap::new)));
+
+        List<KpiSnapshotResponse> history = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            history.add(KpiSnapshotResponse.builder()
+                    .month(month.toString())
+                    .values(byMonth.getOrDefault(month.atDay(1), Map.of()))
+                    .build());
+        }
+        return history;
+    }
+
+    /**
+     * 현재 KPI 값 계산 (카운터 조회)
+     */
+    private Map<String, Double> collectCurrentValues(LocalDate today) {
+        String activeProjectsKey = DashboardCounter.statusKey(EntityType.PROJECT, ProjectStatus.IN_PROGRESS.name());
+        String srThisMonthKey = DashboardCounter.srMonthKey(today);
+        String pendingApprovalsKey = DashboardCounter.statusKey(EntityType.APPROVAL, ApprovalStatus.PENDING.name());
+        String srTotalKey = DashboardCounter.totalKey(EntityType.SR);
+
+        List<String> keys = new ArrayList<>(List.of(activeProjectsKey, srThisMonthKey, pendingApprovalsKey, srTotalKey));
+        for (SrStatus status : SrStatus.values()) {
+            keys.add(DashboardCounter.statusKey(EntityType.SR, status.name()));
+        }
+        Map<String, Long> counters = dashboardCounterService.getCounters(keys);
+
+        Map<String, Double> values = new TreeMap<>();
+        values.put(DashboardKpiSnapshot.ACTIVE_PROJECTS, counters.get(activeProjectsKey).doubleValue());
+        values.put(DashboardKpiSnapshot.SR_INTAKE, counters.get(srThisMonthKey).doubleValue());
+        values.put(DashboardKpiSnapshot.PENDING_APPROVALS, counters.get(pendingApprovalsKey).doubleValue());
+        values.put(DashboardKpiSnapshot.COMPLETION_RATE, completionRate(
+                counters.get(DashboardCounter.statusKey(EntityType.SR, SrStatus.APPROVED.name())),
+                counters.get(srTotalKey)));
+        for (SrStatus status : SrStatus.values()) {
+            values.put(DashboardKpiSnapshot.srStatusKey(status.name()),
+                    counters.get(DashboardCounter.statusKey(EntityType.SR, status.name())).doubleValue());
+        }
+        return values;
+    }
+
+    /**
+     * 완료율 (승인 완료된 SR / 전체 SR * 100, 소수 첫째 자리)
+     */
+    static double completionRate(long completedSr, long totalSr) {
+        if (totalSr == 0) return 0.0;
+        return Math.round(completedSr * 1000.0 / totalSr) / 10.0;
+    }
+}
@@ -0,0 +1,196 @@
+package com.itmsg.domain.dashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 하위 조회 병렬 실행기
+ * 서로 독립적인 집계 조회를 전용 스레드 풀에서 각자의 읽기 전용 트랜잭션(커넥션)으로 동시에 실행하고,
+ * 전체 마감 시간(dashboard.query.deadline-ms)까지 끝나지 않은 조회는 마지막으로 성공한 값(없으면 기본값)으로 대체한다.
+ * 조회별 소요 시간은 dashboard.query 타이머(query, outcome 태그)로 기록한다.
+ *
+ * 조회마다 커넥션을 하나씩 쓰므로 커넥션 사용량은 최대 pool-size 개이다 (DB 커넥션 풀보다 충분히 작게 설정).
+ * 마감 시간을 넘긴 조회는 취소하여 대기 중이면 실행하지 않고, 실행 중인 쿼리는 트랜잭션 제한 시간(마감 시간 올림, 초)에 중단된다.
+ */
+@Slf4j
+@Component
+public class DashboardQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final long deadlineMillis;
+    private final Map<String, Object> lastValues = new ConcurrentHashMap<>();
+
+    public DashboardQueryExecutor(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.query.pool-size:2}") int poolSize,
+            @Value("${dashboard.query.deadline-ms:500}") long deadlineMillis) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-query-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.meterRegistry = meterRegistry;
+        this.deadlineMillis = Math.max(1, deadlineMillis);
+        // 마감 후에도 끝나지 않는 쿼리가 커넥션을 계속 잡지 않도록 쿼리 제한 시간 적용
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(this.deadlineMillis + 999)));
+    }
+
+    /**
+     * 새 조회 묶음 시작 (마감 시간은 지금부터 계산)
+     */
+    public Batch newBatch() {
+        return new Batch(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 같은 마감 시간을 공유하는 하위 조회 묶음
+     */
+    public final class Batch {
+
+        private final long deadlineNanos;
+        private final List<String> staleQueries = Collections.synchronizedList(new ArrayList<>());
+
+        private Batch(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 하위 조회 제출
+         *
+         * @param name         조회 이름 (메트릭 태그, 부분 결과 표시용)
+         * @param query        읽기 전용 트랜잭션 안에서 실행할 조회
+         * @param defaultValue 한 번도 성공한 적 없을 때 사용할 값
+         */
+        public <T> Result<T> submit(String name, Supplier<T> query, T defaultValue) {
+            Future<T> future;
+            try {
+                future = executor.submit(() -> execute(name, query));
+            } catch (RuntimeException e) {
+                // 풀 포화 등으로 제출 자체가 거부된 경우
+                future = CompletableFuture.failedFuture(e);
+            }
+            return new Result<>(this, name, future, defaultValue);
+        }
+
+        /**
+         * 마감 시간을 넘겨 이전 값으로 대체된 조회 이름
+         */
+        public List<String> getStaleQueries() {
+            synchronized (staleQueries) {
+                return List.copyOf(staleQueries);
+            }
+        }
+
+        public boolean isPartial() {
+            return !staleQueries.isEmpty();
+        }
+    }
+
+    /**
+     * 하위 조회 결과
+     */
+    public final class Result<T> {
+
+        private final Batch batch;
+        private final String name;
+        private final Future<T> future;
+        private final T defaultValue;
+
+        private Result(Batch batch, String name, Future<T> future, T defaultValue) {
+            this.batch = batch;
+            this.name = name;
+            this.future = future;
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * 마감 시간까지 결과를 기다린 뒤 반환 (실패/시간 초과 시 이전 값)
+         * 시간 초과된 조회는 취소한다 (대기 중이면 실행되지 않고, 실행 중이면 스레드에 인터럽트)
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            long remaining = batch.deadlineNanos - System.nanoTime();
+            try {
+                return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("대시보드 조회 마감 시간 초과, 이전 값 사용: {}", name);
+            } catch (CancellationException e) {
+                log.warn("대시보드 조회 취소, 이전 값 사용: {}", name);
+            } catch (ExecutionException e) {
+                log.warn("대시보드 조회 실패, 이전 값 사용: {}", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch.staleQueries.add(name);
+            Counter.builder("dashboard.query.stale")
+                    .description("마감 시간 초과 또는 실패로 이전 값을 반환한 대시보드 조회 수")
+                    .tag("query", name)
+                    .register(meterRegistry)
+                    .increment();
+            return (T) lastValues.getOrDefault(name, defaultValue);
+        }
+    }
+
+    private <T> T execute(String name, Supplier<T> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            T value = readOnlyTransaction.execute(status -> query.get());
+            if (value != null) {
+                lastValues.put(name, value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("dashboard.query")
+                    .description("대시보드 하위 조회 소요 시간")
+                    .tag("query", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
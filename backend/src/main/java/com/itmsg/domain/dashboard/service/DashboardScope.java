@@ -0,0 +1,19 @@
+package com.itmsg.domain.dashboard.service;
+
+/**
+ * 대시보드 통계 범위 (회사 또는 부서)
+ */
+public record DashboardScope(Type type, Long id) {
+
+    public enum Type {
+        COMPANY, DEPARTMENT
+    }
+
+    public static DashboardScope company(Long companyId) {
+        return new DashboardScope(Type.COMPANY, companyId);
+    }
+
+    public static DashboardScope department(Long departmentId) {
+        return new DashboardScope(Type.DEPARTMENT, departmentId);
+    }
+}
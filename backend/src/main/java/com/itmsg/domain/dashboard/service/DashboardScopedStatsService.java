@@ -0,0 +1,215 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.approval.entity.Approval;
+import com.itmsg.domain.approval.entity.ApprovalStatus;
+import com.itmsg.domain.asset.entity.Asset;
+import com.itmsg.domain.dashboard.dto.DashboardStatsResponse;
+import com.itmsg.domain.dashboard.entity.DashboardCounter;
+import com.itmsg.domain.dashboard.repository.DashboardCounterRepository;
+import com.itmsg.domain.incident.entity.Incident;
+import com.itmsg.domain.issue.entity.Issue;
+import com.itmsg.domain.project.entity.Project;
+import com.itmsg.domain.project.entity.ProjectStatus;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.entity.SrStatus;
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.common.cache.TtlCache;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 회사/부서 범위 대시보드 통계 서비스
+ * 범위별 집계 쿼리 한 번으로 통계를 계산하고 결과를 범위 단위로 짧게(dashboard.scoped-stats.ttl-ms) 캐시한다.
+ * 같은 범위의 동시 요청은 하나의 집계만 실행하고 결과를 공유하며,
+ * 커밋된 변경이 있으면 해당 엔티티가 속한 회사/부서의 캐시를 무효화한다.
+ *
+ * 범위별 월말 스냅샷은 없으므로 추세는 SR 접수 건수(전월 대비)만 계산한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardScopedStatsService {
+
+    private final DashboardCounterRepository dashboardCounterRepository;
+    private final TtlCache<DashboardScope, DashboardStatsResponse> cache;
+
+    public DashboardScopedStatsService(
+            DashboardCounterRepository dashboardCounterRepository,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.scoped-stats.ttl-ms:30000}") long ttlMillis,
+            @Value("${dashboard.scoped-stats.max-entries:1000}") int maxEntries) {
+        this.dashboardCounterRepository = dashboardCounterRepository;
+        this.cache = new TtlCache<>("dashboard.scoped-stats", Duration.ofMillis(ttlMillis), maxEntries, meterRegistry);
+    }
+
+    /**
+     * 현재 사용자 소속 회사의 대시보드 통계
+     */
+    public DashboardStatsResponse getCompanyStats() {
+        Long companyId = AuthenticatedUser.current().getCompanyId();
+        if (companyId == null) {
+            throw new BusinessException(ErrorCode.COMPANY_NOT_FOUND);
+        }
+        return getStats(DashboardScope.company(companyId));
+    }
+
+    /**
+     * 현재 사용자 소속 부서의 대시보드 통계
+     */
+    public DashboardStatsResponse getDepartmentStats() {
+        Long departmentId = AuthenticatedUser.current().getDepartmentId();
+        if (departmentId == null) {
+            throw new BusinessException(ErrorCode.DEPARTMENT_NOT_FOUND);
+        }
+        return getStats(DashboardScope.department(departmentId));
+    }
+
+    /**
+     * 범위별 대시보드 통계 (캐시)
+     */
+    public DashboardStatsResponse getStats(DashboardScope scope) {
+        return cache.get(scope, this::aggregate);
+    }
+
+    /**
+     * 변경된 엔티티가 속한 범위를 발행 트랜잭션 안에서 계산하고, 커밋 후 해당 캐시를 무효화한다
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        Set<DashboardScope> scopes = scopesOf(event);
+        if (scopes.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scopes.forEach(cache::invalidate);
+                }
+            });
+        } else {
+            scopes.forEach(cache::invalidate);
+        }
+    }
+
+    private DashboardStatsResponse aggregate(DashboardScope scope) {
+        LocalDate today = LocalDate.now();
+        LocalDate fromDate = today.withDayOfMonth(1).minusMonths(1);
+        List<DashboardCounterRepository.CounterValue> rows = switch (scope.type()) {
+            case COMPANY -> dashboardCounterRepository.countByCompany(scope.id(), fromDate);
+            case DEPARTMENT -> dashboardCounterRepository.countByDepartment(scope.id(), fromDate);
+        };
+        Map<String, Long> counters = new HashMap<>();
+        for (DashboardCounterRepository.CounterValue row : rows) {
+            counters.put(row.getCounterKey(), row.getCounterValue());
+        }
+
+        int srRequestsThisMonth = value(counters, DashboardCounter.srMonthKey(today));
+        int srRequestsLastMonth = value(counters, DashboardCounter.srMonthKey(fromDate));
+        double srRequestsTrend = srRequestsLastMonth == 0 ? 0.0
+                : (srRequestsThisMonth - srRequestsLastMonth) * 100.0 / srRequestsLastMonth;
+
+        return DashboardStatsResponse.builder()
+                .activeProjects(value(counters, DashboardCounter.statusKey(EntityType.PROJECT, ProjectStatus.IN_PROGRESS.name())))
+                .srRequestsThisMonth(srRequestsThisMonth)
+                .pendingApprovals(value(counters, DashboardCounter.statusKey(EntityType.APPROVAL, ApprovalStatus.PENDING.name())))
+                .completionRate(DashboardKpiService.completionRate(
+                        value(counters, DashboardCounter.statusKey(EntityType.SR, SrStatus.APPROVED.name())),
+                        value(counters, DashboardCounter.totalKey(EntityType.SR))))
+                .totalUsers(value(counters, DashboardCounter.totalKey(EntityType.USER)))
+                .totalIssues(value(counters, DashboardCounter.totalKey(EntityType.ISSUE)))
+                .totalIncidents(value(counters, DashboardCounter.totalKey(EntityType.INCIDENT)))
+                .totalAssets(value(counters, DashboardCounter.totalKey(EntityType.ASSET)))
+                .srRequestsTrend(srRequestsTrend)
+                .staleFields(List.of())
+                .build();
+    }
+
+    /**
+     * 엔티티가 집계되는 회사/부서 범위
+     */
+    private Set<DashboardScope> scopesOf(EntityChangedEvent event) {
+        Set<DashboardScope> scopes = new LinkedHashSet<>();
+        switch (event.getEntityType()) {
+            case USER -> addUserScopes(scopes, event.getEntity(User.class));
+            case PROJECT -> {
+                Project project = event.getEntity(Project.class);
+                scopes.add(DashboardScope.company(project.getCompany().getId()));
+                if (project.getPm() != null && project.getPm().getDepartment() != null) {
+                    scopes.add(DashboardScope.department(project.getPm().getDepartment().getId()));
+                }
+            }
+            case SR -> {
+                ServiceRequest sr = event.getEntity(ServiceRequest.class);
+                AuthenticatedUser caller = caller(sr.getRequester());
+                Long companyId = caller != null ? caller.getCompanyId() : sr.getRequester().getCompany().getId();
+                scopes.add(DashboardScope.company(companyId));
+                if (sr.getRequesterDept() != null) {
+                    scopes.add(DashboardScope.department(sr.getRequesterDept().getId()));
+                }
+            }
+            case APPROVAL -> addUserScopes(scopes, event.getEntity(Approval.class).getRequester());
+            case ISSUE -> addUserScopes(scopes, event.getEntity(Issue.class).getReporter());
+            case INCIDENT -> addUserScopes(scopes, event.getEntity(Incident.class).getAssignee());
+            case ASSET -> addUserScopes(scopes, event.getEntity(Asset.class).getManager());
+            default -> {
+                // 범위 통계에 포함되지 않는 엔티티
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * 사용자의 회사/부서 범위
+     * 현재 요청 사용자면 인증 정보의 회사/부서 id 를 사용하여 getReferenceById 참조를 초기화(users 조회)하지 않는다.
+     */
+    private void addUserScopes(Set<DashboardScope> scopes, User user) {
+        if (user == null) {
+            return;
+        }
+        AuthenticatedUser caller = caller(user);
+        if (caller != null) {
+            if (caller.getCompanyId() != null) {
+                scopes.add(DashboardScope.company(caller.getCompanyId()));
+            }
+            if (caller.getDepartmentId() != null) {
+                scopes.add(DashboardScope.department(caller.getDepartmentId()));
+            }
+            return;
+        }
+        scopes.add(DashboardScope.company(user.getCompany().getId()));
+        if (user.getDepartment() != null) {
+            scopes.add(DashboardScope.department(user.getDepartment().getId()));
+        }
+    }
+
+    /**
+     * 사용자가 현재 요청 사용자면 인증 정보 (아니면 null, id 비교는 참조를 초기화하지 않음)
+     */
+    private AuthenticatedUser caller(User user) {
+        return AuthenticatedUser.findCurrent()
+                .filter(current -> current.getUserId().equals(user.getId()))
+                .orElse(null);
+    }
+
+    private int value(Map<String, Long> counters, String key) {
+        return counters.getOrDefault(key, 0L).intValue();
+    }
+}
@@ -1,29 +1,26 @@
 package com.itmsg.domain.dashboard.service;
 
-import com.itmsg.domain.approval.entity.Approval;
-import com.itmsg.domain.approval.repository.ApprovalRepository;
-import com.itmsg.domain.asset.repository.AssetRepository;
+import com.itmsg.domain.approval.entity.ApprovalStatus;
 import com.itmsg.domain.dashboard.dto.DashboardStatsResponse;
 import com.itmsg.domain.dashboard.dto.RecentActivityResponse;
-import com.itmsg.domain.incident.repository.IncidentRepository;
-import com.itmsg.domain.issue.repository.IssueRepository;
-import com.itmsg.domain.project.entity.Project;
-import com.itmsg.domain.project.repository.ProjectRepository;
-import com.itmsg.domain.sr.entity.ServiceRequest;
-import com.itmsg.domain.sr.repository.ServiceRequestRepository;
-import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.domain.dashboard.entity.DashboardCounter;
+import com.itmsg.domain.dashboard.entity.DashboardKpiSnapshot;
+import com.itmsg.domain.project.entity.ProjectStatus;
+import com.itmsg.domain.sr.entity.SrStatus;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.util.ETags;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,232 +28,103 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardService {
 
-    private final ProjectRepository projectRepository;
-    private final ServiceRequestRepository serviceRequestRepository;
-    private final ApprovalRepository approvalRepository;
-    private final UserRepository userRepository;
-    private final IssueRepository issueRepository;
-    private final IncidentRepository incidentRepository;
-    private final AssetRepository assetRepository;
-
+    private final DashboardCounterService dashboardCounterService;
+    private final ActivityFeedService activityFeedService;
+    private final DashboardKpiService dashboardKpiService;
+    private final DashboardQueryExecutor dashboardQueryExecutor;
+
+    /**
+     * 대시보드 통계 조회
+     * 카운터(한 번의 IN 조회)와 전월 KPI 스냅샷을 병렬로 조회하며, 마감 시간 안에 끝나지 않은 항목은 이전 값으로 채우고 partial 로 표시한다.
+     * 요청 스레드는 커넥션을 잡지 않고 결과만 기다린다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardStatsResponse getDashboardStats() {
-        LocalDate now = LocalDate.now();
-        LocalDate startOfMonth = now.withDayOfMonth(1);
-        LocalDate startOfLastMonth = now.minusMonths(1).withDayOfMonth(1);
-        LocalDate endOfLastMonth = now.withDayOfMonth(1).minusDays(1);
-
-        // 이번 달 SR 요청 수
-        int srRequestsThisMonth = getSrRequestsThisMonth();
+        LocalDate today = LocalDate.now();
+        String activeProjectsKey = DashboardCounter.statusKey(EntityType.PROJECT, ProjectStatus.IN_PROGRESS.name());
+        String srThisMonthKey = DashboardCounter.srMonthKey(today);
+        String completedSrKey = DashboardCounter.statusKey(EntityType.SR, SrStatus.APPROVED.name());
+        String totalSrKey = DashboardCounter.totalKey(EntityType.SR);
+        String pendingApprovalsKey = DashboardCounter.statusKey(EntityType.APPROVAL, ApprovalStatus.PENDING.name());
+        List<String> totalKeys = List.of(
+                DashboardCounter.totalKey(EntityType.USER),
+                DashboardCounter.totalKey(EntityType.ISSUE),
+                DashboardCounter.totalKey(EntityType.INCIDENT),
+                DashboardCounter.totalKey(EntityType.ASSET));
+
+        List<String> counterKeys = new ArrayList<>(List.of(
+                activeProjectsKey, srThisMonthKey, completedSrKey, totalSrKey, pendingApprovalsKey));
+        counterKeys.addAll(totalKeys);
+
+        DashboardQueryExecutor.Batch batch = dashboardQueryExecutor.newBatch();
+        var countersQuery = submitCounters(batch, "counters", counterKeys);
+        var trendsQuery = batch.submit("trends",
+                () -> dashboardKpiService.getSnapshot(YearMonth.from(today).minusMonths(1)), Map.<String, Double>of());
+
+        Map<String, Long> counters = countersQuery.get();
+        Map<String, Double> lastMonth = trendsQuery.get();
 
         // 활성 프로젝트 수 (진행 중인 프로젝트)
-        int activeProjects = getActiveProjects();
-
-        // 승인 대기 수
-        int pendingApprovals = getPendingApprovals();
+        int activeProjects = counters.getOrDefault(activeProjectsKey, 0L).intValue();
 
-        // 완료율 계산 (완료된 SR / 전체 SR * 100)
-        double completionRate = calculateCompletionRate();
-
-        // 총 사용자 수
-        int totalUsers = (int) userRepository.count();
-
-        // 총 이슈 수
-        int totalIssues = (int) issueRepository.count();
-
-        // 총 장애 수
-        int totalIncidents = (int) incidentRepository.count();
-
-        // 총 자산 수
-        int totalAssets = (int) assetRepository.count();
+        // 이번 달 SR 요청 수
+        int srRequestsThisMonth = counters.getOrDefault(srThisMonthKey, 0L).intValue();
 
-        // 트렌드 계산 (전월 대비 증감률)
-        double activeProjectsTrend = calculateTrend(activeProjects, getActiveProjectsLastMonth());
-        double srRequestsTrend = calculateTrend(srRequestsThisMonth, getSrRequestsLastMonth());
-        double pendingApprovalsTrend = calculateTrend(pendingApprovals, getPendingApprovalsLastMonth());
-        double completionRateTrend = calculateTrend(completionRate, getCompletionRateLastMonth());
+        // 승인 대기 수
+        int pendingApprovals = counters.getOrDefault(pendingApprovalsKey, 0L).intValue();
+
+        // 완료율 계산 (승인 완료된 SR / 전체 SR * 100)
+        double completionRate = DashboardKpiService.completionRate(
+                counters.getOrDefault(completedSrKey, 0L), counters.getOrDefault(totalSrKey, 0L));
+
+        // 트렌드 계산 (전월 월말 스냅샷 대비 증감률)
+        double activeProjectsTrend = calculateTrend(activeProjects,
+                lastMonth.getOrDefault(DashboardKpiSnapshot.ACTIVE_PROJECTS, 0.0));
+        double srRequestsTrend = calculateTrend(srRequestsThisMonth,
+                lastMonth.getOrDefault(DashboardKpiSnapshot.SR_INTAKE, 0.0));
+        double pendingApprovalsTrend = calculateTrend(pendingApprovals,
+                lastMonth.getOrDefault(DashboardKpiSnapshot.PENDING_APPROVALS, 0.0));
+        double completionRateTrend = calculateTrend(completionRate,
+                lastMonth.getOrDefault(DashboardKpiSnapshot.COMPLETION_RATE, 0.0));
 
         return DashboardStatsResponse.builder()
                 .activeProjects(activeProjects)
                 .srRequestsThisMonth(srRequestsThisMonth)
                 .pendingApprovals(pendingApprovals)
                 .completionRate(completionRate)
-                .totalUsers(totalUsers)
-                .totalIssues(totalIssues)
-                .totalIncidents(totalIncidents)
-                .totalAssets(totalAssets)
+                .totalUsers(counters.getOrDefault(totalKeys.get(0), 0L).intValue())
+                .totalIssues(counters.getOrDefault(totalKeys.get(1), 0L).intValue())
+                .totalIncidents(counters.getOrDefault(totalKeys.get(2), 0L).intValue())
+                .totalAssets(counters.getOrDefault(totalKeys.get(3), 0L).intValue())
                 .activeProjectsTrend(activeProjectsTrend)
                 .srRequestsTrend(srRequestsTrend)
                 .pendingApprovalsTrend(pendingApprovalsTrend)
                 .completionRateTrend(completionRateTrend)
+                .partial(batch.isPartial())
+                .staleFields(batch.getStaleQueries())
                 .build();
     }
 
-    public List<RecentActivityResponse> getRecentActivities(int limit) {
-        List<RecentActivityResponse> activities = new ArrayList<>();
-        Pageable pageable = PageRequest.of(0, limit / 4); // 각 타입별로 균등하게 가져오기 위해 나누기
-
-        // 최근 SR 요청
-        List<ServiceRequest> recentSRs = serviceRequestRepository.findAll(pageable).getContent();
-        for (ServiceRequest sr : recentSRs) {
-            activities.add(RecentActivityResponse.builder()
-                    .id("sr-" + sr.getId())
-                    .type("sr")
-                    .title("SR-" + sr.getSrNumber())
-                    .description(sr.getTitle())
-                    .createdAt(sr.getCreatedAt())
-                    .status("요청됨")
-                    .userName(sr.getRequester() != null ? sr.getRequester().getName() : "Unknown")
-                    .build());
-        }
-
-        // 최근 프로젝트
-        List<Project> recentProjects = projectRepository.findAll(pageable).getContent();
-        for (Project project : recentProjects) {
-            activities.add(RecentActivityResponse.builder()
-                    .id("project-" + project.getId())
-                    .type("project")
-                    .title(project.getName())
-                    .description("프로젝트 생성됨")
-                    .createdAt(project.getCreatedAt())
-                    .status("진행 중")
-                    .userName(project.getPm() != null ? project.getPm().getName() : "Unknown")
-                    .build());
-        }
-
-        // 최근 승인 요청
-        List<Approval> recentApprovals = approvalRepository.findAll(pageable).getContent();
-        for (Approval approval : recentApprovals) {
-            activities.add(RecentActivityResponse.builder()
-                    .id("approval-" + approval.getId())
-                    .type("approval")
-                    .title("승인-" + approval.getApprovalNumber())
-                    .description(approval.getApprovalType().toString() + " 승인 요청")
-                    .createdAt(approval.getRequestedAt())
-                    .status(approval.getStatus().toString())
-                    .userName(approval.getRequester() != null ? approval.getRequester().getName() : "Unknown")
-                    .build());
-        }
-
-        // 시간순으로 정렬 (최신순)
-        activities.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-
-        // 제한된 개수만큼 반환
-        return activities.stream().limit(limit).toList();
-    }
-
-    public Page<RecentActivityResponse> getAllRecentActivities(Pageable pageable, String type) {
-        List<RecentActivityResponse> allActivities = new ArrayList<>();
-
-        // 각 도메인에서 모든 데이터를 가져옴
-        List<ServiceRequest> allSRs = serviceRequestRepository.findAll();
-        List<Project> allProjects = projectRepository.findAll();
-        List<Approval> allApprovals = approvalRepository.findAll();
-
-        // SR 활동 추가
-        if (type == null || "sr".equals(type)) {
-            for (ServiceRequest sr : allSRs) {
-                allActivities.add(RecentActivityResponse.builder()
-                        .id("sr-" + sr.getId())
-                        .type("sr")
-                        .title("SR-" + sr.getSrNumber())
-                        .description(sr.getTitle())
-                        .createdAt(sr.getCreatedAt())
-                        .status("요청됨")
-                        .userName(sr.getRequester() != null ? sr.getRequester().getName() : "Unknown")
-                        .build());
-            }
-        }
-
-        // 프로젝트 활동 추가
-        if (type == null || "project".equals(type)) {
-            for (Project project : allProjects) {
-                allActivities.add(RecentActivityResponse.builder()
-                        .id("project-" + project.getId())
-                        .type("project")
-                        .title(project.getName())
-                        .description("프로젝트 생성됨")
-                        .createdAt(project.getCreatedAt())
-                        .status("진행 중")
-                        .userName(project.getPm() != null ? project.getPm().getName() : "Unknown")
-                        .build());
-            }
-        }
-
-        // 승인 활동 추가
-        if (type == null || "approval".equals(type)) {
-            for (Approval approval : allApprovals) {
-                allActivities.add(RecentActivityResponse.builder()
-                        .id("approval-" + approval.getId())
-                        .type("approval")
-                        .title("승인-" + approval.getApprovalNumber())
-                        .description(approval.getApprovalType().toString() + " 승인 요청")
-                        .createdAt(approval.getRequestedAt())
-                        .status(approval.getStatus().toString())
-                        .userName(approval.getRequester() != null ? approval.getRequester().getName() : "Unknown")
-                        .build());
-            }
-        }
-
-        // 시간순으로 정렬 (최신순)
-        allActivities.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allActivities.size());
-        List<RecentActivityResponse> pageContent = allActivities.subList(start, end);
-
-        return new PageImpl<>(pageContent, pageable, allActivities.size());
-    }
-
-    private int getActiveProjects() {
-        // ProjectStatus.ACTIVE 또는 진행 중인 프로젝트 수를 계산
-        // 현재는 간단히 모든 프로젝트 수를 반환 (실제로는 상태별로 필터링 필요)
-        return (int) projectRepository.count();
-    }
-
-    private int getSrRequestsThisMonth() {
-        // 이번 달 SR 요청 수
-        LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        LocalDate endOfMonth = LocalDate.now().plusMonths(1).withDayOfMonth(1).minusDays(1);
-
-        // ServiceRequestRepository에 이번 달 SR 수를 계산하는 메서드가 없으므로
-        // 간단히 전체 카운트로 대체 (실제로는 날짜 필터링 쿼리 필요)
-        return (int) serviceRequestRepository.count();
-    }
-
-    private int getPendingApprovals() {
-        // 승인 대기 중인 항목 수
-        return approvalRepository.findPendingApprovalsByApproverId(null).size(); // 모든 승인자 대상
-    }
-
-    private double calculateCompletionRate() {
-        // 완료율 계산 로직 (실제로는 상태별로 계산 필요)
-        long totalSr = serviceRequestRepository.count();
-        if (totalSr == 0) return 0.0;
-
-        // 완료된 SR 수 계산 (실제로는 SrStatus.COMPLETED 등으로 필터링 필요)
-        // 현재는 임시로 85%로 설정
-        return 85.0;
+    /**
+     * 대시보드 통계 ETag
+     * 통계는 카운터와 전월 스냅샷에서만 계산되므로 카운터 리비전 합계와 당월로 버전을 표현한다.
+     */
+    public String getDashboardStatsETag() {
+        return ETags.of("dashboard-stats", YearMonth.now(), dashboardCounterService.getRevision());
     }
 
-    private int getActiveProjectsLastMonth() {
-        // 전월 활성 프로젝트 수 (실제로는 날짜별 계산 필요)
-        return getActiveProjects();
-    }
-
-    private int getSrRequestsLastMonth() {
-        // 전월 SR 요청 수 (실제로는 날짜별 계산 필요)
-        return getSrRequestsThisMonth();
+    public List<RecentActivityResponse> getRecentActivities(int limit) {
+        return activityFeedService.getLatest(limit);
     }
 
-    private int getPendingApprovalsLastMonth() {
-        // 전월 승인 대기 수 (실제로는 날짜별 계산 필요)
-        return getPendingApprovals();
+    public SliceResponse<RecentActivityResponse> getAllRecentActivities(int page, int size, String type) {
+        return activityFeedService.getActivities(page, size, type);
     }
 
-    private double getCompletionRateLastMonth() {
-        // 전월 완료율 (실제로는 날짜별 계산 필요)
-        return calculateCompletionRate();
+    private DashboardQueryExecutor.Result<Map<String, Long>> submitCounters(
+            DashboardQueryExecutor.Batch batch, String name, List<String> keys) {
+        Map<String, Long> zeros = keys.stream().collect(Collectors.toMap(Function.identity(), key -> 0L));
+        return batch.submit(name, () -> dashboardCounterService.getCounters(keys), zeros);
     }
 
     private double calculateTrend(double current, double previous) {
@@ -0,0 +1,280 @@
+package com.itmsg.domain.dashboard.service;
+
+import com.itmsg.domain.dashboard.dto.CounterDeltaResponse;
+import com.itmsg.domain.dashboard.dto.RecentActivityResponse;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대시보드 실시간 스트림 서비스 (Server-Sent Events)
+ * 커밋된 변경마다 카운터 증감값과 새 활동을 한 번만 계산해 모든 구독자에게 전달한다.
+ *
+ * - 이벤트마다 증가하는 id 를 붙이고 최근 replay-size 건을 링 버퍼에 보관하여,
+ *   재연결 시 Last-Event-ID 이후 이벤트를 다시 보낸다. 버퍼에서 밀려난 경우 reset 이벤트로 전체 재조회를 요청한다.
+ * - 구독자마다 client-buffer 크기의 큐를 두고 전용 스레드 풀이 비동기로 전송하며,
+ *   큐가 가득 찬 느린 구독자는 연결을 끊는다 (클라이언트는 Last-Event-ID 로 재연결).
+ * - heartbeat-ms 마다 주석 이벤트를 보내 프록시의 유휴 연결 종료를 막는다.
+ *
+ * 스트림은 노드 단위이므로 다중 인스턴스에서는 해당 노드에서 커밋된 변경만 전달된다.
+ */
+@Slf4j
+@Service
+public class DashboardStreamService {
+
+    public static final String COUNTERS_EVENT = "counters";
+    public static final String ACTIVITY_EVENT = "activity";
+    public static final String STATS_EVENT = "stats";
+    public static final String RESET_EVENT = "reset";
+
+    private final DashboardCounterService dashboardCounterService;
+    private final DashboardService dashboardService;
+    private final long timeoutMillis;
+    private final int clientBufferSize;
+    private final int replaySize;
+    private final Counter droppedCounter;
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Deque<StreamEvent> replayBuffer = new ArrayDeque<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService sender;
+
+    public DashboardStreamService(
+            DashboardCounterService dashboardCounterService,
+            DashboardService dashboardService,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${dashboard.stream.client-buffer:100}") int clientBufferSize,
+            @Value("${dashboard.stream.replay-size:500}") int replaySize,
+            @Value("${dashboard.stream.sender-threads:4}") int senderThreads) {
+        this.dashboardCounterService = dashboardCounterService;
+        this.dashboardService = dashboardService;
+        this.timeoutMillis = timeoutMillis;
+        this.clientBufferSize = Math.max(1, clientBufferSize);
+        this.replaySize = Math.max(1, replaySize);
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.droppedCounter = Counter.builder("dashboard.stream.dropped")
+                .description("버퍼 초과로 연결을 끊은 느린 구독자 수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("dashboard.stream.subscribers", List.of(), subscribers);
+    }
+
+    /**
+     * 스트림 구독
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID 헤더)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(UUID.randomUUID().toString(), emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+
+        // 구독 등록과 재전송 대상 계산을 링 버퍼 잠금 안에서 수행해 그 사이 이벤트가 빠지지 않게 한다
+        List<StreamEvent> missed;
+        boolean needsSnapshot;
+        synchronized (replayBuffer) {
+            Long lastId = parseEventId(lastEventId);
+            long oldestId = replayBuffer.isEmpty() ? sequence.get() + 1 : replayBuffer.peekFirst().id();
+            needsSnapshot = lastId == null || lastId < oldestId - 1 || lastId > sequence.get();
+            missed = new ArrayList<>();
+            if (!needsSnapshot) {
+                for (StreamEvent event : replayBuffer) {
+                    if (event.id() > lastId) {
+                        missed.add(event);
+                    }
+                }
+            }
+            subscribers.put(subscriber.id, subscriber);
+        }
+
+        if (needsSnapshot) {
+            if (lastEventId != null) {
+                subscriber.offer(new StreamEvent(sequence.get(), RESET_EVENT, Map.of()));
+            }
+            subscriber.offer(new StreamEvent(sequence.get(), STATS_EVENT, dashboardService.getDashboardStats()));
+        } else {
+            missed.forEach(subscriber::offer);
+        }
+        return emitter;
+    }
+
+    /**
+     * 커밋된 변경의 카운터 증감값 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Map<String, Long> deltas = dashboardCounterService.deltasFor(event);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        publish(COUNTERS_EVENT, CounterDeltaResponse.builder()
+                .entityType(event.getEntityType().name())
+                .changeType(event.getChangeType().name())
+                .deltas(deltas)
+                .build());
+    }
+
+    /**
+     * 새 활동 전달 (ActivityLogService 가 커밋 후 발행)
+     */
+    @EventListener
+    public void onActivity(ActivityLogEntry entry) {
+        publish(ACTIVITY_EVENT, RecentActivityResponse.builder()
+                .id("live-" + entry.entityType().name().toLowerCase(Locale.ROOT) + "-" + entry.entityId()
+                        + "-" + entry.occurredAt())
+                .type(entry.entityType().name().toLowerCase(Locale.ROOT))
+                .title(entry.title())
+                .description(entry.description())
+                .createdAt(entry.occurredAt())
+                .status(entry.status())
+                .userName(entry.actorName())
+                .build());
+    }
+
+    /**
+     * 유휴 연결 유지용 heartbeat
+     */
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(subscriber -> subscriber.offer(StreamEvent.HEARTBEAT));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    private void publish(String name, Object data) {
+        StreamEvent event;
+        synchronized (replayBuffer) {
+            event = new StreamEvent(sequence.incrementAndGet(), name, data);
+            replayBuffer.addLast(event);
+            while (replayBuffer.size() > replaySize) {
+                replayBuffer.removeFirst();
+            }
+        }
+        subscribers.values().forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber.id);
+        subscriber.emitter.complete();
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 스트림 이벤트 (id 0 은 heartbeat)
+     */
+    private record StreamEvent(long id, String name, Object data) {
+        private static final StreamEvent HEARTBEAT = new StreamEvent(0, null, null);
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (this == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(String.valueOf(id)).name(name).data(data);
+        }
+    }
+
+    /**
+     * 구독자 (전송 대기 큐 + 전송 중 여부)
+     */
+    private final class Subscriber {
+        private final String id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(clientBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 전송 대기 큐에 추가 (가득 차면 연결 종료)
+         */
+        void offer(StreamEvent event) {
+            if (!queue.offer(event)) {
+                droppedCounter.increment();
+                log.info("대시보드 스트림 느린 구독자 연결 종료: {}", id);
+                close(this);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                StreamEvent event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 전송 종료 직전에 들어온 이벤트 처리
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -5,6 +5,12 @@ import com.itmsg.domain.incident.dto.IncidentResponse;
 import com.itmsg.domain.incident.entity.IncidentStatus;
 import com.itmsg.domain.incident.entity.Severity;
 import com.itmsg.domain.incident.service.IncidentService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +18,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 
@@ -45,9 +53,9 @@ public class IncidentController {
     
     @GetMapping("/number/{incidentNumber}")
     @Operation(summary = "장애 번호로 조회", description = "장애 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<IncidentResponse> getIncidentByNumber(@PathVariable String incidentNumber) {
-        IncidentResponse response = incidentService.getIncidentByNumber(incidentNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<IncidentResponse> getIncidentByNumber(@PathVariable String incidentNumber, WebRequest webRequest) {
+        String etag = incidentService.getIncidentByNumberETag(incidentNumber);
+        return ETags.conditional(webRequest, etag, () -> incidentService.getIncidentByNumber(incidentNumber));
     }
     
     @GetMapping
@@ -63,6 +71,58 @@ public class IncidentController {
         Page<IncidentResponse> response = incidentService.getIncidents(title, status, severity, assigneeId, occurredStart, occurredEnd, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "장애 목록 조회 (무한 스크롤)", description = "장애 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<IncidentResponse>> getIncidentsSlice(
+            @Parameter(description = "장애 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "장애 상태") @RequestParam(required = false) IncidentStatus status,
+            @Parameter(description = "심각도") @RequestParam(required = false) Severity severity,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "발생 시작 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredStart,
+            @Parameter(description = "발생 종료 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredEnd,
+            @PageableDefault(size = 20, sort = "occurredAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "전체 건수 계산 방식 (NONE: 생략, ESTIMATE: 근사값, EXACT: 정확한 값)") @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(incidentService.getIncidentsSlice(
+                title, status, severity, assigneeId, occurredStart, occurredEnd, pageable, total));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "장애 목록 패싯 건수", description = "현재 검색 조건에서 상태/심각도/유형/시스템 구분별 장애 건수를 조회합니다.")
+    public ResponseEntity<FacetResponse> getIncidentFacets(
+            @Parameter(description = "장애 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "장애 상태") @RequestParam(required = false) IncidentStatus status,
+            @Parameter(description = "심각도") @RequestParam(required = false) Severity severity,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "발생 시작 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredStart,
+            @Parameter(description = "발생 종료 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredEnd) {
+        return ResponseEntity.ok(incidentService.getIncidentFacets(
+                title, status, severity, assigneeId, occurredStart, occurredEnd));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "장애 목록 조회 (커서)", description = "장애 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<IncidentResponse>> getIncidentsByCursor(
+            @Parameter(description = "장애 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "장애 상태") @RequestParam(required = false) IncidentStatus status,
+            @Parameter(description = "심각도") @RequestParam(required = false) Severity severity,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "발생 시작 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredStart,
+            @Parameter(description = "발생 종료 시간") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurredEnd,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(incidentService.getIncidentsByCursor(
+                title, status, severity, assigneeId, occurredStart, occurredEnd, cursor, size));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "장애 전문 검색", description = "제목과 조치 내용에서 검색어(접두어 일치)를 찾아 관련도순으로 조회합니다. "
+            + "일치 구간은 <mark> 로 표시됩니다.")
+    public ResponseEntity<Slice<SearchHitResponse>> fullTextSearch(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(incidentService.fullTextSearch(q, pageable));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "장애 수정", description = "장애 정보를 수정합니다.")
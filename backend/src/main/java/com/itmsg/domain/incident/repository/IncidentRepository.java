@@ -1,51 +1,52 @@
 package com.itmsg.domain.incident.repository;
 
 import com.itmsg.domain.incident.entity.Incident;
-import com.itmsg.domain.incident.entity.IncidentStatus;
-import com.itmsg.domain.incident.entity.Severity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.itmsg.global.common.repository.SearchHitRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Incident Repository
  */
 @Repository
-public interface IncidentRepository extends JpaRepository<Incident, Long> {
+public interface IncidentRepository extends JpaRepository<Incident, Long>, JpaSpecificationExecutor<Incident> {
     
     Optional<Incident> findByIncidentNumber(String incidentNumber);
     
-    boolean existsByIncidentNumber(String incidentNumber);
-    
-    @Query("SELECT COUNT(i) FROM Incident i " +
-           "WHERE EXTRACT(YEAR FROM i.createdAt) = :year " +
-           "AND EXTRACT(MONTH FROM i.createdAt) = :month " +
-           "AND i.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    /**
+     * 장애 번호로 장애 및 응답에 포함되는 연관 엔티티(담당자)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(i.version, 0)), '.', str(COALESCE(a.version, 0))) " +
+           "FROM Incident i " +
+           "LEFT JOIN i.assignee a " +
+           "WHERE i.incidentNumber = :incidentNumber")
+    Optional<String> findVersionByIncidentNumber(@Param("incidentNumber") String incidentNumber);
     
-    @Query("SELECT i FROM Incident i " +
-           "WHERE (:title IS NULL OR i.title LIKE %:title%) " +
-           "AND (:status IS NULL OR i.status = :status) " +
-           "AND (:severity IS NULL OR i.severity = :severity) " +
-           "AND (:assigneeId IS NULL OR i.assignee.id = :assigneeId) " +
-           "AND (:occurredStart IS NULL OR i.occurredAt >= :occurredStart) " +
-           "AND (:occurredEnd IS NULL OR i.occurredAt <= :occurredEnd) " +
-           "AND i.deletedAt IS NULL")
-    Page<Incident> search(@Param("title") String title,
-                         @Param("status") IncidentStatus status,
-                         @Param("severity") Severity severity,
-                         @Param("assigneeId") Long assigneeId,
-                         @Param("occurredStart") LocalDateTime occurredStart,
-                         @Param("occurredEnd") LocalDateTime occurredEnd,
-                         Pageable pageable);
-}
+    boolean existsByIncidentNumber(String incidentNumber);
 
+    @Query(value = "SELECT hit.id AS \"id\", hit.incident_number AS \"number\", hit.title AS \"title\", hit.status AS \"status\", " +
+                   "hit.score AS \"score\", " +
+                   "ts_headline('simple', hit.title, hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS \"titleHighlight\", " +
+                   "ts_headline('simple', coalesce(hit.resolution, ''), hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5') AS \"highlight\" " +
+                   "FROM (SELECT i.id, i.incident_number, i.title, i.status, i.resolution, q, " +
+                   "CAST(ts_rank(i.search_vector, q) AS DOUBLE PRECISION) AS score " +
+                   "FROM incidents i, to_tsquery('simple', :query) q " +
+                   "WHERE i.search_vector @@ q AND i.deleted_at IS NULL " +
+                   "ORDER BY score DESC, i.id DESC LIMIT :limit OFFSET :offset) hit " +
+                   "ORDER BY hit.score DESC, hit.id DESC",
+           nativeQuery = true)
+    List<SearchHitRow> fullTextSearch(@Param("query") String query,
+                                      @Param("limit") int limit,
+                                      @Param("offset") long offset);
+}
 
 
 
@@ -0,0 +1,31 @@
+package com.itmsg.domain.incident.repository;
+
+import com.itmsg.domain.incident.entity.Incident;
+import com.itmsg.domain.incident.entity.IncidentStatus;
+import com.itmsg.domain.incident.entity.Severity;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장애 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class IncidentSpecs {
+
+    private IncidentSpecs() {
+    }
+
+    public static Specification<Incident> search(String title, IncidentStatus status, Severity severity,
+                                                 Long assigneeId, LocalDateTime occurredStart,
+                                                 LocalDateTime occurredEnd) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("title", title),
+                Specs.equal("status", status),
+                Specs.equal("severity", severity),
+                Specs.equalId("assignee", assigneeId),
+                Specs.atLeast("occurredAt", occurredStart),
+                Specs.atMost("occurredAt", occurredEnd));
+    }
+}
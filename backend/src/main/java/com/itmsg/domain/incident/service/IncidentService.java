@@ -6,18 +6,38 @@ import com.itmsg.domain.incident.entity.Incident;
 import com.itmsg.domain.incident.entity.IncidentStatus;
 import com.itmsg.domain.incident.entity.Severity;
 import com.itmsg.domain.incident.repository.IncidentRepository;
+import com.itmsg.domain.incident.repository.IncidentSpecs;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.FacetQuery;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
+import com.itmsg.global.common.service.FacetService;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.common.util.TsQueries;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +48,16 @@ public class IncidentService {
     private final IncidentRepository incidentRepository;
     private final UserRepository userRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
+    private final FacetService facetService;
+    
+    private static final List<FacetQuery.Facet> FACETS = List.of(
+            new FacetQuery.Facet("status", "status"),
+            new FacetQuery.Facet("severity", "severity"),
+            new FacetQuery.Facet("incidentType", "incident_type"),
+            new FacetQuery.Facet("systemType", "system_type"));
     
     @Transactional
     public IncidentResponse createIncident(IncidentRequest request) {
@@ -50,6 +80,7 @@ public class IncidentService {
         
         Incident incident = incidentBuilder.build();
         Incident savedIncident = incidentRepository.save(incident);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.INCIDENT, savedIncident.getId(), savedIncident.getStatus(), savedIncident));
         
         log.info("장애 생성 완료: {}", savedIncident.getIncidentNumber());
         return IncidentResponse.from(savedIncident);
@@ -67,18 +98,64 @@ public class IncidentService {
         return IncidentResponse.from(incident);
     }
     
+    public String getIncidentByNumberETag(String incidentNumber) {
+        return incidentRepository.findVersionByIncidentNumber(incidentNumber)
+                .map(version -> ETags.of("incident", incidentNumber, version))
+                .orElse(null);
+    }
+    
     public Page<IncidentResponse> getIncidents(String title, IncidentStatus status, Severity severity, 
                                                Long assigneeId, LocalDateTime occurredStart, 
                                                LocalDateTime occurredEnd, Pageable pageable) {
-        // 모든 필터가 null이면 기본 findAll 사용 (PostgreSQL Enum 타입 이슈 우회)
-        if (title == null && status == null && severity == null && assigneeId == null && occurredStart == null && occurredEnd == null) {
-            return incidentRepository.findAll(pageable).map(IncidentResponse::from);
-        }
-        
-        return incidentRepository.search(title, status, severity, assigneeId, occurredStart, occurredEnd, pageable)
+        return incidentRepository.findAll(IncidentSpecs.search(title, status, severity, assigneeId, occurredStart, occurredEnd), pageable)
                 .map(IncidentResponse::from);
     }
     
+    public SliceResponse<IncidentResponse> getIncidentsSlice(String title, IncidentStatus status,
+                                                             Severity severity, Long assigneeId,
+                                                             LocalDateTime occurredStart,
+                                                             LocalDateTime occurredEnd, Pageable pageable,
+                                                             TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(getIncidents(title, status, severity, assigneeId, occurredStart, occurredEnd, pageable));
+        }
+        Slice<Incident> rows = sliceQuery.findSlice(
+                Incident.class, IncidentSpecs.search(title, status, severity, assigneeId, occurredStart, occurredEnd), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(rowFilter(title, status, severity, assigneeId, occurredStart, occurredEnd))
+                : null;
+        return SliceResponse.of(rows.map(IncidentResponse::from), total, totalMode);
+    }
+    
+    public FacetResponse getIncidentFacets(String title, IncidentStatus status, Severity severity,
+                                           Long assigneeId, LocalDateTime occurredStart,
+                                           LocalDateTime occurredEnd) {
+        return facetService.count(EntityType.INCIDENT,
+                rowFilter(title, status, severity, assigneeId, occurredStart, occurredEnd), FACETS);
+    }
+    
+    public CursorPage<IncidentResponse> getIncidentsByCursor(String title, IncidentStatus status,
+                                                             Severity severity, Long assigneeId,
+                                                             LocalDateTime occurredStart,
+                                                             LocalDateTime occurredEnd, String cursor,
+                                                             int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Incident> rows = incidentRepository.findBy(
+                IncidentSpecs.search(title, status, severity, assigneeId, occurredStart, occurredEnd)
+                        .and(Specs.seekBefore("occurredAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("occurredAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Incident::getOccurredAt, Incident::getId, IncidentResponse::from);
+    }
+    
+    public Slice<SearchHitResponse> fullTextSearch(String keyword, Pageable pageable) {
+        String query = TsQueries.prefixQuery(keyword);
+        if (query == null) {
+            return SearchHitResponse.toSlice(List.of(), pageable);
+        }
+        return SearchHitResponse.toSlice(
+                incidentRepository.fullTextSearch(query, pageable.getPageSize() + 1, pageable.getOffset()), pageable);
+    }
+    
     @Transactional
     public IncidentResponse updateIncident(Long id, IncidentRequest request) {
         Incident incident = incidentRepository.findById(id)
@@ -91,6 +168,7 @@ public class IncidentService {
         
         incident.updateIncident(request.title(), request.systemType(), request.businessArea(), 
                                request.severity(), assignee);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.INCIDENT, incident.getId(), incident.getStatus(), incident.getStatus(), incident));
         
         log.info("장애 수정 완료: {}", incident.getIncidentNumber());
         return IncidentResponse.from(incident);
@@ -101,7 +179,9 @@ public class IncidentService {
         Incident incident = incidentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INCIDENT_NOT_FOUND));
         
+        IncidentStatus previousStatus = incident.getStatus();
         incident.resolve(resolution);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.INCIDENT, incident.getId(), previousStatus, incident.getStatus(), incident));
         
         log.info("장애 해결 완료: {}", incident.getIncidentNumber());
         return IncidentResponse.from(incident);
@@ -112,7 +192,9 @@ public class IncidentService {
         Incident incident = incidentRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INCIDENT_NOT_FOUND));
         
+        IncidentStatus previousStatus = incident.getStatus();
         incident.close();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.INCIDENT, incident.getId(), previousStatus, incident.getStatus(), incident));
         
         log.info("장애 종료 완료: {}", incident.getIncidentNumber());
         return IncidentResponse.from(incident);
@@ -126,7 +208,9 @@ public class IncidentService {
         var assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
+        IncidentStatus previousStatus = incident.getStatus();
         incident.assignTo(assignee);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.INCIDENT, incident.getId(), previousStatus, incident.getStatus(), incident));
         
         log.info("장애 담당자 할당: {} -> {}", incident.getIncidentNumber(), assignee.getName());
         return IncidentResponse.from(incident);
@@ -138,9 +222,21 @@ public class IncidentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.INCIDENT_NOT_FOUND));
         
         incident.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.INCIDENT, incident.getId(), incident.getStatus(), incident));
         
         log.info("장애 삭제 완료: {}", incident.getIncidentNumber());
     }
+    
+    private RowFilter rowFilter(String title, IncidentStatus status, Severity severity, Long assigneeId,
+                                LocalDateTime occurredStart, LocalDateTime occurredEnd) {
+        return RowFilter.of("incidents")
+                .like("title", title)
+                .eq("status", status)
+                .eq("severity", severity)
+                .eq("assignee_id", assigneeId)
+                .ge("occurred_at", occurredStart)
+                .le("occurred_at", occurredEnd);
+    }
 }
 
 
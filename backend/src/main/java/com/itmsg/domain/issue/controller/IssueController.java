@@ -4,6 +4,12 @@ import com.itmsg.domain.issue.dto.IssueRequest;
 import com.itmsg.domain.issue.dto.IssueResponse;
 import com.itmsg.domain.issue.entity.IssueStatus;
 import com.itmsg.domain.issue.service.IssueService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,11 +17,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 이슈 관리 Controller
@@ -44,9 +52,9 @@ public class IssueController {
     
     @GetMapping("/number/{issueNumber}")
     @Operation(summary = "이슈 번호로 조회", description = "이슈 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<IssueResponse> getIssueByNumber(@PathVariable String issueNumber) {
-        IssueResponse response = issueService.getIssueByNumber(issueNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<IssueResponse> getIssueByNumber(@PathVariable String issueNumber, WebRequest webRequest) {
+        String etag = issueService.getIssueByNumberETag(issueNumber);
+        return ETags.conditional(webRequest, etag, () -> issueService.getIssueByNumber(issueNumber));
     }
     
     @GetMapping
@@ -60,6 +68,51 @@ public class IssueController {
         Page<IssueResponse> response = issueService.getIssues(title, status, reporterId, assigneeId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "이슈 목록 조회 (무한 스크롤)", description = "이슈 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<IssueResponse>> getIssuesSlice(
+            @Parameter(description = "이슈 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "이슈 상태") @RequestParam(required = false) IssueStatus status,
+            @Parameter(description = "보고자 ID") @RequestParam(required = false) Long reporterId,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "전체 건수 계산 방식 (NONE: 생략, ESTIMATE: 근사값, EXACT: 정확한 값)") @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(issueService.getIssuesSlice(
+                title, status, reporterId, assigneeId, pageable, total));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "이슈 목록 패싯 건수", description = "현재 검색 조건에서 상태별 이슈 건수를 조회합니다.")
+    public ResponseEntity<FacetResponse> getIssueFacets(
+            @Parameter(description = "이슈 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "이슈 상태") @RequestParam(required = false) IssueStatus status,
+            @Parameter(description = "보고자 ID") @RequestParam(required = false) Long reporterId,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(issueService.getIssueFacets(title, status, reporterId, assigneeId));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "이슈 목록 조회 (커서)", description = "이슈 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<IssueResponse>> getIssuesByCursor(
+            @Parameter(description = "이슈 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "이슈 상태") @RequestParam(required = false) IssueStatus status,
+            @Parameter(description = "보고자 ID") @RequestParam(required = false) Long reporterId,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(issueService.getIssuesByCursor(
+                title, status, reporterId, assigneeId, cursor, size));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "이슈 전문 검색", description = "제목과 내용에서 검색어(접두어 일치)를 찾아 관련도순으로 조회합니다. "
+            + "일치 구간은 <mark> 로 표시됩니다.")
+    public ResponseEntity<Slice<SearchHitResponse>> fullTextSearch(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(issueService.fullTextSearch(q, pageable));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "이슈 수정", description = "이슈 정보를 수정합니다.")
@@ -32,6 +32,13 @@ public record IssueResponse(
         String updatedBy
 ) {
     public static IssueResponse from(Issue issue) {
+        return from(issue, issue.getReporter().getName());
+    }
+
+    /**
+     * 보고자 이름을 따로 받아 변환 (보고자가 현재 사용자면 인증 정보의 이름을 넘겨 users 조회를 생략)
+     */
+    public static IssueResponse from(Issue issue, String reporterName) {
         return IssueResponse.builder()
                 .id(issue.getId())
                 .issueNumber(issue.getIssueNumber())
@@ -45,7 +52,7 @@ public record IssueResponse(
                 .assigneeId(issue.getAssignee() != null ? issue.getAssignee().getId() : null)
                 .assigneeName(issue.getAssignee() != null ? issue.getAssignee().getName() : null)
                 .reporterId(issue.getReporter().getId())
-                .reporterName(issue.getReporter().getName())
+                .reporterName(reporterName)
                 .parentIssueId(issue.getParentIssue() != null ? issue.getParentIssue().getId() : null)
                 .parentIssueNumber(issue.getParentIssue() != null ? issue.getParentIssue().getIssueNumber() : null)
                 .createdAt(issue.getCreatedAt())
@@ -1,45 +1,56 @@
 package com.itmsg.domain.issue.repository;
 
 import com.itmsg.domain.issue.entity.Issue;
-import com.itmsg.domain.issue.entity.IssueStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.itmsg.global.common.repository.SearchHitRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Issue Repository
  */
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue> {
     
     Optional<Issue> findByIssueNumber(String issueNumber);
     
-    boolean existsByIssueNumber(String issueNumber);
-    
-    @Query("SELECT COUNT(i) FROM Issue i " +
-           "WHERE EXTRACT(YEAR FROM i.createdAt) = :year " +
-           "AND EXTRACT(MONTH FROM i.createdAt) = :month " +
-           "AND i.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    /**
+     * 이슈 번호로 이슈 및 응답에 포함되는 연관 엔티티(SR, SPEC, 담당자, 보고자, 상위 이슈)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(i.version, 0)), '.', str(COALESCE(sr.version, 0)), '.', str(COALESCE(s.version, 0)), '.', str(COALESCE(a.version, 0)), '.', str(COALESCE(u.version, 0)), '.', str(COALESCE(pi.version, 0))) " +
+           "FROM Issue i " +
+           "LEFT JOIN i.serviceRequest sr " +
+           "LEFT JOIN i.specification s " +
+           "LEFT JOIN i.assignee a " +
+           "LEFT JOIN i.reporter u " +
+           "LEFT JOIN i.parentIssue pi " +
+           "WHERE i.issueNumber = :issueNumber")
+    Optional<String> findVersionByIssueNumber(@Param("issueNumber") String issueNumber);
     
-    @Query("SELECT i FROM Issue i " +
-           "WHERE (:title IS NULL OR i.title LIKE %:title%) " +
-           "AND (:status IS NULL OR i.status = :status) " +
-           "AND (:reporterId IS NULL OR i.reporter.id = :reporterId) " +
-           "AND (:assigneeId IS NULL OR i.assignee.id = :assigneeId) " +
-           "AND i.deletedAt IS NULL")
-    Page<Issue> search(@Param("title") String title,
-                      @Param("status") IssueStatus status,
-                      @Param("reporterId") Long reporterId,
-                      @Param("assigneeId") Long assigneeId,
-                      Pageable pageable);
-}
+    boolean existsByIssueNumber(String issueNumber);
 
+    @Query(value = "SELECT hit.id AS \"id\", hit.issue_number AS \"number\", hit.title AS \"title\", hit.status AS \"status\", " +
+                   "hit.score AS \"score\", " +
+                   "ts_headline('simple', hit.title, hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS \"titleHighlight\", " +
+                   "ts_headline('simple', coalesce(hit.content, ''), hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5') AS \"highlight\" " +
+                   "FROM (SELECT i.id, i.issue_number, i.title, i.status, i.content, q, " +
+                   "CAST(ts_rank(i.search_vector, q) AS DOUBLE PRECISION) AS score " +
+                   "FROM issues i, to_tsquery('simple', :query) q " +
+                   "WHERE i.search_vector @@ q AND i.deleted_at IS NULL " +
+                   "ORDER BY score DESC, i.id DESC LIMIT :limit OFFSET :offset) hit " +
+                   "ORDER BY hit.score DESC, hit.id DESC",
+           nativeQuery = true)
+    List<SearchHitRow> fullTextSearch(@Param("query") String query,
+                                      @Param("limit") int limit,
+                                      @Param("offset") long offset);
+}
 
 
 
@@ -0,0 +1,24 @@
+package com.itmsg.domain.issue.repository;
+
+import com.itmsg.domain.issue.entity.Issue;
+import com.itmsg.domain.issue.entity.IssueStatus;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 이슈 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class IssueSpecs {
+
+    private IssueSpecs() {
+    }
+
+    public static Specification<Issue> search(String title, IssueStatus status, Long reporterId, Long assigneeId) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("title", title),
+                Specs.equal("status", status),
+                Specs.equalId("reporter", reporterId),
+                Specs.equalId("assignee", assigneeId));
+    }
+}
@@ -5,22 +5,43 @@ import com.itmsg.domain.issue.dto.IssueResponse;
 import com.itmsg.domain.issue.entity.Issue;
 import com.itmsg.domain.issue.entity.IssueStatus;
 import com.itmsg.domain.issue.repository.IssueRepository;
+import com.itmsg.domain.issue.repository.IssueSpecs;
 import com.itmsg.domain.spec.repository.SpecificationRepository;
 import com.itmsg.domain.sr.repository.ServiceRequestRepository;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.FacetQuery;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
+import com.itmsg.global.common.service.FacetService;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.common.util.TsQueries;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 이슈 관리 서비스
  */
@@ -35,6 +56,13 @@ public class IssueService {
     private final ServiceRequestRepository serviceRequestRepository;
     private final SpecificationRepository specificationRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
+    private final FacetService facetService;
+    
+    private static final List<FacetQuery.Facet> FACETS = List.of(
+            new FacetQuery.Facet("status", "status"));
     
     /**
      * 이슈 등록
@@ -90,9 +118,13 @@ public class IssueService {
         
         Issue issue = issueBuilder.build();
         Issue savedIssue = issueRepository.save(issue);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.ISSUE, savedIssue.getId(), savedIssue.getStatus(), savedIssue));
         
         log.info("이슈 생성 완료: {}", savedIssue.getIssueNumber());
-        return IssueResponse.from(savedIssue);
+        String reporterName = request.reporterId() != null
+                ? reporter.getName()
+                : AuthenticatedUser.current().getDisplayName();
+        return IssueResponse.from(savedIssue, reporterName);
     }
     
     /**
@@ -113,14 +145,71 @@ public class IssueService {
         return IssueResponse.from(issue);
     }
     
+    /**
+     * 이슈 번호 조회 ETag (없으면 null)
+     */
+    public String getIssueByNumberETag(String issueNumber) {
+        return issueRepository.findVersionByIssueNumber(issueNumber)
+                .map(version -> ETags.of("issue", issueNumber, version))
+                .orElse(null);
+    }
+    
     /**
      * 이슈 목록 조회
      */
     public Page<IssueResponse> getIssues(String title, IssueStatus status, Long reporterId, Long assigneeId, Pageable pageable) {
-        return issueRepository.search(title, status, reporterId, assigneeId, pageable)
+        return issueRepository.findAll(IssueSpecs.search(title, status, reporterId, assigneeId), pageable)
                 .map(IssueResponse::from);
     }
     
+    /**
+     * 이슈 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<IssueResponse> getIssuesSlice(String title, IssueStatus status, Long reporterId,
+                                                       Long assigneeId, Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(getIssues(title, status, reporterId, assigneeId, pageable));
+        }
+        Slice<Issue> rows = sliceQuery.findSlice(
+                Issue.class, IssueSpecs.search(title, status, reporterId, assigneeId), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(rowFilter(title, status, reporterId, assigneeId))
+                : null;
+        return SliceResponse.of(rows.map(IssueResponse::from), total, totalMode);
+    }
+    
+    /**
+     * 이슈 목록 패싯 건수 (상태별 건수)
+     */
+    public FacetResponse getIssueFacets(String title, IssueStatus status, Long reporterId, Long assigneeId) {
+        return facetService.count(EntityType.ISSUE, rowFilter(title, status, reporterId, assigneeId), FACETS);
+    }
+    
+    /**
+     * 이슈 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<IssueResponse> getIssuesByCursor(String title, IssueStatus status, Long reporterId,
+                                                       Long assigneeId, String cursor, int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Issue> rows = issueRepository.findBy(
+                IssueSpecs.search(title, status, reporterId, assigneeId)
+                        .and(Specs.seekBefore("createdAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("createdAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Issue::getCreatedAt, Issue::getId, IssueResponse::from);
+    }
+    
+    /**
+     * 이슈 전문 검색 (제목 + 내용, 관련도순, 일치 구간 하이라이트)
+     */
+    public Slice<SearchHitResponse> fullTextSearch(String keyword, Pageable pageable) {
+        String query = TsQueries.prefixQuery(keyword);
+        if (query == null) {
+            return SearchHitResponse.toSlice(List.of(), pageable);
+        }
+        return SearchHitResponse.toSlice(
+                issueRepository.fullTextSearch(query, pageable.getPageSize() + 1, pageable.getOffset()), pageable);
+    }
+    
     /**
      * 이슈 수정
      */
@@ -136,6 +225,7 @@ public class IssueService {
                 : null;
         
         issue.updateIssue(request.title(), request.content(), assignee);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ISSUE, issue.getId(), issue.getStatus(), issue.getStatus(), issue));
         
         log.info("이슈 수정 완료: {}", issue.getIssueNumber());
         return IssueResponse.from(issue);
@@ -149,7 +239,9 @@ public class IssueService {
         Issue issue = issueRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ISSUE_NOT_FOUND));
         
+        IssueStatus previousStatus = issue.getStatus();
         issue.updateStatus(status);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ISSUE, issue.getId(), previousStatus, issue.getStatus(), issue));
         
         log.info("이슈 상태 변경: {} -> {}", issue.getIssueNumber(), status);
         return IssueResponse.from(issue);
@@ -167,6 +259,7 @@ public class IssueService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
         issue.assignTo(assignee);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.ISSUE, issue.getId(), issue.getStatus(), issue.getStatus(), issue));
         
         log.info("이슈 담당자 할당: {} -> {}", issue.getIssueNumber(), assignee.getName());
         return IssueResponse.from(issue);
@@ -181,18 +274,27 @@ public class IssueService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ISSUE_NOT_FOUND));
         
         issue.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.ISSUE, issue.getId(), issue.getStatus(), issue));
         
         log.info("이슈 삭제 완료: {}", issue.getIssueNumber());
     }
     
     /**
-     * 현재 로그인한 사용자 조회
+     * 현재 로그인한 사용자 참조 (토큰의 사용자 id 로 만든 프록시, DB 조회 없음)
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return userRepository.getReferenceById(AuthenticatedUser.current().getUserId());
+    }
+    
+    /**
+     * 목록 검색 조건의 테이블 조건 (건수 추정/패싯 집계용)
+     */
+    private RowFilter rowFilter(String title, IssueStatus status, Long reporterId, Long assigneeId) {
+        return RowFilter.of("issues")
+                .like("title", title)
+                .eq("status", status)
+                .eq("reporter_id", reporterId)
+                .eq("assignee_id", assigneeId);
     }
 }
 
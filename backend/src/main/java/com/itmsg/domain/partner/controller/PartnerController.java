@@ -5,6 +5,8 @@ import com.itmsg.domain.partner.dto.PartnerResponse;
 import com.itmsg.domain.partner.service.PartnerService;
 import com.itmsg.domain.project.dto.ProjectResponse;
 import com.itmsg.domain.project.service.ProjectService;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +19,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -60,11 +63,20 @@ public class PartnerController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/suggest")
+    @Operation(summary = "파트너 자동완성", description = "파트너명 또는 코드로 운영 중인 파트너를 찾아 id/이름만 반환합니다. 오타를 허용합니다.")
+    public ResponseEntity<List<SuggestionResponse>> suggestPartners(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(partnerService.suggestPartners(q, limit));
+    }
+
     @GetMapping("/for-company-selection")
-    @Operation(summary = "회사 선택용 파트너 목록 조회", description = "프로젝트 등록 시 회사 선택에 사용할 파트너 목록을 조회합니다.")
-    public ResponseEntity<List<PartnerResponse>> getPartnersForCompanySelection() {
-        List<PartnerResponse> response = partnerService.getPartnersForCompanySelection();
-        return ResponseEntity.ok(response);
+    @Operation(summary = "회사 선택용 파트너 목록 조회", description = "프로젝트 등록 시 회사 선택에 사용할 파트너 목록을 조회합니다. "
+            + "If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
+    public ResponseEntity<List<PartnerResponse>> getPartnersForCompanySelection(WebRequest webRequest) {
+        return ETags.conditional(webRequest, partnerService.getPartnersForCompanySelectionETag(),
+                partnerService::getPartnersForCompanySelection);
     }
     
     @PutMapping("/{id}")
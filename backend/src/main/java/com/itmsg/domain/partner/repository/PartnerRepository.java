@@ -1,9 +1,10 @@
 package com.itmsg.domain.partner.repository;
 
 import com.itmsg.domain.partner.entity.Partner;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.itmsg.global.common.repository.SuggestionRow;
+import com.itmsg.global.common.repository.VersionStamp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,20 +16,39 @@ import java.util.Optional;
  * Partner Repository
  */
 @Repository
-public interface PartnerRepository extends JpaRepository<Partner, Long> {
+public interface PartnerRepository extends JpaRepository<Partner, Long>, JpaSpecificationExecutor<Partner> {
     
     Optional<Partner> findByCode(String code);
 
     boolean existsByCode(String code);
-    
-    @Query("SELECT p FROM Partner p " +
-           "WHERE (:name IS NULL OR p.name LIKE %:name%) " +
-           "AND (:isClosed IS NULL OR p.isClosed = :isClosed) " +
-           "AND p.deletedAt IS NULL")
-    Page<Partner> search(@Param("name") String name,
-                        @Param("isClosed") Boolean isClosed,
-                        Pageable pageable);
 
     // 회사 선택용 파트너 목록 조회 (폐업되지 않은 파트너, 이름순 정렬)
     List<Partner> findByIsClosedFalseOrderByNameAsc();
+
+    // 파트너 테이블 버전 집계 (회사 선택용 목록 ETag 계산)
+    @Query("SELECT COUNT(p) AS rowCount, MAX(p.updatedAt) AS lastUpdatedAt, " +
+           "COALESCE(SUM(p.version), 0) AS versionSum FROM Partner p")
+    VersionStamp findVersionStamp();
+
+    // 파트너 관리자/PM 사용자 버전 집계 (회사 선택용 목록에 이름이 포함되므로 ETag 에 함께 반영)
+    @Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastUpdatedAt, " +
+           "COALESCE(SUM(u.version), 0) AS versionSum FROM User u " +
+           "WHERE u.id IN (SELECT p.manager.id FROM Partner p) " +
+           "OR u.id IN (SELECT pm.id FROM Partner p JOIN p.pms pm)")
+    VersionStamp findMemberVersionStamp();
+
+    // 자동완성 검색 (폐업되지 않은 파트너의 이름/코드, 부분 일치 + 오타 허용 유사도)
+    @Query(value = "SELECT p.id AS \"id\", p.name AS \"label\", p.code AS \"detail\" " +
+                   "FROM partners p " +
+                   "WHERE p.deleted_at IS NULL AND p.is_closed IS NOT TRUE " +
+                   "AND (p.name ILIKE :pattern OR p.code ILIKE :pattern " +
+                   "OR :query <% p.name OR :query <% p.code) " +
+                   "ORDER BY (p.name ILIKE :prefix OR p.code ILIKE :prefix) DESC, " +
+                   "GREATEST(word_similarity(:query, p.name), word_similarity(:query, p.code)) DESC, p.name, p.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionRow> suggest(@Param("query") String query,
+                                @Param("pattern") String pattern,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit);
 }
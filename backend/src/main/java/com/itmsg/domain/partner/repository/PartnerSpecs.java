@@ -0,0 +1,21 @@
+package com.itmsg.domain.partner.repository;
+
+import com.itmsg.domain.partner.entity.Partner;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 파트너 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class PartnerSpecs {
+
+    private PartnerSpecs() {
+    }
+
+    public static Specification<Partner> search(String name, Boolean isClosed) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("name", name),
+                Specs.equal("isClosed", isClosed));
+    }
+}
@@ -4,12 +4,19 @@ import com.itmsg.domain.partner.dto.PartnerRequest;
 import com.itmsg.domain.partner.dto.PartnerResponse;
 import com.itmsg.domain.partner.entity.Partner;
 import com.itmsg.domain.partner.repository.PartnerRepository;
+import com.itmsg.domain.partner.repository.PartnerSpecs;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Typeahead;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +34,7 @@ public class PartnerService {
     private final PartnerRepository partnerRepository;
     private final UserRepository userRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public PartnerResponse createPartner(PartnerRequest request) {
@@ -54,6 +62,7 @@ public class PartnerService {
 
         Partner partner = partnerBuilder.build();
         Partner savedPartner = partnerRepository.save(partner);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.PARTNER, savedPartner.getId(), null, savedPartner));
 
         log.info("파트너 생성 완료: {}", savedPartner.getCode());
         return PartnerResponse.from(savedPartner);
@@ -72,9 +81,26 @@ public class PartnerService {
     }
     
     public Page<PartnerResponse> getPartners(String name, Boolean isClosed, Pageable pageable) {
-        return partnerRepository.search(name, isClosed, pageable)
+        return partnerRepository.findAll(PartnerSpecs.search(name, isClosed), pageable)
                 .map(PartnerResponse::from);
     }
+    
+    public List<SuggestionResponse> suggestPartners(String query, int limit) {
+        String normalized = Typeahead.normalize(query);
+        if (normalized == null) {
+            return List.of();
+        }
+        return partnerRepository.suggest(normalized, Typeahead.containsPattern(normalized),
+                        Typeahead.prefixPattern(normalized), Typeahead.limit(limit))
+                .stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+
+    public String getPartnersForCompanySelectionETag() {
+        return ETags.of("partners-selection", partnerRepository.findVersionStamp(),
+                partnerRepository.findMemberVersionStamp());
+    }
 
     public List<PartnerResponse> getPartnersForCompanySelection() {
         List<Partner> partners = partnerRepository.findByIsClosedFalseOrderByNameAsc();
@@ -103,6 +129,7 @@ public class PartnerService {
         }
 
         partner.updatePartner(request.name(), request.ceoName(), manager, pms, request.isClosed());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PARTNER, partner.getId(), null, null, partner));
 
         log.info("파트너 수정 완료: {}", partner.getCode());
         return PartnerResponse.from(partner);
@@ -114,6 +141,7 @@ public class PartnerService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTNER_NOT_FOUND));
         
         partner.close();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PARTNER, partner.getId(), null, null, partner));
         
         log.info("파트너 폐업 처리: {}", partner.getCode());
         return PartnerResponse.from(partner);
@@ -125,6 +153,7 @@ public class PartnerService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTNER_NOT_FOUND));
         
         partner.reopen();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PARTNER, partner.getId(), null, null, partner));
         
         log.info("파트너 재개업 처리: {}", partner.getCode());
         return PartnerResponse.from(partner);
@@ -137,6 +166,7 @@ public class PartnerService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PARTNER_NOT_FOUND));
 
         partner.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.PARTNER, partner.getId(), null, partner));
 
         log.info("파트너 삭제 완료: {}", partner.getCode());
     }
@@ -5,6 +5,10 @@ import com.itmsg.domain.project.dto.ProjectResponse;
 import com.itmsg.domain.project.entity.ProjectStatus;
 import com.itmsg.domain.project.entity.ProjectType;
 import com.itmsg.domain.project.service.ProjectService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.dto.TotalMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -18,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 프로젝트 Controller
@@ -59,6 +64,44 @@ public class ProjectController {
                 name, projectType, status, companyId, startDate, endDate, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "프로젝트 자동완성", description = "프로젝트명 또는 코드로 프로젝트를 찾아 id/이름만 반환합니다. 오타를 허용합니다.")
+    public ResponseEntity<List<SuggestionResponse>> suggestProjects(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(projectService.suggestProjects(q, limit));
+    }
+
+    @GetMapping("/slice")
+    @Operation(summary = "프로젝트 목록 조회 (무한 스크롤)", description = "프로젝트 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<ProjectResponse>> searchProjectsSlice(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) ProjectType projectType,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(projectService.searchProjectsSlice(
+                name, projectType, status, companyId, startDate, endDate, pageable, total));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "프로젝트 목록 조회 (커서)", description = "프로젝트 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<ProjectResponse>> searchProjectsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) ProjectType projectType,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(projectService.searchProjectsByCursor(
+                name, projectType, status, companyId, startDate, endDate, cursor, size));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "프로젝트 수정", description = "프로젝트 정보를 수정합니다.")
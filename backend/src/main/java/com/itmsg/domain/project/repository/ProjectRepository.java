@@ -2,15 +2,15 @@ package com.itmsg.domain.project.repository;
 
 import com.itmsg.domain.project.entity.Project;
 import com.itmsg.domain.project.entity.ProjectStatus;
-import com.itmsg.domain.project.entity.ProjectType;
+import com.itmsg.global.common.repository.SuggestionRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +18,7 @@ import java.util.Optional;
  * 프로젝트 Repository
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
     
     /**
      * 프로젝트 코드로 조회
@@ -42,25 +42,6 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p WHERE p.status = :status AND p.deletedAt IS NULL")
     List<Project> findByStatus(@Param("status") ProjectStatus status);
     
-    /**
-     * 검색 및 필터링
-     */
-    @Query("SELECT p FROM Project p " +
-           "WHERE (:name IS NULL OR p.name LIKE %:name%) " +
-           "AND (:projectType IS NULL OR p.projectType = :projectType) " +
-           "AND (:status IS NULL OR p.status = :status) " +
-           "AND (:companyId IS NULL OR p.company.id = :companyId) " +
-           "AND (:startDate IS NULL OR p.startDate >= :startDate) " +
-           "AND (:endDate IS NULL OR p.endDate <= :endDate) " +
-           "AND p.deletedAt IS NULL")
-    Page<Project> search(@Param("name") String name,
-                         @Param("projectType") ProjectType projectType,
-                         @Param("status") ProjectStatus status,
-                         @Param("companyId") Long companyId,
-                         @Param("startDate") LocalDate startDate,
-                         @Param("endDate") LocalDate endDate,
-                         Pageable pageable);
-    
     /**
      * PM이 관리하는 프로젝트 목록
      */
@@ -72,4 +53,21 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     @Query("SELECT p FROM Project p WHERE p.pm.id = :pmId AND p.deletedAt IS NULL")
     Page<Project> findByPmId(@Param("pmId") Long pmId, Pageable pageable);
+
+    /**
+     * 자동완성 검색 (프로젝트명/코드, 부분 일치 + 오타 허용 유사도)
+     */
+    @Query(value = "SELECT p.id AS \"id\", p.name AS \"label\", p.code AS \"detail\" " +
+                   "FROM projects p " +
+                   "WHERE p.deleted_at IS NULL " +
+                   "AND (p.name ILIKE :pattern OR p.code ILIKE :pattern " +
+                   "OR :query <% p.name OR :query <% p.code) " +
+                   "ORDER BY (p.name ILIKE :prefix OR p.code ILIKE :prefix) DESC, " +
+                   "GREATEST(word_similarity(:query, p.name), word_similarity(:query, p.code)) DESC, p.name, p.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionRow> suggest(@Param("query") String query,
+                                @Param("pattern") String pattern,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit);
 }
@@ -0,0 +1,30 @@
+package com.itmsg.domain.project.repository;
+
+import com.itmsg.domain.project.entity.Project;
+import com.itmsg.domain.project.entity.ProjectStatus;
+import com.itmsg.domain.project.entity.ProjectType;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class ProjectSpecs {
+
+    private ProjectSpecs() {
+    }
+
+    public static Specification<Project> search(String name, ProjectType projectType, ProjectStatus status,
+                                                Long companyId, LocalDate startDate, LocalDate endDate) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("name", name),
+                Specs.equal("projectType", projectType),
+                Specs.equal("status", status),
+                Specs.equalId("company", companyId),
+                Specs.atLeast("startDate", startDate),
+                Specs.atMost("endDate", endDate));
+    }
+}
@@ -10,19 +10,35 @@ import com.itmsg.domain.project.entity.Project;
 import com.itmsg.domain.project.entity.ProjectStatus;
 import com.itmsg.domain.project.entity.ProjectType;
 import com.itmsg.domain.project.repository.ProjectRepository;
+import com.itmsg.domain.project.repository.ProjectSpecs;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.common.util.Typeahead;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -37,6 +53,9 @@ public class ProjectService {
     private final CompanyRepository companyRepository;
     private final PartnerService partnerService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
     
     /**
      * 프로젝트 등록
@@ -78,16 +97,12 @@ public class ProjectService {
                 }
             }
         } else {
-            // 현재 로그인한 사용자의 회사 조회
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-            if (currentUser.getCompany() == null) {
+            // 현재 로그인한 사용자의 회사 (토큰의 회사 id 로 참조만 생성)
+            Long companyId = AuthenticatedUser.current().getCompanyId();
+            if (companyId == null) {
                 throw new BusinessException(ErrorCode.COMPANY_NOT_FOUND);
             }
-            company = currentUser.getCompany();
+            company = companyRepository.getReferenceById(companyId);
         }
         
         // PM 조회 (선택사항)
@@ -112,6 +127,7 @@ public class ProjectService {
                 .build();
         
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.PROJECT, savedProject.getId(), savedProject.getStatus(), savedProject));
         return ProjectResponse.from(savedProject);
     }
     
@@ -131,11 +147,65 @@ public class ProjectService {
                                                  ProjectStatus status, Long companyId,
                                                  LocalDate startDate, LocalDate endDate,
                                                  Pageable pageable) {
-        Page<Project> projects = projectRepository.search(
-                name, projectType, status, companyId, startDate, endDate, pageable);
+        Page<Project> projects = projectRepository.findAll(
+                ProjectSpecs.search(name, projectType, status, companyId, startDate, endDate), pageable);
         return projects.map(ProjectResponse::from);
     }
     
+    /**
+     * 프로젝트 자동완성 검색
+     */
+    public List<SuggestionResponse> suggestProjects(String query, int limit) {
+        String normalized = Typeahead.normalize(query);
+        if (normalized == null) {
+            return List.of();
+        }
+        return projectRepository.suggest(normalized, Typeahead.containsPattern(normalized),
+                        Typeahead.prefixPattern(normalized), Typeahead.limit(limit))
+                .stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+    
+    /**
+     * 프로젝트 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<ProjectResponse> searchProjectsSlice(String name, ProjectType projectType,
+                                                              ProjectStatus status, Long companyId,
+                                                              LocalDate startDate, LocalDate endDate,
+                                                              Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(searchProjects(name, projectType, status, companyId, startDate, endDate, pageable));
+        }
+        Slice<Project> rows = sliceQuery.findSlice(
+                Project.class, ProjectSpecs.search(name, projectType, status, companyId, startDate, endDate), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(RowFilter.of("projects")
+                        .like("name", name)
+                        .eq("project_type", projectType)
+                        .eq("status", status)
+                        .eq("company_id", companyId)
+                        .ge("start_date", startDate)
+                        .le("end_date", endDate))
+                : null;
+        return SliceResponse.of(rows.map(ProjectResponse::from), total, totalMode);
+    }
+    
+    /**
+     * 프로젝트 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<ProjectResponse> searchProjectsByCursor(String name, ProjectType projectType,
+                                                              ProjectStatus status, Long companyId,
+                                                              LocalDate startDate, LocalDate endDate,
+                                                              String cursor, int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Project> rows = projectRepository.findBy(
+                ProjectSpecs.search(name, projectType, status, companyId, startDate, endDate)
+                        .and(Specs.seekBefore("createdAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("createdAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Project::getCreatedAt, Project::getId, ProjectResponse::from);
+    }
+    
     /**
      * 프로젝트 수정
      */
@@ -153,6 +223,7 @@ public class ProjectService {
                     .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
             project.assignPm(pm);
         }
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PROJECT, project.getId(), project.getStatus(), project.getStatus(), project));
         
         return ProjectResponse.from(project);
     }
@@ -165,7 +236,9 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
         
+        ProjectStatus previousStatus = project.getStatus();
         project.changeStatus(status);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.PROJECT, project.getId(), previousStatus, project.getStatus(), project));
         return ProjectResponse.from(project);
     }
     
@@ -177,6 +250,7 @@ public class ProjectService {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
         project.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.PROJECT, project.getId(), project.getStatus(), project));
     }
 
     /**
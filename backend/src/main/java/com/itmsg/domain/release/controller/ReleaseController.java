@@ -5,6 +5,10 @@ import com.itmsg.domain.release.dto.ReleaseResponse;
 import com.itmsg.domain.release.entity.ReleaseStatus;
 import com.itmsg.domain.release.entity.ReleaseType;
 import com.itmsg.domain.release.service.ReleaseService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,6 +21,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 릴리즈 관리 Controller
@@ -45,9 +50,9 @@ public class ReleaseController {
     
     @GetMapping("/number/{releaseNumber}")
     @Operation(summary = "릴리즈 번호로 조회", description = "릴리즈 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<ReleaseResponse> getReleaseByNumber(@PathVariable String releaseNumber) {
-        ReleaseResponse response = releaseService.getReleaseByNumber(releaseNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ReleaseResponse> getReleaseByNumber(@PathVariable String releaseNumber, WebRequest webRequest) {
+        String etag = releaseService.getReleaseByNumberETag(releaseNumber);
+        return ETags.conditional(webRequest, etag, () -> releaseService.getReleaseByNumber(releaseNumber));
     }
     
     @GetMapping
@@ -61,6 +66,32 @@ public class ReleaseController {
         Page<ReleaseResponse> response = releaseService.getReleases(title, releaseType, status, requesterId, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "릴리즈 목록 조회 (무한 스크롤)", description = "릴리즈 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<ReleaseResponse>> getReleasesSlice(
+            @Parameter(description = "릴리즈 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "릴리즈 유형") @RequestParam(required = false) ReleaseType releaseType,
+            @Parameter(description = "릴리즈 상태") @RequestParam(required = false) ReleaseStatus status,
+            @Parameter(description = "요청자 ID") @RequestParam(required = false) Long requesterId,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "전체 건수 계산 방식 (NONE: 생략, ESTIMATE: 근사값, EXACT: 정확한 값)") @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(releaseService.getReleasesSlice(
+                title, releaseType, status, requesterId, pageable, total));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "릴리즈 목록 조회 (커서)", description = "릴리즈 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<ReleaseResponse>> getReleasesByCursor(
+            @Parameter(description = "릴리즈 제목") @RequestParam(required = false) String title,
+            @Parameter(description = "릴리즈 유형") @RequestParam(required = false) ReleaseType releaseType,
+            @Parameter(description = "릴리즈 상태") @RequestParam(required = false) ReleaseStatus status,
+            @Parameter(description = "요청자 ID") @RequestParam(required = false) Long requesterId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(releaseService.getReleasesByCursor(
+                title, releaseType, status, requesterId, cursor, size));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "릴리즈 수정", description = "릴리즈 정보를 수정합니다.")
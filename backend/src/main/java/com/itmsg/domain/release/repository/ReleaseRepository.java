@@ -1,11 +1,8 @@
 package com.itmsg.domain.release.repository;
 
 import com.itmsg.domain.release.entity.Release;
-import com.itmsg.domain.release.entity.ReleaseStatus;
-import com.itmsg.domain.release.entity.ReleaseType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,29 +13,22 @@ import java.util.Optional;
  * Release Repository
  */
 @Repository
-public interface ReleaseRepository extends JpaRepository<Release, Long> {
+public interface ReleaseRepository extends JpaRepository<Release, Long>, JpaSpecificationExecutor<Release> {
     
     Optional<Release> findByReleaseNumber(String releaseNumber);
     
-    boolean existsByReleaseNumber(String releaseNumber);
-    
-    @Query("SELECT COUNT(r) FROM Release r " +
-           "WHERE EXTRACT(YEAR FROM r.createdAt) = :year " +
-           "AND EXTRACT(MONTH FROM r.createdAt) = :month " +
-           "AND r.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    /**
+     * 릴리즈 번호로 릴리즈 및 응답에 포함되는 연관 엔티티(요청자, 요청 부서, 승인자)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(r.version, 0)), '.', str(COALESCE(u.version, 0)), '.', str(COALESCE(d.version, 0)), '.', str(COALESCE(ap.version, 0))) " +
+           "FROM Release r " +
+           "LEFT JOIN r.requester u " +
+           "LEFT JOIN r.requesterDept d " +
+           "LEFT JOIN r.approver ap " +
+           "WHERE r.releaseNumber = :releaseNumber")
+    Optional<String> findVersionByReleaseNumber(@Param("releaseNumber") String releaseNumber);
     
-    @Query("SELECT r FROM Release r " +
-           "WHERE (:title IS NULL OR r.title LIKE %:title%) " +
-           "AND (:releaseType IS NULL OR r.releaseType = :releaseType) " +
-           "AND (:status IS NULL OR r.status = :status) " +
-           "AND (:requesterId IS NULL OR r.requester.id = :requesterId) " +
-           "AND r.deletedAt IS NULL")
-    Page<Release> search(@Param("title") String title,
-                        @Param("releaseType") ReleaseType releaseType,
-                        @Param("status") ReleaseStatus status,
-                        @Param("requesterId") Long requesterId,
-                        Pageable pageable);
+    boolean existsByReleaseNumber(String releaseNumber);
 }
 
 
@@ -0,0 +1,26 @@
+package com.itmsg.domain.release.repository;
+
+import com.itmsg.domain.release.entity.Release;
+import com.itmsg.domain.release.entity.ReleaseStatus;
+import com.itmsg.domain.release.entity.ReleaseType;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 릴리즈 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class ReleaseSpecs {
+
+    private ReleaseSpecs() {
+    }
+
+    public static Specification<Release> search(String title, ReleaseType releaseType,
+                                                ReleaseStatus status, Long requesterId) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("title", title),
+                Specs.equal("releaseType", releaseType),
+                Specs.equal("status", status),
+                Specs.equalId("requester", requesterId));
+    }
+}
@@ -7,17 +7,34 @@ import com.itmsg.domain.release.entity.Release;
 import com.itmsg.domain.release.entity.ReleaseStatus;
 import com.itmsg.domain.release.entity.ReleaseType;
 import com.itmsg.domain.release.repository.ReleaseRepository;
+import com.itmsg.domain.release.repository.ReleaseSpecs;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * 릴리즈 관리 서비스
  */
@@ -31,6 +48,9 @@ public class ReleaseService {
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
     
     /**
      * 릴리즈 등록
@@ -62,6 +82,7 @@ public class ReleaseService {
         
         Release release = releaseBuilder.build();
         Release savedRelease = releaseRepository.save(release);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.RELEASE, savedRelease.getId(), savedRelease.getStatus(), savedRelease));
         
         log.info("릴리즈 생성 완료: {}", savedRelease.getReleaseNumber());
         return ReleaseResponse.from(savedRelease);
@@ -85,14 +106,58 @@ public class ReleaseService {
         return ReleaseResponse.from(release);
     }
     
+    /**
+     * 릴리즈 번호 조회 ETag (없으면 null)
+     */
+    public String getReleaseByNumberETag(String releaseNumber) {
+        return releaseRepository.findVersionByReleaseNumber(releaseNumber)
+                .map(version -> ETags.of("release", releaseNumber, version))
+                .orElse(null);
+    }
+    
     /**
      * 릴리즈 목록 조회
      */
     public Page<ReleaseResponse> getReleases(String title, ReleaseType releaseType, ReleaseStatus status, Long requesterId, Pageable pageable) {
-        return releaseRepository.search(title, releaseType, status, requesterId, pageable)
+        return releaseRepository.findAll(ReleaseSpecs.search(title, releaseType, status, requesterId), pageable)
                 .map(ReleaseResponse::from);
     }
     
+    /**
+     * 릴리즈 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<ReleaseResponse> getReleasesSlice(String title, ReleaseType releaseType,
+                                                           ReleaseStatus status, Long requesterId,
+                                                           Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(getReleases(title, releaseType, status, requesterId, pageable));
+        }
+        Slice<Release> rows = sliceQuery.findSlice(
+                Release.class, ReleaseSpecs.search(title, releaseType, status, requesterId), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(RowFilter.of("releases")
+                        .like("title", title)
+                        .eq("release_type", releaseType)
+                        .eq("status", status)
+                        .eq("requester_id", requesterId))
+                : null;
+        return SliceResponse.of(rows.map(ReleaseResponse::from), total, totalMode);
+    }
+    
+    /**
+     * 릴리즈 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<ReleaseResponse> getReleasesByCursor(String title, ReleaseType releaseType,
+                                                           ReleaseStatus status, Long requesterId,
+                                                           String cursor, int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Release> rows = releaseRepository.findBy(
+                ReleaseSpecs.search(title, releaseType, status, requesterId)
+                        .and(Specs.seekBefore("createdAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("createdAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Release::getCreatedAt, Release::getId, ReleaseResponse::from);
+    }
+    
     /**
      * 릴리즈 수정
      */
@@ -102,6 +167,7 @@ public class ReleaseService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_NOT_FOUND));
         
         release.updateRelease(request.title(), request.content(), request.scheduledAt());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.RELEASE, release.getId(), release.getStatus(), release.getStatus(), release));
         
         log.info("릴리즈 수정 완료: {}", release.getReleaseNumber());
         return ReleaseResponse.from(release);
@@ -118,7 +184,9 @@ public class ReleaseService {
         var approver = userRepository.findById(approverId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
+        ReleaseStatus previousStatus = release.getStatus();
         release.approve(approver);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.RELEASE, release.getId(), previousStatus, release.getStatus(), release));
         
         log.info("릴리즈 승인 완료: {} by {}", release.getReleaseNumber(), approver.getName());
         return ReleaseResponse.from(release);
@@ -136,7 +204,9 @@ public class ReleaseService {
             throw new BusinessException(ErrorCode.INVALID_RELEASE_STATUS);
         }
         
+        ReleaseStatus previousStatus = release.getStatus();
         release.deploy();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.RELEASE, release.getId(), previousStatus, release.getStatus(), release));
         
         log.info("릴리즈 배포 완료: {}", release.getReleaseNumber());
         return ReleaseResponse.from(release);
@@ -150,7 +220,9 @@ public class ReleaseService {
         Release release = releaseRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_NOT_FOUND));
         
+        ReleaseStatus previousStatus = release.getStatus();
         release.cancel();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.RELEASE, release.getId(), previousStatus, release.getStatus(), release));
         
         log.info("릴리즈 취소 완료: {}", release.getReleaseNumber());
         return ReleaseResponse.from(release);
@@ -165,6 +237,7 @@ public class ReleaseService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RELEASE_NOT_FOUND));
         
         release.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.RELEASE, release.getId(), release.getStatus(), release));
         
         log.info("릴리즈 삭제 완료: {}", release.getReleaseNumber());
     }
@@ -0,0 +1,65 @@
+package com.itmsg.domain.savedsearch.controller;
+
+import com.itmsg.domain.savedsearch.dto.SavedSearchRequest;
+import com.itmsg.domain.savedsearch.dto.SavedSearchResponse;
+import com.itmsg.domain.savedsearch.dto.SavedSearchResultResponse;
+import com.itmsg.domain.savedsearch.service.SavedSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 저장된 검색 Controller
+ */
+@RestController
+@RequestMapping("/api/saved-searches")
+@RequiredArgsConstructor
+@Tag(name = "SavedSearch", description = "저장된 검색 API")
+public class SavedSearchController {
+    
+    private final SavedSearchService savedSearchService;
+    
+    @PostMapping
+    @Operation(summary = "저장된 검색 등록", description = "SR/이슈/장애 목록 검색 조건을 저장합니다.")
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(@Valid @RequestBody SavedSearchRequest request) {
+        SavedSearchResponse response = savedSearchService.createSavedSearch(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @GetMapping
+    @Operation(summary = "내 저장된 검색 목록", description = "현재 사용자의 저장된 검색 목록을 조회합니다.")
+    public ResponseEntity<List<SavedSearchResponse>> getMySavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches());
+    }
+    
+    @GetMapping("/{id}/results")
+    @Operation(summary = "저장된 검색 실행", description = "저장된 조건으로 목록을 조회합니다. 기본 크기의 첫 페이지는 관련 변경이 있을 때까지 캐시됩니다.")
+    public ResponseEntity<SavedSearchResultResponse> run(
+            @PathVariable Long id,
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(savedSearchService.run(id, page, size));
+    }
+    
+    @PutMapping("/{id}")
+    @Operation(summary = "저장된 검색 수정", description = "저장된 검색의 이름과 조건을 수정합니다.")
+    public ResponseEntity<SavedSearchResponse> updateSavedSearch(
+            @PathVariable Long id,
+            @Valid @RequestBody SavedSearchRequest request) {
+        return ResponseEntity.ok(savedSearchService.updateSavedSearch(id, request));
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "저장된 검색 삭제", description = "저장된 검색을 삭제합니다.")
+    public ResponseEntity<Void> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.itmsg.domain.savedsearch.dto;
+
+import com.itmsg.domain.incident.entity.Severity;
+import com.itmsg.domain.sr.entity.SrType;
+import com.itmsg.global.common.event.EntityType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색 등록/수정 요청 DTO
+ * 조건은 대상 목록 API 의 검색 파라미터와 같다 (SR: title, srType, status, projectId, requesterId, startDate, endDate /
+ * ISSUE: title, status, reporterId, assigneeId / INCIDENT: title, status, severity, assigneeId, occurredStart, occurredEnd)
+ */
+@Builder
+public record SavedSearchRequest(
+        @NotBlank(message = "검색 이름은 필수입니다.")
+        @Size(max = 100, message = "검색 이름은 100자를 초과할 수 없습니다.")
+        String name,
+        
+        @NotNull(message = "검색 대상은 필수입니다.")
+        EntityType target,
+        
+        @Size(max = 200, message = "제목 조건은 200자를 초과할 수 없습니다.")
+        String title,
+        
+        String status,
+        
+        SrType srType,
+        
+        Severity severity,
+        
+        Long projectId,
+        
+        Long requesterId,
+        
+        Long reporterId,
+        
+        Long assigneeId,
+        
+        LocalDate startDate,
+        
+        LocalDate endDate,
+        
+        LocalDateTime occurredStart,
+        
+        LocalDateTime occurredEnd
+) {}
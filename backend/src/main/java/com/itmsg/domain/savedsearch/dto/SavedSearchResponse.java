@@ -0,0 +1,56 @@
+package com.itmsg.domain.savedsearch.dto;
+
+import com.itmsg.domain.incident.entity.Severity;
+import com.itmsg.domain.savedsearch.entity.SavedSearch;
+import com.itmsg.domain.sr.entity.SrType;
+import com.itmsg.global.common.event.EntityType;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색 응답 DTO
+ */
+@Builder
+public record SavedSearchResponse(
+        Long id,
+        String name,
+        EntityType target,
+        String title,
+        String status,
+        SrType srType,
+        Severity severity,
+        Long projectId,
+        Long requesterId,
+        Long reporterId,
+        Long assigneeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime occurredStart,
+        LocalDateTime occurredEnd,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static SavedSearchResponse from(SavedSearch savedSearch) {
+        return SavedSearchResponse.builder()
+                .id(savedSearch.getId())
+                .name(savedSearch.getName())
+                .target(savedSearch.getTarget())
+                .title(savedSearch.getTitle())
+                .status(savedSearch.getStatus())
+                .srType(savedSearch.getSrType())
+                .severity(savedSearch.getSeverity())
+                .projectId(savedSearch.getProjectId())
+                .requesterId(savedSearch.getRequesterId())
+                .reporterId(savedSearch.getReporterId())
+                .assigneeId(savedSearch.getAssigneeId())
+                .startDate(savedSearch.getStartDate())
+                .endDate(savedSearch.getEndDate())
+                .occurredStart(savedSearch.getOccurredStart())
+                .occurredEnd(savedSearch.getOccurredEnd())
+                .createdAt(savedSearch.getCreatedAt())
+                .updatedAt(savedSearch.getUpdatedAt())
+                .build();
+    }
+}
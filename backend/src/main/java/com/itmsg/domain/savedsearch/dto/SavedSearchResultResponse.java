@@ -0,0 +1,37 @@
+package com.itmsg.domain.savedsearch.dto;
+
+import com.itmsg.global.common.event.EntityType;
+import lombok.Builder;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 저장된 검색 실행 결과 DTO
+ * 첫 페이지는 캐시되며, computedAt 은 결과를 DB 에서 계산한 시각이다
+ */
+@Builder
+public record SavedSearchResultResponse(
+        Long savedSearchId,
+        EntityType target,
+        List<?> content,
+        int number,
+        int size,
+        long totalElements,
+        int totalPages,
+        LocalDateTime computedAt
+) {
+    public static SavedSearchResultResponse of(Long savedSearchId, EntityType target, Page<?> page) {
+        return SavedSearchResultResponse.builder()
+                .savedSearchId(savedSearchId)
+                .target(target)
+                .content(page.getContent())
+                .number(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.itmsg.domain.savedsearch.entity;
+
+import com.itmsg.domain.incident.entity.Severity;
+import com.itmsg.domain.sr.entity.SrType;
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 검색 Entity
+ * 대상(SR/이슈/장애) 목록 검색 조건을 사용자별로 저장한다 (null 인 조건은 적용하지 않음)
+ */
+@Entity
+@Table(name = "saved_searches")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SavedSearch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType target;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 30)
+    private String status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SrType srType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Severity severity;
+
+    private Long projectId;
+
+    private Long requesterId;
+
+    private Long reporterId;
+
+    private Long assigneeId;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private LocalDateTime occurredStart;
+
+    private LocalDateTime occurredEnd;
+
+    /**
+     * 이름/조건 수정 (대상은 바꿀 수 없음)
+     */
+    public void update(String name, String title, String status, SrType srType, Severity severity,
+                       Long projectId, Long requesterId, Long reporterId, Long assigneeId,
+                       LocalDate startDate, LocalDate endDate,
+                       LocalDateTime occurredStart, LocalDateTime occurredEnd) {
+        this.name = name;
+        this.title = title;
+        this.status = status;
+        this.srType = srType;
+        this.severity = severity;
+        this.projectId = projectId;
+        this.requesterId = requesterId;
+        this.reporterId = reporterId;
+        this.assigneeId = assigneeId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.occurredStart = occurredStart;
+        this.occurredEnd = occurredEnd;
+    }
+}
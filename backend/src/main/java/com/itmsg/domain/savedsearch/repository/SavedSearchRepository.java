@@ -0,0 +1,29 @@
+package com.itmsg.domain.savedsearch.repository;
+
+import com.itmsg.domain.savedsearch.entity.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장된 검색 Repository
+ */
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    /**
+     * 사용자의 저장된 검색 목록 (이름순)
+     */
+    @Query("SELECT s FROM SavedSearch s WHERE s.user.id = :userId AND s.deletedAt IS NULL ORDER BY s.name, s.id")
+    List<SavedSearch> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 저장된 검색 조회 (삭제되지 않은 것만)
+     */
+    @Query("SELECT s FROM SavedSearch s WHERE s.id = :id AND s.deletedAt IS NULL")
+    Optional<SavedSearch> findActiveById(@Param("id") Long id);
+}
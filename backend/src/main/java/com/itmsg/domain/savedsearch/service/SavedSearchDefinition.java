@@ -0,0 +1,107 @@
+package com.itmsg.domain.savedsearch.service;
+
+import com.itmsg.domain.incident.entity.Incident;
+import com.itmsg.domain.incident.entity.Severity;
+import com.itmsg.domain.issue.entity.Issue;
+import com.itmsg.domain.savedsearch.entity.SavedSearch;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.entity.SrType;
+import com.itmsg.global.common.event.EntityType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 저장된 검색 조건 스냅샷 (캐시 무효화 판단용)
+ * 목록 검색 Specification 과 같은 의미로 엔티티가 조건에 맞는지 메모리에서 판단한다.
+ */
+record SavedSearchDefinition(
+        Long id,
+        Long userId,
+        EntityType target,
+        String title,
+        String status,
+        SrType srType,
+        Severity severity,
+        Long projectId,
+        Long requesterId,
+        Long reporterId,
+        Long assigneeId,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime occurredStart,
+        LocalDateTime occurredEnd
+) {
+
+    static SavedSearchDefinition of(SavedSearch savedSearch) {
+        return new SavedSearchDefinition(savedSearch.getId(), savedSearch.getUser().getId(), savedSearch.getTarget(),
+                savedSearch.getTitle(), savedSearch.getStatus(), savedSearch.getSrType(), savedSearch.getSeverity(),
+                savedSearch.getProjectId(), savedSearch.getRequesterId(), savedSearch.getReporterId(),
+                savedSearch.getAssigneeId(), savedSearch.getStartDate(), savedSearch.getEndDate(),
+                savedSearch.getOccurredStart(), savedSearch.getOccurredEnd());
+    }
+
+    /**
+     * 엔티티가 조건에 맞는지 (상태는 인자로 받은 값으로 비교, 삭제 여부는 보지 않음)
+     */
+    boolean matches(Object entity, String entityStatus) {
+        if (!equal(status, entityStatus)) {
+            return false;
+        }
+        return switch (target) {
+            case SR -> {
+                ServiceRequest sr = (ServiceRequest) entity;
+                yield contains(sr.getTitle(), title)
+                        && equal(srType, sr.getSrType())
+                        && equal(projectId, sr.getProject() != null ? sr.getProject().getId() : null)
+                        && equal(requesterId, sr.getRequester() != null ? sr.getRequester().getId() : null)
+                        && within(sr.getRequestDate(), startDate, endDate);
+            }
+            case ISSUE -> {
+                Issue issue = (Issue) entity;
+                yield contains(issue.getTitle(), title)
+                        && equal(reporterId, issue.getReporter() != null ? issue.getReporter().getId() : null)
+                        && equal(assigneeId, issue.getAssignee() != null ? issue.getAssignee().getId() : null);
+            }
+            case INCIDENT -> {
+                Incident incident = (Incident) entity;
+                yield contains(incident.getTitle(), title)
+                        && equal(severity, incident.getSeverity())
+                        && equal(assigneeId, incident.getAssignee() != null ? incident.getAssignee().getId() : null)
+                        && within(incident.getOccurredAt(), occurredStart, occurredEnd);
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * 수정으로 값이 바뀔 수 있는 상태 외 컬럼(제목/담당자/심각도)에 조건이 있는지
+     * 이벤트에는 이전 상태만 있으므로, 이런 조건은 수정 전에 맞았는지 알 수 없다
+     */
+    boolean dependsOnMutableFields() {
+        return switch (target) {
+            case SR -> title != null;
+            case ISSUE -> title != null || assigneeId != null;
+            case INCIDENT -> title != null || severity != null || assigneeId != null;
+            default -> false;
+        };
+    }
+
+    private static boolean equal(Object expected, Object actual) {
+        return expected == null || Objects.equals(expected, actual);
+    }
+
+    private static boolean contains(String value, String keyword) {
+        return keyword == null || (value != null && value.contains(keyword));
+    }
+
+    private static <T extends Comparable<? super T>> boolean within(T value, T from, T to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return value != null
+                && (from == null || value.compareTo(from) >= 0)
+                && (to == null || value.compareTo(to) <= 0);
+    }
+}
@@ -0,0 +1,359 @@
+package com.itmsg.domain.savedsearch.service;
+
+import com.itmsg.domain.incident.entity.IncidentStatus;
+import com.itmsg.domain.incident.service.IncidentService;
+import com.itmsg.domain.issue.entity.IssueStatus;
+import com.itmsg.domain.issue.service.IssueService;
+import com.itmsg.domain.savedsearch.dto.SavedSearchRequest;
+import com.itmsg.domain.savedsearch.dto.SavedSearchResponse;
+import com.itmsg.domain.savedsearch.dto.SavedSearchResultResponse;
+import com.itmsg.domain.savedsearch.entity.SavedSearch;
+import com.itmsg.domain.savedsearch.repository.SavedSearchRepository;
+import com.itmsg.domain.spec.entity.Specification;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.entity.SrStatus;
+import com.itmsg.domain.sr.repository.ServiceRequestRepository;
+import com.itmsg.domain.sr.repository.SrListViewRepository;
+import com.itmsg.domain.sr.service.ServiceRequestService;
+import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.cache.TtlCache;
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장된 검색 서비스
+ * 저장된 검색의 첫 페이지(건수 포함)를 검색 단위로 캐시하여, 관련 변경이 없으면 반복 실행에 DB 를 쓰지 않는다.
+ *
+ * - 캐시는 시간으로 만료시키지 않고, 대상 엔티티 변경이 커밋될 때 그 변경이 결과에 영향을 줄 수 있는 검색만 무효화한다
+ *   (변경 후 값 또는 이전 상태로 조건에 맞으면 무효화). saved-search.cache.ttl-ms 는 누락 대비 상한이다.
+ * - 이벤트에는 이전 상태만 있으므로, 제목/담당자/심각도 조건이 있는 검색은 같은 대상의 수정마다 무효화한다.
+ * - 결과 행에 이름이 복사되는 프로젝트/사용자가 수정되면 해당 대상의 검색을 모두 무효화한다.
+ * - SR 목록 행에는 명세서 번호/상태가 복사되므로, 명세서 변경은 연결된 SR 이 조건에 맞는 SR 검색을 무효화한다.
+ * - 캐시는 노드 단위이므로 다중 인스턴스에서는 다른 노드의 변경이 상한 시간까지 반영되지 않을 수 있다.
+ */
+@Service
+public class SavedSearchService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final UserRepository userRepository;
+    private final ServiceRequestService serviceRequestService;
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final SrListViewRepository srListViewRepository;
+    private final IssueService issueService;
+    private final IncidentService incidentService;
+    private final TtlCache<Long, SavedSearchResultResponse> results;
+    private final Counter invalidationCounter;
+    private final int pageSize;
+
+    /** 실행된 검색의 조건 (무효화 판단 및 DB 조회 없는 실행용) */
+    private final Map<Long, SavedSearchDefinition> definitions = new ConcurrentHashMap<>();
+
+    public SavedSearchService(
+            SavedSearchRepository savedSearchRepository,
+            UserRepository userRepository,
+            ServiceRequestService serviceRequestService,
+            ServiceRequestRepository serviceRequestRepository,
+            SrListViewRepository srListViewRepository,
+            IssueService issueService,
+            IncidentService incidentService,
+            MeterRegistry meterRegistry,
+            @Value("${saved-search.page-size:20}") int pageSize,
+            @Value("${saved-search.cache.ttl-ms:86400000}") long ttlMillis,
+            @Value("${saved-search.cache.max-entries:1000}") int maxEntries) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.userRepository = userRepository;
+        this.serviceRequestService = serviceRequestService;
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.srListViewRepository = srListViewRepository;
+        this.issueService = issueService;
+        this.incidentService = incidentService;
+        this.pageSize = Math.max(1, Math.min(pageSize, MAX_SIZE));
+        this.results = new TtlCache<>("saved-search", Duration.ofMillis(ttlMillis), maxEntries, meterRegistry);
+        this.invalidationCounter = Counter.builder("saved-search.invalidations")
+                .description("변경 이벤트로 무효화된 저장된 검색 결과 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 검색 등록
+     */
+    @Transactional
+    public SavedSearchResponse createSavedSearch(SavedSearchRequest request) {
+        validate(request);
+        SavedSearch savedSearch = SavedSearch.builder()
+                .user(userRepository.getReferenceById(currentUserId()))
+                .name(request.name())
+                .target(request.target())
+                .title(request.title())
+                .status(request.status())
+                .srType(request.srType())
+                .severity(request.severity())
+                .projectId(request.projectId())
+                .requesterId(request.requesterId())
+                .reporterId(request.reporterId())
+                .assigneeId(request.assigneeId())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .occurredStart(request.occurredStart())
+                .occurredEnd(request.occurredEnd())
+                .build();
+        return SavedSearchResponse.from(savedSearchRepository.save(savedSearch));
+    }
+
+    /**
+     * 내 저장된 검색 목록
+     */
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponse> getMySavedSearches() {
+        return savedSearchRepository.findByUserId(currentUserId()).stream()
+                .map(SavedSearchResponse::from)
+                .toList();
+    }
+
+    /**
+     * 저장된 검색 수정 (대상은 바꿀 수 없음)
+     */
+    @Transactional
+    public SavedSearchResponse updateSavedSearch(Long id, SavedSearchRequest request) {
+        SavedSearch savedSearch = findOwned(id);
+        if (request.target() != savedSearch.getTarget()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        validate(request);
+        savedSearch.update(request.name(), request.title(), request.status(), request.srType(), request.severity(),
+                request.projectId(), request.requesterId(), request.reporterId(), request.assigneeId(),
+                request.startDate(), request.endDate(), request.occurredStart(), request.occurredEnd());
+        afterCommit(() -> forget(id));
+        return SavedSearchResponse.from(savedSearch);
+    }
+
+    /**
+     * 저장된 검색 삭제
+     */
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        SavedSearch savedSearch = findOwned(id);
+        savedSearch.delete();
+        afterCommit(() -> forget(id));
+    }
+
+    /**
+     * 저장된 검색 실행
+     * 기본 크기의 첫 페이지는 캐시에서 반환하며, 다른 페이지/크기는 매번 조회한다.
+     */
+    public SavedSearchResultResponse run(Long id, int page, int size) {
+        Long userId = currentUserId();
+        SavedSearchDefinition definition = definitions.get(id);
+        if (definition == null) {
+            definition = savedSearchRepository.findActiveById(id)
+                    .map(SavedSearchDefinition::of)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.SAVED_SEARCH_NOT_FOUND));
+            definitions.put(id, definition);
+        }
+        if (!definition.userId().equals(userId)) {
+            throw new BusinessException(ErrorCode.SAVED_SEARCH_NOT_FOUND);
+        }
+
+        SavedSearchDefinition target = definition;
+        if (page == 0 && size == pageSize) {
+            return results.get(id, key -> execute(target, 0, pageSize));
+        }
+        return execute(target, Math.max(0, page), Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * 변경된 엔티티가 결과에 영향을 줄 수 있는 검색을 발행 트랜잭션 안에서 고르고, 커밋 후 캐시를 무효화한다
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (definitions.isEmpty()) {
+            return;
+        }
+        List<Long> affected = new ArrayList<>();
+        if (event.getEntityType() == EntityType.SPEC) {
+            List<ServiceRequest> linked = null;
+            for (SavedSearchDefinition definition : definitions.values()) {
+                if (definition.target() != EntityType.SR) {
+                    continue;
+                }
+                if (linked == null) {
+                    linked = linkedServiceRequests(event);
+                }
+                if (linked.stream().anyMatch(sr -> definition.matches(sr, sr.getStatus().name()))) {
+                    affected.add(definition.id());
+                }
+            }
+        } else {
+            for (SavedSearchDefinition definition : definitions.values()) {
+                if (affects(definition, event)) {
+                    affected.add(definition.id());
+                }
+            }
+        }
+        if (!affected.isEmpty()) {
+            afterCommit(() -> {
+                affected.forEach(results::invalidate);
+                invalidationCounter.increment(affected.size());
+            });
+        }
+    }
+
+    /**
+     * 변경이 검색 결과(건수 또는 첫 페이지 행)를 바꿀 수 있는지
+     */
+    private boolean affects(SavedSearchDefinition definition, EntityChangedEvent event) {
+        boolean updated = event.getChangeType() == ChangeType.UPDATED
+                || event.getChangeType() == ChangeType.STATUS_CHANGED;
+        switch (event.getEntityType()) {
+            case PROJECT -> {
+                // SR 목록 행에 프로젝트명이 포함됨
+                return updated && definition.target() == EntityType.SR;
+            }
+            case USER -> {
+                // 목록 행에 요청자/담당자 이름이 포함됨
+                return updated;
+            }
+            default -> {
+                if (definition.target() != event.getEntityType()) {
+                    return false;
+                }
+            }
+        }
+        Object entity = event.getEntity(Object.class);
+        boolean statusChanged = event.getPreviousStatus() != null
+                && !Objects.equals(event.getPreviousStatus(), event.getStatus());
+        return definition.matches(entity, event.getStatus())
+                || (statusChanged && definition.matches(entity, event.getPreviousStatus()))
+                || (updated && definition.dependsOnMutableFields());
+    }
+
+    /**
+     * 명세서 변경으로 목록 행이 바뀌는 SR (SrListViewUpdater 와 같은 기준)
+     * 새로 연결된 SR 과 읽기 모델에 이 명세서가 연결되어 있던 SR 이다.
+     */
+    private List<ServiceRequest> linkedServiceRequests(EntityChangedEvent event) {
+        Map<Long, ServiceRequest> serviceRequests = new LinkedHashMap<>();
+        ServiceRequest linked = event.getEntity(Specification.class).getServiceRequest();
+        if (linked != null) {
+            serviceRequests.put(linked.getId(), linked);
+        }
+        List<Long> previous = srListViewRepository.findIdsBySpecId(event.getEntityId()).stream()
+                .filter(id -> !serviceRequests.containsKey(id))
+                .toList();
+        if (!previous.isEmpty()) {
+            serviceRequestRepository.findAllById(previous).forEach(sr -> serviceRequests.put(sr.getId(), sr));
+        }
+        return new ArrayList<>(serviceRequests.values());
+    }
+
+    private SavedSearchResultResponse execute(SavedSearchDefinition definition, int page, int size) {
+        Page<?> rows = switch (definition.target()) {
+            case SR -> serviceRequestService.searchServiceRequests(
+                    definition.title(), definition.srType(), enumValue(SrStatus.class, definition.status()),
+                    definition.projectId(), definition.requesterId(), definition.startDate(), definition.endDate(),
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "requestDate")));
+            case ISSUE -> issueService.getIssues(
+                    definition.title(), enumValue(IssueStatus.class, definition.status()),
+                    definition.reporterId(), definition.assigneeId(),
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+            case INCIDENT -> incidentService.getIncidents(
+                    definition.title(), enumValue(IncidentStatus.class, definition.status()), definition.severity(),
+                    definition.assigneeId(), definition.occurredStart(), definition.occurredEnd(),
+                    PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "occurredAt")));
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT);
+        };
+        return SavedSearchResultResponse.of(definition.id(), definition.target(), rows);
+    }
+
+    /**
+     * 대상별로 쓸 수 없는 조건과 잘못된 상태 값 거부
+     */
+    private void validate(SavedSearchRequest request) {
+        boolean valid = switch (request.target()) {
+            case SR -> enumValid(SrStatus.class, request.status())
+                    && request.severity() == null && request.reporterId() == null && request.assigneeId() == null
+                    && request.occurredStart() == null && request.occurredEnd() == null;
+            case ISSUE -> enumValid(IssueStatus.class, request.status())
+                    && request.srType() == null && request.severity() == null
+                    && request.projectId() == null && request.requesterId() == null
+                    && request.startDate() == null && request.endDate() == null
+                    && request.occurredStart() == null && request.occurredEnd() == null;
+            case INCIDENT -> enumValid(IncidentStatus.class, request.status())
+                    && request.srType() == null && request.projectId() == null && request.requesterId() == null
+                    && request.reporterId() == null && request.startDate() == null && request.endDate() == null;
+            default -> false;
+        };
+        if (!valid) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private SavedSearch findOwned(Long id) {
+        SavedSearch savedSearch = savedSearchRepository.findActiveById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SAVED_SEARCH_NOT_FOUND));
+        if (!savedSearch.getUser().getId().equals(currentUserId())) {
+            throw new BusinessException(ErrorCode.SAVED_SEARCH_NOT_FOUND);
+        }
+        return savedSearch;
+    }
+
+    private void forget(Long id) {
+        definitions.remove(id);
+        results.invalidate(id);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Long currentUserId() {
+        return AuthenticatedUser.current().getUserId();
+    }
+
+    private static <E extends Enum<E>> boolean enumValid(Class<E> type, String value) {
+        try {
+            enumValue(type, value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value != null ? Enum.valueOf(type, value) : null;
+    }
+}
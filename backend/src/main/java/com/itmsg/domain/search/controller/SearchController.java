@@ -0,0 +1,36 @@
+package com.itmsg.domain.search.controller;
+
+import com.itmsg.domain.search.dto.UnifiedSearchResponse;
+import com.itmsg.domain.search.service.UnifiedSearchService;
+import com.itmsg.global.common.event.EntityType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "통합 검색 API")
+public class SearchController {
+
+    private final UnifiedSearchService unifiedSearchService;
+
+    @GetMapping
+    @Operation(summary = "통합 검색", description = "SR, SPEC, 이슈, 장애, 릴리즈, 자산, 파트너를 번호/제목/본문으로 검색합니다. "
+            + "모든 검색어 단어가 접두어로 일치하는 항목을 점수순으로 반환하며, link 로 상세 조회 API 를 호출할 수 있습니다.")
+    public ResponseEntity<List<UnifiedSearchResponse>> search(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "검색할 엔티티 타입 (SR, SPEC, ISSUE, INCIDENT, RELEASE, ASSET, PARTNER, 생략 시 전체)")
+            @RequestParam(required = false) List<EntityType> types,
+            @Parameter(description = "최대 결과 수 (기본값: 20, 최대 50)") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(unifiedSearchService.search(q, types, limit));
+    }
+}
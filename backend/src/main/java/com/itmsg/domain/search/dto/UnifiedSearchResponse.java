@@ -0,0 +1,20 @@
+package com.itmsg.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 통합 검색 결과 응답 DTO
+ * link 는 해당 엔티티의 번호(파트너는 코드) 조회 API 경로
+ */
+@Getter
+@Builder
+public class UnifiedSearchResponse {
+    private String type;
+    private Long id;
+    private String number;
+    private String title;
+    private String status;
+    private int score;
+    private String link;
+}
@@ -0,0 +1,26 @@
+package com.itmsg.domain.search.service;
+
+import com.itmsg.global.common.event.EntityType;
+
+import java.util.NavigableSet;
+
+/**
+ * 통합 검색 색인 문서
+ *
+ * @param titleTerms 번호/제목 단어 (가중치 높음)
+ * @param terms      본문 포함 전체 단어
+ */
+public record SearchDocument(
+        Key key,
+        String number,
+        String title,
+        String status,
+        NavigableSet<String> titleTerms,
+        NavigableSet<String> terms) {
+
+    /**
+     * 문서 식별자 (엔티티 타입 + id)
+     */
+    public record Key(EntityType type, Long id) {
+    }
+}
@@ -0,0 +1,218 @@
+package com.itmsg.domain.search.service;
+
+import com.itmsg.global.common.event.EntityType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 통합 검색 메모리 역색인 (단어 → 문서 키 목록)
+ * 단어는 정렬 맵에 보관하여 접두어 검색을 범위 조회(subMap)로 처리한다.
+ * 쓰기(추가/교체/삭제)는 하나씩 직렬화하고, 읽기는 잠금 없이 동시 자료구조를 그대로 조회한다.
+ * 쓰기 도중의 검색은 해당 문서의 이전/새 단어가 섞여 보일 수 있으나, 결과는 항상 현재 문서 정보로 만든다.
+ * 전체 적재 중에는 put/remove 된 문서를 기록하여, 적재가 읽은 이전 값(putIfUntouched)이 덮어쓰지 않게 한다.
+ */
+@Component
+public class SearchIndex {
+
+    /** 한 검색어 단어가 펼칠 수 있는 최대 색인 단어 수 (너무 짧은 접두어의 비용 상한) */
+    private static final int MAX_PREFIX_EXPANSION = 5000;
+
+    private final ConcurrentSkipListMap<String, Set<SearchDocument.Key>> postings = new ConcurrentSkipListMap<>();
+    private final Map<SearchDocument.Key, SearchDocument> documents = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    /** 전체 적재 중 put/remove 로 반영된 문서 (적재 중에만 존재, writeLock 으로 보호) */
+    private Set<SearchDocument.Key> touchedDuringLoad;
+
+    /**
+     * 문서 추가 또는 교체
+     */
+    public void put(SearchDocument document) {
+        synchronized (writeLock) {
+            markTouchedLocked(document.key());
+            putLocked(document);
+        }
+    }
+
+    /**
+     * 전체 적재용 추가 (적재 시작 후 put/remove 로 반영된 문서면 건너뛴다)
+     *
+     * @return 색인에 반영했는지 여부
+     */
+    public boolean putIfUntouched(SearchDocument document) {
+        synchronized (writeLock) {
+            if (touchedDuringLoad != null && touchedDuringLoad.contains(document.key())) {
+                return false;
+            }
+            putLocked(document);
+            return true;
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(SearchDocument.Key key) {
+        synchronized (writeLock) {
+            markTouchedLocked(key);
+            SearchDocument previous = documents.remove(key);
+            if (previous != null) {
+                previous.terms().forEach(term -> removePosting(term, key));
+            }
+        }
+    }
+
+    /**
+     * 전체 적재 시작 (이후 put/remove 된 문서를 기록)
+     */
+    public void beginLoad() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+    }
+
+    /**
+     * 전체 적재 종료
+     */
+    public void endLoad() {
+        synchronized (writeLock) {
+            touchedDuringLoad = null;
+        }
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            documents.clear();
+            postings.clear();
+        }
+    }
+
+    private void markTouchedLocked(SearchDocument.Key key) {
+        if (touchedDuringLoad != null) {
+            touchedDuringLoad.add(key);
+        }
+    }
+
+    private void putLocked(SearchDocument document) {
+        SearchDocument previous = documents.put(document.key(), document);
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                if (!document.terms().contains(term)) {
+                    removePosting(term, previous.key());
+                }
+            }
+        }
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(document.key());
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 모든 검색어 단어를 접두어로 포함하는 문서 검색 (AND)
+     * 가장 긴 단어(대개 가장 선택적인 단어)의 접두어 범위로 후보를 모은 뒤,
+     * 나머지 단어는 후보 문서의 정렬된 단어 집합에서 접두어 일치 여부만 확인한다.
+     *
+     * @param terms 검색어 단어 (SearchTokenizer.queryTerms)
+     * @param types 검색할 엔티티 타입 (비어 있으면 전체)
+     * @param limit 최대 결과 수
+     */
+    public List<Hit> search(List<String> terms, Collection<EntityType> types, int limit) {
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String driver = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Set<SearchDocument.Key> candidates = new HashSet<>();
+        int expanded = 0;
+        for (Set<SearchDocument.Key> keys : prefixRange(driver).values()) {
+            candidates.addAll(keys);
+            if (++expanded >= MAX_PREFIX_EXPANSION) {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (SearchDocument.Key key : candidates) {
+            if (!types.isEmpty() && !types.contains(key.type())) {
+                continue;
+            }
+            SearchDocument document = documents.get(key);
+            if (document == null) {
+                continue;
+            }
+            int score = score(document, terms);
+            if (score > 0) {
+                hits.add(new Hit(document, score));
+            }
+        }
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(hit -> hit.document().key().id(), Comparator.reverseOrder()));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * 문서 점수 (모든 단어가 일치해야 하며, 번호/제목 일치와 완전 일치에 가중치)
+     * 하나라도 일치하지 않으면 0
+     */
+    private int score(SearchDocument document, List<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            if (document.titleTerms().contains(term)) {
+                score += 4;
+            } else if (hasPrefix(document.titleTerms(), term)) {
+                score += 3;
+            } else if (document.terms().contains(term)) {
+                score += 2;
+            } else if (hasPrefix(document.terms(), term)) {
+                score += 1;
+            } else {
+                return 0;
+            }
+        }
+        return score;
+    }
+
+    private boolean hasPrefix(NavigableSet<String> terms, String prefix) {
+        String candidate = terms.ceiling(prefix);
+        return candidate != null && candidate.startsWith(prefix);
+    }
+
+    private ConcurrentNavigableMap<String, Set<SearchDocument.Key>> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void removePosting(String term, SearchDocument.Key key) {
+        postings.computeIfPresent(term, (t, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * 검색 결과 (문서 + 점수)
+     */
+    public record Hit(SearchDocument document, int score) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.itmsg.domain.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 통합 검색 단어 분리기
+ * 문자/숫자가 아닌 문자를 구분자로 삼아 소문자 단어로 자른다 (예: "SR2501-0001 서버 점검" → sr2501, 0001, 서버, 점검).
+ * 색인과 검색어에 같은 규칙을 적용하므로 번호는 "sr2501-00" 처럼 일부만 입력해도 단어별 접두어로 일치한다.
+ */
+final class SearchTokenizer {
+
+    /** 본문에서 색인하는 최대 길이 (메모리 상한) */
+    static final int MAX_TEXT_LENGTH = 2000;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인용 단어 집합 (정렬, 중복 제거)
+     */
+    static NavigableSet<String> terms(String... texts) {
+        NavigableSet<String> terms = new TreeSet<>();
+        for (String text : texts) {
+            if (text != null) {
+                split(text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text, terms);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어 단어 목록 (중복 제거)
+     */
+    static List<String> queryTerms(String query) {
+        return query == null ? List.of() : new ArrayList<>(terms(query));
+    }
+
+    private static void split(String text, NavigableSet<String> terms) {
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char ch = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(ch)) {
+                term.append(Character.toLowerCase(ch));
+            } else if (!term.isEmpty()) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.itmsg.domain.search.service;
+
+import com.itmsg.domain.asset.entity.Asset;
+import com.itmsg.domain.asset.repository.AssetRepository;
+import com.itmsg.domain.incident.entity.Incident;
+import com.itmsg.domain.incident.repository.IncidentRepository;
+import com.itmsg.domain.issue.entity.Issue;
+import com.itmsg.domain.issue.repository.IssueRepository;
+import com.itmsg.domain.partner.entity.Partner;
+import com.itmsg.domain.partner.repository.PartnerRepository;
+import com.itmsg.domain.release.entity.Release;
+import com.itmsg.domain.release.repository.ReleaseRepository;
+import com.itmsg.domain.search.dto.UnifiedSearchResponse;
+import com.itmsg.domain.spec.entity.Specification;
+import com.itmsg.domain.spec.repository.SpecificationRepository;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.repository.ServiceRequestRepository;
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.entity.BaseEntity;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 통합 검색 서비스
+ * SR/SPEC/이슈/장애/릴리즈/자산/파트너를 번호·제목·본문 단어로 메모리 역색인(SearchIndex)에 올려
+ * 한 번의 검색으로 접두어 AND 검색한다.
+ *
+ * - 애플리케이션 기동 후 별도 스레드에서 전체 데이터를 페이지 단위로 읽어 색인한다 (색인 중에도 검색 가능, 결과는 부분적).
+ * - 이후 변경은 엔티티 변경 이벤트로 반영하며, 문서는 발행 트랜잭션 안에서 만들고 커밋 후에만 색인에 적용한다.
+ * - 색인은 노드 단위이므로 다중 인스턴스에서는 다른 노드의 변경이 재기동 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Service
+public class UnifiedSearchService {
+
+    /** 통합 검색 대상 엔티티 */
+    public static final Set<EntityType> SEARCHABLE_TYPES = EnumSet.of(
+            EntityType.SR, EntityType.SPEC, EntityType.ISSUE, EntityType.INCIDENT,
+            EntityType.RELEASE, EntityType.ASSET, EntityType.PARTNER);
+
+    private static final int MAX_LIMIT = 50;
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final SearchIndex searchIndex;
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final SpecificationRepository specificationRepository;
+    private final IssueRepository issueRepository;
+    private final IncidentRepository incidentRepository;
+    private final ReleaseRepository releaseRepository;
+    private final AssetRepository assetRepository;
+    private final PartnerRepository partnerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+
+    public UnifiedSearchService(
+            SearchIndex searchIndex,
+            ServiceRequestRepository serviceRequestRepository,
+            SpecificationRepository specificationRepository,
+            IssueRepository issueRepository,
+            IncidentRepository incidentRepository,
+            ReleaseRepository releaseRepository,
+            AssetRepository assetRepository,
+            PartnerRepository partnerRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.searchIndex = searchIndex;
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.specificationRepository = specificationRepository;
+        this.issueRepository = issueRepository;
+        this.incidentRepository = incidentRepository;
+        this.releaseRepository = releaseRepository;
+        this.assetRepository = assetRepository;
+        this.partnerRepository = partnerRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.searchTimer = Timer.builder("search.unified")
+                .description("통합 검색 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("search.index.documents", searchIndex, SearchIndex::size);
+        meterRegistry.gauge("search.index.terms", searchIndex, SearchIndex::termCount);
+    }
+
+    /**
+     * 통합 검색
+     *
+     * @param query 검색어 (공백/구분자로 나뉜 모든 단어가 접두어로 일치해야 함)
+     * @param types 검색할 엔티티 타입 (비어 있으면 전체)
+     * @param limit 최대 결과 수 (1~50)
+     */
+    public List<UnifiedSearchResponse> search(String query, Collection<EntityType> types, int limit) {
+        Set<EntityType> targetTypes = EnumSet.noneOf(EntityType.class);
+        if (types != null) {
+            for (EntityType type : types) {
+                if (!SEARCHABLE_TYPES.contains(type)) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT);
+                }
+                targetTypes.add(type);
+            }
+        }
+        List<String> terms = SearchTokenizer.queryTerms(query);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<SearchIndex.Hit> hits = searchTimer.record(() -> searchIndex.search(terms, targetTypes, boundedLimit));
+        return hits.stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * 기동 후 전체 색인 (별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        Thread thread = new Thread(this::rebuild, "search-indexer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 재색인
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        searchIndex.beginLoad();
+        try {
+            load(EntityType.SR, serviceRequestRepository);
+            load(EntityType.SPEC, specificationRepository);
+            load(EntityType.ISSUE, issueRepository);
+            load(EntityType.INCIDENT, incidentRepository);
+            load(EntityType.RELEASE, releaseRepository);
+            load(EntityType.ASSET, assetRepository);
+            load(EntityType.PARTNER, partnerRepository);
+            log.info("통합 검색 색인 완료: 문서 {}건, 단어 {}개, {}ms",
+                    searchIndex.size(), searchIndex.termCount(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("통합 검색 색인 실패", e);
+        } finally {
+            searchIndex.endLoad();
+        }
+    }
+
+    /**
+     * 변경된 엔티티를 발행 트랜잭션 안에서 문서로 만들고, 커밋 후 색인에 반영한다
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!SEARCHABLE_TYPES.contains(event.getEntityType())) {
+            return;
+        }
+        SearchDocument.Key key = new SearchDocument.Key(event.getEntityType(), event.getEntityId());
+        SearchDocument document = event.getChangeType() == ChangeType.DELETED
+                ? null
+                : toDocument(event.getEntityType(), event.getEntity(Object.class));
+
+        Runnable apply = () -> {
+            if (document == null) {
+                searchIndex.remove(key);
+            } else {
+                searchIndex.put(document);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private <T extends BaseEntity> void load(EntityType type, JpaRepository<T, Long> repository) {
+        int page = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            PageRequest pageRequest = PageRequest.of(page++, LOAD_PAGE_SIZE, Sort.by("id"));
+            hasNext = Boolean.TRUE.equals(readOnlyTransaction.execute(status -> {
+                Page<T> entities = repository.findAll(pageRequest);
+                for (T entity : entities) {
+                    if (entity.isDeleted()) {
+                        continue;
+                    }
+                    searchIndex.putIfUntouched(toDocument(type, entity));
+                }
+                return entities.hasNext();
+            }));
+        }
+    }
+
+    private SearchDocument toDocument(EntityType type, Object entity) {
+        return switch (type) {
+            case SR -> {
+                ServiceRequest sr = (ServiceRequest) entity;
+                yield document(type, sr.getId(), sr.getSrNumber(), sr.getTitle(), name(sr.getStatus()),
+                        sr.getBusinessRequirement());
+            }
+            case SPEC -> {
+                Specification spec = (Specification) entity;
+                yield document(type, spec.getId(), spec.getSpecNumber(), spec.getServiceRequest().getTitle(),
+                        name(spec.getStatus()));
+            }
+            case ISSUE -> {
+                Issue issue = (Issue) entity;
+                yield document(type, issue.getId(), issue.getIssueNumber(), issue.getTitle(), name(issue.getStatus()),
+                        issue.getContent());
+            }
+            case INCIDENT -> {
+                Incident incident = (Incident) entity;
+                yield document(type, incident.getId(), incident.getIncidentNumber(), incident.getTitle(),
+                        name(incident.getStatus()), incident.getResolution());
+            }
+            case RELEASE -> {
+                Release release = (Release) entity;
+                yield document(type, release.getId(), release.getReleaseNumber(), release.getTitle(),
+                        name(release.getStatus()), release.getContent());
+            }
+            case ASSET -> {
+                Asset asset = (Asset) entity;
+                yield document(type, asset.getId(), asset.getAssetNumber(), asset.getName(), name(asset.getStatus()),
+                        asset.getModel(), asset.getManufacturer(), asset.getSerialNumber(), asset.getLocation());
+            }
+            case PARTNER -> {
+                Partner partner = (Partner) entity;
+                yield document(type, partner.getId(), partner.getCode(), partner.getName(),
+                        Boolean.TRUE.equals(partner.getIsClosed()) ? "CLOSED" : "ACTIVE",
+                        partner.getBusinessNumber(), partner.getCeoName());
+            }
+            default -> throw new IllegalArgumentException("통합 검색 대상이 아닌 엔티티: " + type);
+        };
+    }
+
+    private SearchDocument document(EntityType type, Long id, String number, String title, String status,
+                                    String... bodies) {
+        NavigableSet<String> titleTerms = SearchTokenizer.terms(number, title);
+        NavigableSet<String> terms = new TreeSet<>(titleTerms);
+        terms.addAll(SearchTokenizer.terms(bodies));
+        return new SearchDocument(new SearchDocument.Key(type, id), number, title, status, titleTerms, terms);
+    }
+
+    private UnifiedSearchResponse toResponse(SearchIndex.Hit hit) {
+        SearchDocument document = hit.document();
+        EntityType type = document.key().type();
+        return UnifiedSearchResponse.builder()
+                .type(type.name().toLowerCase(Locale.ROOT))
+                .id(document.key().id())
+                .number(document.number())
+                .title(document.title())
+                .status(document.status())
+                .score(hit.score())
+                .link(linkPrefix(type) + document.number())
+                .build();
+    }
+
+    /**
+     * 엔티티별 번호 조회 API 경로
+     */
+    private static String linkPrefix(EntityType type) {
+        return switch (type) {
+            case SR -> "/api/srs/number/";
+            case SPEC -> "/api/specs/number/";
+            case ISSUE -> "/api/issues/number/";
+            case INCIDENT -> "/api/incidents/number/";
+            case RELEASE -> "/api/releases/number/";
+            case ASSET -> "/api/assets/number/";
+            case PARTNER -> "/api/partners/code/";
+            default -> throw new IllegalArgumentException("통합 검색 대상이 아닌 엔티티: " + type);
+        };
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
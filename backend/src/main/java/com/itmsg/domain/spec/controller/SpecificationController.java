@@ -5,6 +5,10 @@ import com.itmsg.domain.spec.dto.SpecResponse;
 import com.itmsg.domain.spec.entity.SpecStatus;
 import com.itmsg.domain.spec.entity.SpecType;
 import com.itmsg.domain.spec.service.SpecificationService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -16,6 +20,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 
@@ -47,9 +52,9 @@ public class SpecificationController {
     
     @GetMapping("/number/{specNumber}")
     @Operation(summary = "SPEC 번호로 조회", description = "SPEC 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<SpecResponse> getSpecificationByNumber(@PathVariable String specNumber) {
-        SpecResponse response = specificationService.getSpecificationByNumber(specNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<SpecResponse> getSpecificationByNumber(@PathVariable String specNumber, WebRequest webRequest) {
+        String etag = specificationService.getSpecificationByNumberETag(specNumber);
+        return ETags.conditional(webRequest, etag, () -> specificationService.getSpecificationByNumber(specNumber));
     }
     
     @GetMapping
@@ -65,6 +70,34 @@ public class SpecificationController {
                 specType, status, assigneeId, startDate, endDate, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "SPEC 목록 조회 (무한 스크롤)", description = "SPEC 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<SpecResponse>> searchSpecificationsSlice(
+            @RequestParam(required = false) SpecType specType,
+            @RequestParam(required = false) SpecStatus status,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(specificationService.searchSpecificationsSlice(
+                specType, status, assigneeId, startDate, endDate, pageable, total));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "SPEC 목록 조회 (커서)", description = "SPEC 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<SpecResponse>> searchSpecificationsByCursor(
+            @RequestParam(required = false) SpecType specType,
+            @RequestParam(required = false) SpecStatus status,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(specificationService.searchSpecificationsByCursor(
+                specType, status, assigneeId, startDate, endDate, cursor, size));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "SPEC 수정", description = "SPEC 정보를 수정합니다.")
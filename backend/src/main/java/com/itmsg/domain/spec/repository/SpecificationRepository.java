@@ -1,16 +1,12 @@
 package com.itmsg.domain.spec.repository;
 
 import com.itmsg.domain.spec.entity.Specification;
-import com.itmsg.domain.spec.entity.SpecStatus;
-import com.itmsg.domain.spec.entity.SpecType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +14,7 @@ import java.util.Optional;
  * SPEC Repository
  */
 @Repository
-public interface SpecificationRepository extends JpaRepository<Specification, Long> {
+public interface SpecificationRepository extends JpaRepository<Specification, Long>, JpaSpecificationExecutor<Specification> {
     
     /**
      * SPEC 번호로 조회
@@ -29,6 +25,17 @@ public interface SpecificationRepository extends JpaRepository<Specification, Lo
            "WHERE s.specNumber = :specNumber AND s.deletedAt IS NULL")
     Optional<Specification> findBySpecNumber(@Param("specNumber") String specNumber);
     
+    /**
+     * SPEC 번호로 SPEC 및 응답에 포함되는 연관 엔티티(SR, 담당자, 검토자)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(s.version, 0)), '.', str(COALESCE(sr.version, 0)), '.', str(COALESCE(a.version, 0)), '.', str(COALESCE(r.version, 0))) " +
+           "FROM Specification s " +
+           "LEFT JOIN s.serviceRequest sr " +
+           "LEFT JOIN s.assignee a " +
+           "LEFT JOIN s.reviewer r " +
+           "WHERE s.specNumber = :specNumber")
+    Optional<String> findVersionBySpecNumber(@Param("specNumber") String specNumber);
+    
     /**
      * SPEC 번호 중복 확인
      */
@@ -46,30 +53,5 @@ public interface SpecificationRepository extends JpaRepository<Specification, Lo
     @Query("SELECT s FROM Specification s WHERE s.assignee.id = :assigneeId AND s.deletedAt IS NULL")
     List<Specification> findByAssigneeId(@Param("assigneeId") Long assigneeId);
     
-    /**
-     * 검색 및 필터링
-     */
-    @Query("SELECT s FROM Specification s " +
-           "WHERE (:specType IS NULL OR s.specType = :specType) " +
-           "AND (:status IS NULL OR s.status = :status) " +
-           "AND (:assigneeId IS NULL OR s.assignee.id = :assigneeId) " +
-           "AND (:startDate IS NULL OR s.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR s.createdAt <= :endDate) " +
-           "AND s.deletedAt IS NULL")
-    Page<Specification> search(@Param("specType") SpecType specType,
-                                @Param("status") SpecStatus status,
-                                @Param("assigneeId") Long assigneeId,
-                                @Param("startDate") LocalDateTime startDate,
-                                @Param("endDate") LocalDateTime endDate,
-                                Pageable pageable);
-    
-    /**
-     * 연도/월별 SPEC 개수 조회 (자동 채번용)
-     */
-    @Query("SELECT COUNT(s) FROM Specification s " +
-           "WHERE EXTRACT(YEAR FROM s.createdAt) = :year " +
-           "AND EXTRACT(MONTH FROM s.createdAt) = :month " +
-           "AND s.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
 }
 
@@ -0,0 +1,30 @@
+package com.itmsg.domain.spec.repository;
+
+import com.itmsg.domain.spec.entity.SpecStatus;
+import com.itmsg.domain.spec.entity.SpecType;
+import com.itmsg.domain.spec.entity.Specification;
+import com.itmsg.global.common.repository.Specs;
+
+import java.time.LocalDateTime;
+
+/**
+ * SPEC 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ * 엔티티 이름이 Specification 이므로 JPA Specification 은 전체 이름으로 쓴다.
+ */
+public final class SpecificationSpecs {
+
+    private SpecificationSpecs() {
+    }
+
+    public static org.springframework.data.jpa.domain.Specification<Specification> search(
+            SpecType specType, SpecStatus status, Long assigneeId,
+            LocalDateTime startDate, LocalDateTime endDate) {
+        return org.springframework.data.jpa.domain.Specification.allOf(
+                Specs.notDeleted(),
+                Specs.equal("specType", specType),
+                Specs.equal("status", status),
+                Specs.equalId("assignee", assigneeId),
+                Specs.atLeast("createdAt", startDate),
+                Specs.atMost("createdAt", endDate));
+    }
+}
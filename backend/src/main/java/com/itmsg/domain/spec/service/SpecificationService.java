@@ -6,20 +6,35 @@ import com.itmsg.domain.spec.entity.Specification;
 import com.itmsg.domain.spec.entity.SpecStatus;
 import com.itmsg.domain.spec.entity.SpecType;
 import com.itmsg.domain.spec.repository.SpecificationRepository;
+import com.itmsg.domain.spec.repository.SpecificationSpecs;
 import com.itmsg.domain.sr.entity.ServiceRequest;
 import com.itmsg.domain.sr.repository.ServiceRequestRepository;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * SPEC Service
@@ -33,6 +48,9 @@ public class SpecificationService {
     private final ServiceRequestRepository serviceRequestRepository;
     private final UserRepository userRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
     
     /**
      * SPEC 등록
@@ -82,6 +100,7 @@ public class SpecificationService {
         // SR에 SPEC 연결
         sr.linkSpecification(savedSpec);
         
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.SPEC, savedSpec.getId(), savedSpec.getStatus(), savedSpec));
         return SpecResponse.from(savedSpec);
     }
     
@@ -103,23 +122,64 @@ public class SpecificationService {
         return SpecResponse.from(spec);
     }
     
+    /**
+     * SPEC 번호 조회 ETag (없으면 null)
+     */
+    public String getSpecificationByNumberETag(String specNumber) {
+        return specificationRepository.findVersionBySpecNumber(specNumber)
+                .map(version -> ETags.of("spec", specNumber, version))
+                .orElse(null);
+    }
+    
     /**
      * SPEC 목록 조회 (검색 및 필터링)
      */
     public Page<SpecResponse> searchSpecifications(SpecType specType, SpecStatus status,
                                                     Long assigneeId, LocalDateTime startDate,
                                                     LocalDateTime endDate, Pageable pageable) {
-        // 모든 필터가 null이면 기본 findAll 사용 (PostgreSQL Enum 타입 이슈 우회)
-        if (specType == null && status == null && assigneeId == null && startDate == null && endDate == null) {
-            Page<Specification> specs = specificationRepository.findAll(pageable);
-            return specs.map(SpecResponse::from);
-        }
-        
-        Page<Specification> specs = specificationRepository.search(
-                specType, status, assigneeId, startDate, endDate, pageable);
+        Page<Specification> specs = specificationRepository.findAll(
+                SpecificationSpecs.search(specType, status, assigneeId, startDate, endDate), pageable);
         return specs.map(SpecResponse::from);
     }
     
+    /**
+     * SPEC 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<SpecResponse> searchSpecificationsSlice(SpecType specType, SpecStatus status,
+                                                                 Long assigneeId, LocalDateTime startDate,
+                                                                 LocalDateTime endDate, Pageable pageable,
+                                                                 TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(searchSpecifications(specType, status, assigneeId, startDate, endDate, pageable));
+        }
+        Slice<Specification> rows = sliceQuery.findSlice(
+                Specification.class, SpecificationSpecs.search(specType, status, assigneeId, startDate, endDate), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(RowFilter.of("specifications")
+                        .eq("spec_type", specType)
+                        .eq("status", status)
+                        .eq("assignee_id", assigneeId)
+                        .ge("created_at", startDate)
+                        .le("created_at", endDate))
+                : null;
+        return SliceResponse.of(rows.map(SpecResponse::from), total, totalMode);
+    }
+    
+    /**
+     * SPEC 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<SpecResponse> searchSpecificationsByCursor(SpecType specType, SpecStatus status,
+                                                                 Long assigneeId, LocalDateTime startDate,
+                                                                 LocalDateTime endDate, String cursor,
+                                                                 int size) {
+        Keyset<LocalDateTime> keyset = Keyset.ofDateTime(cursor);
+        List<Specification> rows = specificationRepository.findBy(
+                SpecificationSpecs.search(specType, status, assigneeId, startDate, endDate)
+                        .and(Specs.seekBefore("createdAt", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("createdAt")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, Specification::getCreatedAt, Specification::getId, SpecResponse::from);
+    }
+    
     /**
      * SPEC 수정
      */
@@ -145,6 +205,7 @@ public class SpecificationService {
             spec.assignTo(assignee, reviewer);
         }
         
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SPEC, spec.getId(), spec.getStatus(), spec.getStatus(), spec));
         return SpecResponse.from(spec);
     }
     
@@ -156,7 +217,9 @@ public class SpecificationService {
         Specification spec = specificationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SPEC_NOT_FOUND));
         
+        SpecStatus previousStatus = spec.getStatus();
         spec.startWork();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SPEC, spec.getId(), previousStatus, spec.getStatus(), spec));
         return SpecResponse.from(spec);
     }
     
@@ -168,7 +231,9 @@ public class SpecificationService {
         Specification spec = specificationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SPEC_NOT_FOUND));
         
+        SpecStatus previousStatus = spec.getStatus();
         spec.complete();
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SPEC, spec.getId(), previousStatus, spec.getStatus(), spec));
         return SpecResponse.from(spec);
     }
     
@@ -180,7 +245,9 @@ public class SpecificationService {
         Specification spec = specificationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SPEC_NOT_FOUND));
         
+        SpecStatus previousStatus = spec.getStatus();
         spec.changeStatus(status);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SPEC, spec.getId(), previousStatus, spec.getStatus(), spec));
         return SpecResponse.from(spec);
     }
     
@@ -192,6 +259,7 @@ public class SpecificationService {
         Specification spec = specificationRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SPEC_NOT_FOUND));
         spec.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.SPEC, spec.getId(), spec.getStatus(), spec));
     }
 }
 
@@ -1,24 +1,36 @@
 package com.itmsg.domain.sr.controller;
 
 import com.itmsg.domain.sr.dto.SrCreateRequest;
+import com.itmsg.domain.sr.dto.SrDuplicateCheckRequest;
+import com.itmsg.domain.sr.dto.SrDuplicateResponse;
 import com.itmsg.domain.sr.dto.SrResponse;
 import com.itmsg.domain.sr.dto.SrUpdateRequest;
 import com.itmsg.domain.sr.entity.SrStatus;
 import com.itmsg.domain.sr.entity.SrType;
 import com.itmsg.domain.sr.service.ServiceRequestService;
+import com.itmsg.domain.sr.service.SrDuplicateService;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.util.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * SR Controller
@@ -30,6 +42,7 @@ import java.time.LocalDate;
 public class ServiceRequestController {
     
     private final ServiceRequestService serviceRequestService;
+    private final SrDuplicateService srDuplicateService;
     
     @PostMapping
     @Operation(summary = "SR 등록", description = "새로운 SR을 등록합니다.")
@@ -39,6 +52,14 @@ public class ServiceRequestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/duplicates")
+    @Operation(summary = "SR 중복 후보 확인", description = "등록/수정 전 제목과 업무 요구사항이 비슷한 기존 SR 을 유사도순으로 조회합니다.")
+    public ResponseEntity<List<SrDuplicateResponse>> findDuplicates(
+            @Valid @RequestBody SrDuplicateCheckRequest request,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(srDuplicateService.findDuplicates(request, limit));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "SR 조회", description = "SR 상세 정보를 조회합니다.")
     public ResponseEntity<SrResponse> getServiceRequest(@PathVariable Long id) {
@@ -48,9 +69,9 @@ public class ServiceRequestController {
     
     @GetMapping("/number/{srNumber}")
     @Operation(summary = "SR 번호로 조회", description = "SR 번호로 상세 정보를 조회합니다.")
-    public ResponseEntity<SrResponse> getServiceRequestByNumber(@PathVariable String srNumber) {
-        SrResponse response = serviceRequestService.getServiceRequestByNumber(srNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<SrResponse> getServiceRequestByNumber(@PathVariable String srNumber, WebRequest webRequest) {
+        String etag = serviceRequestService.getServiceRequestByNumberETag(srNumber);
+        return ETags.conditional(webRequest, etag, () -> serviceRequestService.getServiceRequestByNumber(srNumber));
     }
     
     @GetMapping
@@ -68,6 +89,61 @@ public class ServiceRequestController {
                 title, srType, status, projectId, requesterId, startDate, endDate, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/slice")
+    @Operation(summary = "SR 목록 조회 (무한 스크롤)", description = "SR 목록을 전체 건수 COUNT 없이 조회합니다. total 로 근사/정확한 건수를 요청할 수 있습니다.")
+    public ResponseEntity<SliceResponse<SrResponse>> searchServiceRequestsSlice(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) SrType srType,
+            @RequestParam(required = false) SrStatus status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @PageableDefault(size = 20, sort = "requestDate", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "NONE") TotalMode total) {
+        return ResponseEntity.ok(serviceRequestService.searchServiceRequestsSlice(
+                title, srType, status, projectId, requesterId, startDate, endDate, pageable, total));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "SR 목록 패싯 건수", description = "현재 검색 조건에서 상태/유형/분류/우선순위별 SR 건수를 조회합니다.")
+    public ResponseEntity<FacetResponse> getServiceRequestFacets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) SrType srType,
+            @RequestParam(required = false) SrStatus status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        return ResponseEntity.ok(serviceRequestService.getServiceRequestFacets(
+                title, srType, status, projectId, requesterId, startDate, endDate));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "SR 목록 조회 (커서)", description = "SR 목록을 커서 기반으로 이어서 조회합니다.")
+    public ResponseEntity<CursorPage<SrResponse>> searchServiceRequestsByCursor(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) SrType srType,
+            @RequestParam(required = false) SrStatus status,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long requesterId,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(serviceRequestService.searchServiceRequestsByCursor(
+                title, srType, status, projectId, requesterId, startDate, endDate, cursor, size));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "SR 전문 검색", description = "제목과 업무 요구사항에서 검색어(접두어 일치)를 찾아 관련도순으로 조회합니다. "
+            + "일치 구간은 <mark> 로 표시됩니다.")
+    public ResponseEntity<Slice<SearchHitResponse>> fullTextSearch(
+            @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(serviceRequestService.fullTextSearch(q, pageable));
+    }
     
     @PutMapping("/{id}")
     @Operation(summary = "SR 수정", description = "SR 정보를 수정합니다.")
@@ -0,0 +1,25 @@
+package com.itmsg.domain.sr.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * SR 중복 후보 확인 요청 DTO (등록/수정 전 입력값)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class SrDuplicateCheckRequest {
+    
+    @NotBlank(message = "SR 제목은 필수입니다.")
+    @Size(max = 200, message = "SR 제목은 200자 이내여야 합니다.")
+    private String title;
+    
+    private String businessRequirement;
+    
+    /** 수정 중인 SR id (결과에서 제외) */
+    private Long excludeId;
+}
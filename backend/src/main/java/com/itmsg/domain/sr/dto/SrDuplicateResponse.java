@@ -0,0 +1,19 @@
+package com.itmsg.domain.sr.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * SR 중복 후보 응답 DTO
+ * similarity 는 제목/업무 요구사항 3-gram 집합의 추정 Jaccard 유사도 (0~1)
+ */
+@Getter
+@Builder
+public class SrDuplicateResponse {
+    
+    private Long id;
+    private String srNumber;
+    private String title;
+    private String status;
+    private double similarity;
+}
@@ -2,6 +2,7 @@ package com.itmsg.domain.sr.dto;
 
 import com.itmsg.domain.sr.entity.ServiceRequest;
 import com.itmsg.domain.sr.entity.SrCategory;
+import com.itmsg.domain.sr.entity.SrListView;
 import com.itmsg.domain.sr.entity.SrStatus;
 import com.itmsg.domain.sr.entity.SrType;
 import lombok.Builder;
@@ -39,6 +40,13 @@ public class SrResponse {
     private LocalDateTime updatedAt;
     
     public static SrResponse from(ServiceRequest sr) {
+        return from(sr, sr.getRequester() != null ? sr.getRequester().getName() : null);
+    }
+
+    /**
+     * 요청자 이름을 따로 받아 변환 (요청자가 현재 사용자면 인증 정보의 이름을 넘겨 users 조회를 생략)
+     */
+    public static SrResponse from(ServiceRequest sr, String requesterName) {
         return SrResponse.builder()
                 .id(sr.getId())
                 .srNumber(sr.getSrNumber())
@@ -48,7 +56,7 @@ public class SrResponse {
                 .status(sr.getStatus())
                 .businessRequirement(sr.getBusinessRequirement())
                 .projectName(sr.getProject() != null ? sr.getProject().getName() : null)
-                .requesterName(sr.getRequester() != null ? sr.getRequester().getName() : null)
+                .requesterName(requesterName)
                 .requesterDeptName(sr.getRequesterDept() != null ? sr.getRequesterDept().getName() : null)
                 .requestDate(sr.getRequestDate())
                 .dueDate(sr.getDueDate())
@@ -62,6 +70,33 @@ public class SrResponse {
                 .updatedAt(sr.getUpdatedAt())
                 .build();
     }
+    
+    /**
+     * 목록 읽기 모델에서 변환 (목록에 쓰지 않는 businessRequirement 는 제외)
+     */
+    public static SrResponse from(SrListView row) {
+        return SrResponse.builder()
+                .id(row.getId())
+                .srNumber(row.getSrNumber())
+                .title(row.getTitle())
+                .srType(row.getSrType())
+                .srCategory(row.getSrCategory())
+                .status(row.getStatus())
+                .projectName(row.getProjectName())
+                .requesterName(row.getRequesterName())
+                .requesterDeptName(row.getRequesterDeptName())
+                .requestDate(row.getRequestDate())
+                .dueDate(row.getDueDate())
+                .priority(row.getPriority())
+                .releaseDate(row.getReleaseDate())
+                .releaseNumber(row.getReleaseNumber())
+                .specId(row.getSpecId())
+                .specNumber(row.getSpecNumber())
+                .createdAt(row.getCreatedAt())
+                .createdBy(row.getCreatedBy())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
 }
 
 
@@ -0,0 +1,97 @@
+package com.itmsg.domain.sr.entity;
+
+import com.itmsg.domain.spec.entity.SpecStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * SR 목록 읽기 모델 Entity (비정규화)
+ * 갱신은 SrListViewRepository 의 UPSERT 로만 수행하고, JPA 로는 조회만 한다
+ */
+@Entity
+@Immutable
+@Table(name = "sr_list_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SrListView {
+
+    @Id
+    @Column(name = "sr_id")
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String srNumber;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SrType srType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private SrCategory srCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SrStatus status;
+
+    @Column(length = 20)
+    private String priority;
+
+    private LocalDate requestDate;
+
+    private LocalDate dueDate;
+
+    private LocalDate releaseDate;
+
+    @Column(length = 50)
+    private String releaseNumber;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    private String projectName;
+
+    @Column(nullable = false)
+    private Long requesterId;
+
+    private String requesterName;
+
+    private Long requesterDeptId;
+
+    private String requesterDeptName;
+
+    private Long specId;
+
+    @Column(length = 20)
+    private String specNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private SpecStatus specStatus;
+
+    @Column(nullable = false)
+    private int attachmentCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, length = 50)
+    private String createdBy;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
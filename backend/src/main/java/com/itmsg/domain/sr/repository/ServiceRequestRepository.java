@@ -1,16 +1,13 @@
 package com.itmsg.domain.sr.repository;
 
 import com.itmsg.domain.sr.entity.ServiceRequest;
-import com.itmsg.domain.sr.entity.SrStatus;
-import com.itmsg.domain.sr.entity.SrType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.itmsg.global.common.repository.SearchHitRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +15,7 @@ import java.util.Optional;
  * SR Repository
  */
 @Repository
-public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long> {
+public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long>, JpaSpecificationExecutor<ServiceRequest> {
     
     /**
      * SR 번호로 조회
@@ -29,6 +26,18 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
            "WHERE sr.srNumber = :srNumber AND sr.deletedAt IS NULL")
     Optional<ServiceRequest> findBySrNumber(@Param("srNumber") String srNumber);
     
+    /**
+     * SR 번호로 SR 및 응답에 포함되는 연관 엔티티(프로젝트, 요청자, 요청 부서, SPEC)의 version 조회 (ETag 용)
+     */
+    @Query("SELECT CONCAT(str(COALESCE(sr.version, 0)), '.', str(COALESCE(p.version, 0)), '.', str(COALESCE(u.version, 0)), '.', str(COALESCE(d.version, 0)), '.', str(COALESCE(s.version, 0))) " +
+           "FROM ServiceRequest sr " +
+           "LEFT JOIN sr.project p " +
+           "LEFT JOIN sr.requester u " +
+           "LEFT JOIN sr.requesterDept d " +
+           "LEFT JOIN sr.specification s " +
+           "WHERE sr.srNumber = :srNumber")
+    Optional<String> findVersionBySrNumber(@Param("srNumber") String srNumber);
+    
     /**
      * SR 번호 중복 확인
      */
@@ -45,35 +54,53 @@ public interface ServiceRequestRepository extends JpaRepository<ServiceRequest,
      */
     @Query("SELECT sr FROM ServiceRequest sr WHERE sr.requester.id = :requesterId AND sr.deletedAt IS NULL")
     List<ServiceRequest> findByRequesterId(@Param("requesterId") Long requesterId);
-    
+
     /**
-     * 검색 및 필터링
+     * 전문 검색 (제목 + 업무 요구사항, 관련도순)
+     * 현재 페이지 행에 대해서만 ts_headline 을 계산하도록 정렬/LIMIT 을 하위 쿼리에서 먼저 수행한다
      */
-    @Query("SELECT sr FROM ServiceRequest sr " +
-           "WHERE (:title IS NULL OR sr.title LIKE %:title%) " +
-           "AND (:srType IS NULL OR sr.srType = :srType) " +
-           "AND (:status IS NULL OR sr.status = :status) " +
-           "AND (:projectId IS NULL OR sr.project.id = :projectId) " +
-           "AND (:requesterId IS NULL OR sr.requester.id = :requesterId) " +
-           "AND (:startDate IS NULL OR sr.requestDate >= :startDate) " +
-           "AND (:endDate IS NULL OR sr.requestDate <= :endDate) " +
-           "AND sr.deletedAt IS NULL")
-    Page<ServiceRequest> search(@Param("title") String title,
-                                 @Param("srType") SrType srType,
-                                 @Param("status") SrStatus status,
-                                 @Param("projectId") Long projectId,
-                                 @Param("requesterId") Long requesterId,
-                                 @Param("startDate") LocalDate startDate,
-                                 @Param("endDate") LocalDate endDate,
-                                 Pageable pageable);
-    
+    @Query(value = "SELECT hit.id AS \"id\", hit.sr_number AS \"number\", hit.title AS \"title\", hit.status AS \"status\", " +
+                   "hit.score AS \"score\", " +
+                   "ts_headline('simple', hit.title, hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', HighlightAll=true') AS \"titleHighlight\", " +
+                   "ts_headline('simple', coalesce(hit.business_requirement, ''), hit.q, " +
+                   "'StartSel=' || chr(2) || ', StopSel=' || chr(3) || ', MaxFragments=2, MaxWords=20, MinWords=5') AS \"highlight\" " +
+                   "FROM (SELECT sr.id, sr.sr_number, sr.title, sr.status, sr.business_requirement, q, " +
+                   "CAST(ts_rank(sr.search_vector, q) AS DOUBLE PRECISION) AS score " +
+                   "FROM service_requests sr, to_tsquery('simple', :query) q " +
+                   "WHERE sr.search_vector @@ q AND sr.deleted_at IS NULL " +
+                   "ORDER BY score DESC, sr.id DESC LIMIT :limit OFFSET :offset) hit " +
+                   "ORDER BY hit.score DESC, hit.id DESC",
+           nativeQuery = true)
+    List<SearchHitRow> fullTextSearch(@Param("query") String query,
+                                      @Param("limit") int limit,
+                                      @Param("offset") long offset);
+
     /**
-     * 연도/월별 SR 개수 조회 (자동 채번용)
+     * 최대 SR id (중복 후보 색인 병렬 적재 범위 계산용)
      */
-    @Query("SELECT COUNT(sr) FROM ServiceRequest sr " +
-           "WHERE EXTRACT(YEAR FROM sr.requestDate) = :year " +
-           "AND EXTRACT(MONTH FROM sr.requestDate) = :month " +
-           "AND sr.deletedAt IS NULL")
-    Long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
-}
+    @Query("SELECT COALESCE(MAX(sr.id), 0) FROM ServiceRequest sr")
+    long findMaxId();
+
+    /**
+     * id 범위 (afterId, toId] 의 삭제되지 않은 SR 제목/업무 요구사항 (id 순, 중복 후보 색인 적재용)
+     */
+    @Query(value = "SELECT sr.id AS \"id\", sr.sr_number AS \"srNumber\", sr.title AS \"title\", " +
+                   "sr.status AS \"status\", sr.business_requirement AS \"businessRequirement\" " +
+                   "FROM service_requests sr " +
+                   "WHERE sr.id > :afterId AND sr.id <= :toId AND sr.deleted_at IS NULL " +
+                   "ORDER BY sr.id LIMIT :limit",
+           nativeQuery = true)
+    List<TextRow> findTextRows(@Param("afterId") long afterId, @Param("toId") long toId, @Param("limit") int limit);
 
+    /**
+     * SR 텍스트 Projection
+     */
+    interface TextRow {
+        Long getId();
+        String getSrNumber();
+        String getTitle();
+        String getStatus();
+        String getBusinessRequirement();
+    }
+}
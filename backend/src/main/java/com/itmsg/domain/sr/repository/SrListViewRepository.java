@@ -0,0 +1,73 @@
+package com.itmsg.domain.sr.repository;
+
+import com.itmsg.domain.sr.entity.SrListView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SR 목록 읽기 모델 Repository
+ */
+@Repository
+public interface SrListViewRepository extends JpaRepository<SrListView, Long>, JpaSpecificationExecutor<SrListView> {
+
+    /**
+     * SR 원본과 연관 테이블에서 목록 행을 다시 계산하여 저장 (삭제되지 않은 SR 만)
+     * 같은 트랜잭션의 변경이 반영되도록 실행 전에 영속성 컨텍스트를 flush 한다
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO sr_list_view (sr_id, sr_number, title, sr_type, sr_category, status, priority, " +
+                   "request_date, due_date, release_date, release_number, " +
+                   "project_id, project_name, requester_id, requester_name, " +
+                   "requester_dept_id, requester_dept_name, spec_id, spec_number, spec_status, " +
+                   "attachment_count, created_at, created_by, updated_at) " +
+                   "SELECT sr.id, sr.sr_number, sr.title, sr.sr_type, sr.sr_category, sr.status, sr.priority, " +
+                   "sr.request_date, sr.due_date, sr.release_date, sr.release_number, " +
+                   "sr.project_id, p.name, sr.requester_id, u.name, " +
+                   "sr.requester_dept_id, d.name, sr.spec_id, s.spec_number, s.status, " +
+                   "(SELECT COUNT(*) FROM sr_files f WHERE f.sr_id = sr.id), " +
+                   "sr.created_at, sr.created_by, sr.updated_at " +
+                   "FROM service_requests sr " +
+                   "JOIN projects p ON p.id = sr.project_id " +
+                   "JOIN users u ON u.id = sr.requester_id " +
+                   "LEFT JOIN departments d ON d.id = sr.requester_dept_id " +
+                   "LEFT JOIN specifications s ON s.id = sr.spec_id " +
+                   "WHERE sr.id IN (:srIds) AND sr.deleted_at IS NULL " +
+                   "ON CONFLICT (sr_id) DO UPDATE SET " +
+                   "sr_number = EXCLUDED.sr_number, title = EXCLUDED.title, sr_type = EXCLUDED.sr_type, " +
+                   "sr_category = EXCLUDED.sr_category, status = EXCLUDED.status, priority = EXCLUDED.priority, " +
+                   "request_date = EXCLUDED.request_date, due_date = EXCLUDED.due_date, " +
+                   "release_date = EXCLUDED.release_date, release_number = EXCLUDED.release_number, " +
+                   "project_id = EXCLUDED.project_id, project_name = EXCLUDED.project_name, " +
+                   "requester_id = EXCLUDED.requester_id, requester_name = EXCLUDED.requester_name, " +
+                   "requester_dept_id = EXCLUDED.requester_dept_id, requester_dept_name = EXCLUDED.requester_dept_name, " +
+                   "spec_id = EXCLUDED.spec_id, spec_number = EXCLUDED.spec_number, spec_status = EXCLUDED.spec_status, " +
+                   "attachment_count = EXCLUDED.attachment_count, created_at = EXCLUDED.created_at, " +
+                   "created_by = EXCLUDED.created_by, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsert(@Param("srIds") Collection<Long> srIds);
+
+    /**
+     * 삭제된 SR 의 목록 행 제거
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM sr_list_view v USING service_requests sr " +
+                   "WHERE v.sr_id = sr.id AND sr.id IN (:srIds) AND sr.deleted_at IS NOT NULL",
+           nativeQuery = true)
+    int deleteRemoved(@Param("srIds") Collection<Long> srIds);
+
+    @Query("SELECT v.id FROM SrListView v WHERE v.projectId = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT v.id FROM SrListView v WHERE v.requesterId = :requesterId")
+    List<Long> findIdsByRequesterId(@Param("requesterId") Long requesterId);
+
+    @Query("SELECT v.id FROM SrListView v WHERE v.specId = :specId")
+    List<Long> findIdsBySpecId(@Param("specId") Long specId);
+}
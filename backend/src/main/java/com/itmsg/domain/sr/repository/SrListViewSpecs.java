@@ -0,0 +1,32 @@
+package com.itmsg.domain.sr.repository;
+
+import com.itmsg.domain.sr.entity.SrListView;
+import com.itmsg.domain.sr.entity.SrStatus;
+import com.itmsg.domain.sr.entity.SrType;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * SR 목록 읽기 모델 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ * 삭제된 SR 은 읽기 모델에 없으므로 삭제 조건이 필요 없다
+ */
+public final class SrListViewSpecs {
+
+    private SrListViewSpecs() {
+    }
+
+    public static Specification<SrListView> search(String title, SrType srType, SrStatus status,
+                                                   Long projectId, Long requesterId,
+                                                   LocalDate startDate, LocalDate endDate) {
+        return Specification.allOf(
+                Specs.contains("title", title),
+                Specs.equal("srType", srType),
+                Specs.equal("status", status),
+                Specs.equal("projectId", projectId),
+                Specs.equal("requesterId", requesterId),
+                Specs.atLeast("requestDate", startDate),
+                Specs.atMost("requestDate", endDate));
+    }
+}
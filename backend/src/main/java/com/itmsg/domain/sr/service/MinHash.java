@@ -0,0 +1,133 @@
+package com.itmsg.domain.sr.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 문자 3-gram MinHash 서명
+ * 두 문서 서명에서 같은 위치 값이 일치하는 비율이 3-gram 집합의 Jaccard 유사도 추정값이다.
+ * 서명은 BANDS x ROWS 개 값이며, LSH 는 밴드(ROWS 개 값 묶음)마다 버킷 키를 하나씩 만든다.
+ * 16 x 4 구성에서 후보가 될 확률은 유사도 0.5 부근에서 급격히 올라간다 (1 - (1 - s^4)^16).
+ */
+final class MinHash {
+
+    static final int BANDS = 16;
+    static final int ROWS = 4;
+    static final int SIZE = BANDS * ROWS;
+
+    /** 서명 계산에 쓰는 최대 글자 수 (긴 본문의 비용 상한) */
+    static final int MAX_TEXT_LENGTH = 2000;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * 텍스트 서명 (내용이 없으면 null)
+     */
+    static long[] signature(String... texts) {
+        Set<Long> shingles = shingles(normalize(texts));
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        long[] signature = new long[SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIZE; i++) {
+                long value = mix(shingle ^ SEEDS[i]);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 추정 유사도 (0~1)
+     */
+    static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * 밴드별 LSH 버킷 키 (밴드 번호를 섞어 밴드 간 충돌을 막음)
+     */
+    static long[] bandKeys(long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS; row++) {
+                key = mix(key * 31 + signature[band * ROWS + row]);
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * 소문자 + 문자/숫자만 남기고 나머지는 공백 하나로 합침
+     */
+    private static String normalize(String... texts) {
+        StringBuilder normalized = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i < text.length() && normalized.length() < MAX_TEXT_LENGTH; i++) {
+                char ch = text.charAt(i);
+                if (Character.isLetterOrDigit(ch)) {
+                    normalized.append(Character.toLowerCase(ch));
+                } else if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                    normalized.append(' ');
+                }
+            }
+            if (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        return normalized.toString().trim();
+    }
+
+    private static Set<Long> shingles(String text) {
+        Set<Long> shingles = new HashSet<>();
+        if (text.isEmpty()) {
+            return shingles;
+        }
+        if (text.length() <= SHINGLE_LENGTH) {
+            shingles.add(mix(text.hashCode()));
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_LENGTH <= text.length(); i++) {
+            shingles.add(mix(text.substring(i, i + SHINGLE_LENGTH).hashCode()));
+        }
+        return shingles;
+    }
+
+    /**
+     * 64비트 해시 혼합 (SplitMix64)
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
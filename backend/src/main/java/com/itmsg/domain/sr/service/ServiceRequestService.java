@@ -8,23 +8,44 @@ import com.itmsg.domain.sr.dto.SrCreateRequest;
 import com.itmsg.domain.sr.dto.SrResponse;
 import com.itmsg.domain.sr.dto.SrUpdateRequest;
 import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.entity.SrListView;
 import com.itmsg.domain.sr.entity.SrStatus;
 import com.itmsg.domain.sr.entity.SrType;
 import com.itmsg.domain.sr.repository.ServiceRequestRepository;
+import com.itmsg.domain.sr.repository.SrListViewRepository;
+import com.itmsg.domain.sr.repository.SrListViewSpecs;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.dto.SearchHitResponse;
+import com.itmsg.global.common.dto.SliceResponse;
+import com.itmsg.global.common.dto.TotalMode;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.FacetQuery;
+import com.itmsg.global.common.repository.RowEstimator;
+import com.itmsg.global.common.repository.RowFilter;
+import com.itmsg.global.common.repository.SliceQuery;
+import com.itmsg.global.common.repository.Specs;
+import com.itmsg.global.common.service.FacetService;
 import com.itmsg.global.common.service.NumberingService;
+import com.itmsg.global.common.util.ETags;
+import com.itmsg.global.common.util.Keyset;
+import com.itmsg.global.common.util.TsQueries;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * SR Service
@@ -35,10 +56,21 @@ import java.time.LocalDate;
 public class ServiceRequestService {
     
     private final ServiceRequestRepository serviceRequestRepository;
+    private final SrListViewRepository srListViewRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
     private final NumberingService numberingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowEstimator rowEstimator;
+    private final SliceQuery sliceQuery;
+    private final FacetService facetService;
+    
+    private static final List<FacetQuery.Facet> FACETS = List.of(
+            new FacetQuery.Facet("status", "status"),
+            new FacetQuery.Facet("srType", "sr_type"),
+            new FacetQuery.Facet("srCategory", "sr_category"),
+            new FacetQuery.Facet("priority", "priority"));
     
     /**
      * SR 등록
@@ -84,7 +116,8 @@ public class ServiceRequestService {
                 .build();
         
         ServiceRequest savedSr = serviceRequestRepository.save(sr);
-        return SrResponse.from(savedSr);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.SR, savedSr.getId(), savedSr.getStatus(), savedSr));
+        return SrResponse.from(savedSr, AuthenticatedUser.current().getDisplayName());
     }
     
     /**
@@ -106,17 +139,81 @@ public class ServiceRequestService {
     }
     
     /**
-     * SR 목록 조회 (검색 및 필터링)
+     * SR 번호 조회 ETag (없으면 null)
+     */
+    public String getServiceRequestByNumberETag(String srNumber) {
+        return serviceRequestRepository.findVersionBySrNumber(srNumber)
+                .map(version -> ETags.of("sr", srNumber, version))
+                .orElse(null);
+    }
+    
+    /**
+     * SR 목록 조회 (검색 및 필터링, 목록 읽기 모델 sr_list_view 에서 조회)
      */
     public Page<SrResponse> searchServiceRequests(String title, SrType srType,
                                                    SrStatus status, Long projectId,
                                                    Long requesterId, LocalDate startDate,
                                                    LocalDate endDate, Pageable pageable) {
-        Page<ServiceRequest> srs = serviceRequestRepository.search(
-                title, srType, status, projectId, requesterId, startDate, endDate, pageable);
+        Page<SrListView> srs = srListViewRepository.findAll(
+                SrListViewSpecs.search(title, srType, status, projectId, requesterId, startDate, endDate), pageable);
         return srs.map(SrResponse::from);
     }
     
+    /**
+     * SR 목록 조회 (COUNT 쿼리 없는 Slice, 전체 건수는 totalMode 에 따라 생략/추정/계산)
+     */
+    public SliceResponse<SrResponse> searchServiceRequestsSlice(String title, SrType srType, SrStatus status,
+                                                                Long projectId, Long requesterId,
+                                                                LocalDate startDate, LocalDate endDate,
+                                                                Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            return SliceResponse.of(searchServiceRequests(title, srType, status, projectId, requesterId, startDate, endDate, pageable));
+        }
+        Slice<SrListView> rows = sliceQuery.findSlice(
+                SrListView.class, SrListViewSpecs.search(title, srType, status, projectId, requesterId, startDate, endDate), pageable);
+        Long total = totalMode == TotalMode.ESTIMATE
+                ? rowEstimator.estimate(rowFilter(title, srType, status, projectId, requesterId, startDate, endDate))
+                : null;
+        return SliceResponse.of(rows.map(SrResponse::from), total, totalMode);
+    }
+    
+    /**
+     * SR 목록 패싯 건수 (상태/유형/분류/우선순위별 건수를 한 번의 집계로 계산)
+     */
+    public FacetResponse getServiceRequestFacets(String title, SrType srType, SrStatus status,
+                                                 Long projectId, Long requesterId,
+                                                 LocalDate startDate, LocalDate endDate) {
+        return facetService.count(EntityType.SR,
+                rowFilter(title, srType, status, projectId, requesterId, startDate, endDate), FACETS);
+    }
+    
+    /**
+     * SR 목록 커서 조회 (keyset 페이지네이션)
+     */
+    public CursorPage<SrResponse> searchServiceRequestsByCursor(String title, SrType srType, SrStatus status,
+                                                                Long projectId, Long requesterId,
+                                                                LocalDate startDate, LocalDate endDate,
+                                                                String cursor, int size) {
+        Keyset<LocalDate> keyset = Keyset.ofDate(cursor);
+        List<SrListView> rows = srListViewRepository.findBy(
+                SrListViewSpecs.search(title, srType, status, projectId, requesterId, startDate, endDate)
+                        .and(Specs.seekBefore("requestDate", keyset.key(), keyset.id())),
+                query -> query.sortBy(Keyset.sort("requestDate")).limit(Keyset.fetchSize(size)).all());
+        return Keyset.page(rows, size, SrListView::getRequestDate, SrListView::getId, SrResponse::from);
+    }
+    
+    /**
+     * SR 전문 검색 (제목 + 업무 요구사항, 관련도순, 일치 구간 하이라이트)
+     */
+    public Slice<SearchHitResponse> fullTextSearch(String keyword, Pageable pageable) {
+        String query = TsQueries.prefixQuery(keyword);
+        if (query == null) {
+            return SearchHitResponse.toSlice(List.of(), pageable);
+        }
+        return SearchHitResponse.toSlice(
+                serviceRequestRepository.fullTextSearch(query, pageable.getPageSize() + 1, pageable.getOffset()), pageable);
+    }
+    
     /**
      * SR 수정
      */
@@ -127,6 +224,7 @@ public class ServiceRequestService {
         
         sr.updateInfo(request.getTitle(), request.getBusinessRequirement(),
                 request.getDueDate(), request.getPriority());
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SR, sr.getId(), sr.getStatus(), sr.getStatus(), sr));
         
         return SrResponse.from(sr);
     }
@@ -139,7 +237,9 @@ public class ServiceRequestService {
         ServiceRequest sr = serviceRequestRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SR_NOT_FOUND));
         
+        SrStatus previousStatus = sr.getStatus();
         sr.changeStatus(status);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.SR, sr.getId(), previousStatus, sr.getStatus(), sr));
         return SrResponse.from(sr);
     }
     
@@ -151,16 +251,29 @@ public class ServiceRequestService {
         ServiceRequest sr = serviceRequestRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SR_NOT_FOUND));
         sr.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.SR, sr.getId(), sr.getStatus(), sr));
     }
     
     /**
-     * 현재 로그인 사용자 조회
+     * 현재 로그인 사용자 참조 (토큰의 사용자 id 로 만든 프록시, DB 조회 없음)
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        return userRepository.getReferenceById(AuthenticatedUser.current().getUserId());
+    }
+    
+    /**
+     * 목록 검색 조건의 테이블 조건 (건수 추정/패싯 집계용)
+     */
+    private RowFilter rowFilter(String title, SrType srType, SrStatus status, Long projectId,
+                                Long requesterId, LocalDate startDate, LocalDate endDate) {
+        return RowFilter.of("service_requests")
+                .like("title", title)
+                .eq("sr_type", srType)
+                .eq("status", status)
+                .eq("project_id", projectId)
+                .eq("requester_id", requesterId)
+                .ge("request_date", startDate)
+                .le("request_date", endDate);
     }
 }
 
@@ -0,0 +1,179 @@
+package com.itmsg.domain.sr.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SR 중복 후보 메모리 색인 (MinHash + LSH)
+ * SR 마다 제목/업무 요구사항의 MinHash 서명을 보관하고, 밴드 버킷(버킷 키 → SR id)으로
+ * 같은 버킷에 한 번이라도 들어간 SR 만 후보로 모아 서명 유사도를 비교한다.
+ * 쓰기는 하나씩 직렬화하고, 읽기는 잠금 없이 동시 자료구조를 그대로 조회한다.
+ * 전체 적재 중에는 변경 이벤트로 갱신/삭제된 SR 을 기록해 두고, 적재가 읽어 온 이전 값으로 덮어쓰지 않는다.
+ */
+@Component
+public class SrDuplicateIndex {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    /** 전체 적재 중 put/remove 로 반영된 SR id (적재 중에만 존재, writeLock 으로 보호) */
+    private Set<Long> touchedDuringLoad;
+
+    /**
+     * SR 추가 또는 교체 (내용이 없으면 제거)
+     */
+    public void put(Long id, String srNumber, String title, String status, String businessRequirement) {
+        long[] signature = MinHash.signature(title, businessRequirement);
+        synchronized (writeLock) {
+            markTouchedLocked(id);
+            putLocked(id, srNumber, title, status, signature);
+        }
+    }
+
+    /**
+     * 전체 적재용 추가 (적재 시작 후 put/remove 로 반영된 SR 이면 건너뛴다)
+     *
+     * @return 색인에 반영했는지 여부
+     */
+    public boolean putIfUntouched(Long id, String srNumber, String title, String status, String businessRequirement) {
+        long[] signature = MinHash.signature(title, businessRequirement);
+        synchronized (writeLock) {
+            if (touchedDuringLoad != null && touchedDuringLoad.contains(id)) {
+                return false;
+            }
+            putLocked(id, srNumber, title, status, signature);
+            return true;
+        }
+    }
+
+    /**
+     * SR 제거
+     */
+    public void remove(Long id) {
+        synchronized (writeLock) {
+            markTouchedLocked(id);
+            removeLocked(id);
+        }
+    }
+
+    /**
+     * 전체 적재 시작 (이후 put/remove 된 SR 을 기록)
+     */
+    public void beginLoad() {
+        synchronized (writeLock) {
+            touchedDuringLoad = new HashSet<>();
+        }
+    }
+
+    /**
+     * 전체 적재 종료
+     */
+    public void endLoad() {
+        synchronized (writeLock) {
+            touchedDuringLoad = null;
+        }
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            entries.clear();
+            buckets.clear();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 유사한 SR 검색 (유사도 내림차순)
+     *
+     * @param excludeId 결과에서 뺄 SR id (수정 중인 SR 자신, 없으면 null)
+     * @param threshold 최소 추정 유사도 (0~1)
+     * @param limit     최대 결과 수
+     */
+    public List<Match> findSimilar(String title, String businessRequirement, Long excludeId,
+                                   double threshold, int limit) {
+        long[] signature = MinHash.signature(title, businessRequirement);
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (long key : MinHash.bandKeys(signature)) {
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(excludeId);
+
+        List<Match> matches = new ArrayList<>();
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            double similarity = MinHash.similarity(signature, entry.signature());
+            if (similarity >= threshold) {
+                matches.add(new Match(entry, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+                .thenComparing(match -> match.entry().id(), Comparator.reverseOrder()));
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    private void markTouchedLocked(Long id) {
+        if (touchedDuringLoad != null) {
+            touchedDuringLoad.add(id);
+        }
+    }
+
+    private void putLocked(Long id, String srNumber, String title, String status, long[] signature) {
+        removeLocked(id);
+        if (signature == null) {
+            return;
+        }
+        Entry entry = new Entry(id, srNumber, title, status, signature, MinHash.bandKeys(signature));
+        entries.put(id, entry);
+        for (long key : entry.bandKeys()) {
+            buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void removeLocked(Long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long key : previous.bandKeys()) {
+            buckets.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * 색인 항목 (응답용 번호/제목/상태 + 서명)
+     */
+    public record Entry(Long id, String srNumber, String title, String status, long[] signature, long[] bandKeys) {
+    }
+
+    /**
+     * 검색 결과 (항목 + 추정 유사도)
+     */
+    public record Match(Entry entry, double similarity) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.itmsg.domain.sr.service;
+
+import com.itmsg.domain.sr.dto.SrDuplicateCheckRequest;
+import com.itmsg.domain.sr.dto.SrDuplicateResponse;
+import com.itmsg.domain.sr.entity.ServiceRequest;
+import com.itmsg.domain.sr.repository.ServiceRequestRepository;
+import com.itmsg.global.common.event.ChangeType;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SR 중복 후보 서비스
+ * 새 SR 의 제목/업무 요구사항과 비슷한 기존 SR 을 메모리 MinHash/LSH 색인(SrDuplicateIndex)에서 찾는다.
+ *
+ * - 애플리케이션 기동 후 별도 스레드에서 id 범위를 rebuild-threads 개로 나눠 병렬로 적재한다 (적재 중에도 조회 가능, 결과는 부분적).
+ * - 이후 등록/수정/삭제는 엔티티 변경 이벤트로 반영하며, 커밋 후에만 색인에 적용한다.
+ * - 색인은 노드 단위이므로 다중 인스턴스에서는 다른 노드의 변경이 재기동 전까지 반영되지 않는다.
+ */
+@Slf4j
+@Service
+public class SrDuplicateService {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final SrDuplicateIndex srDuplicateIndex;
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer checkTimer;
+    private final double threshold;
+    private final int rebuildThreads;
+
+    public SrDuplicateService(
+            SrDuplicateIndex srDuplicateIndex,
+            ServiceRequestRepository serviceRequestRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${sr.duplicates.threshold:0.5}") double threshold,
+            @Value("${sr.duplicates.rebuild-threads:4}") int rebuildThreads) {
+        this.srDuplicateIndex = srDuplicateIndex;
+        this.serviceRequestRepository = serviceRequestRepository;
+        this.threshold = threshold;
+        this.rebuildThreads = Math.max(1, rebuildThreads);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.checkTimer = Timer.builder("sr.duplicates.check")
+                .description("SR 중복 후보 검색 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("sr.duplicates.index.size", srDuplicateIndex, SrDuplicateIndex::size);
+    }
+
+    /**
+     * 중복 후보 SR 검색 (추정 유사도 threshold 이상, 유사도 내림차순)
+     *
+     * @param limit 최대 결과 수 (1~20)
+     */
+    public List<SrDuplicateResponse> findDuplicates(SrDuplicateCheckRequest request, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<SrDuplicateIndex.Match> matches = checkTimer.record(() -> srDuplicateIndex.findSimilar(
+                request.getTitle(), request.getBusinessRequirement(), request.getExcludeId(), threshold, boundedLimit));
+        return matches.stream()
+                .map(match -> SrDuplicateResponse.builder()
+                        .id(match.entry().id())
+                        .srNumber(match.entry().srNumber())
+                        .title(match.entry().title())
+                        .status(match.entry().status())
+                        .similarity(match.similarity())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 기동 후 전체 적재 (별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexOnStartup() {
+        Thread thread = new Thread(this::rebuild, "sr-duplicate-indexer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 전체 재적재 (id 범위를 나눠 병렬 처리)
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        srDuplicateIndex.beginLoad();
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sr-duplicate-loader-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long maxId = serviceRequestRepository.findMaxId();
+            long rangeSize = Math.max(1, (maxId + rebuildThreads - 1) / rebuildThreads);
+            List<CompletableFuture<Void>> loads = new ArrayList<>();
+            for (long from = 0; from < maxId; from += rangeSize) {
+                long afterId = from;
+                long toId = Math.min(from + rangeSize, maxId);
+                loads.add(CompletableFuture.runAsync(() -> load(afterId, toId), executor));
+            }
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+            log.info("SR 중복 후보 색인 완료: {}건, {}ms", srDuplicateIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("SR 중복 후보 색인 실패", e);
+        } finally {
+            executor.shutdown();
+            srDuplicateIndex.endLoad();
+        }
+    }
+
+    /**
+     * 커밋 후 변경된 SR 을 색인에 반영
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.getEntityType() != EntityType.SR) {
+            return;
+        }
+        Long id = event.getEntityId();
+        ServiceRequest sr = event.getChangeType() == ChangeType.DELETED ? null : event.getEntity(ServiceRequest.class);
+        String srNumber = sr != null ? sr.getSrNumber() : null;
+        String title = sr != null ? sr.getTitle() : null;
+        String status = sr != null && sr.getStatus() != null ? sr.getStatus().name() : null;
+        String businessRequirement = sr != null ? sr.getBusinessRequirement() : null;
+
+        Runnable apply = () -> {
+            if (sr == null) {
+                srDuplicateIndex.remove(id);
+            } else {
+                srDuplicateIndex.put(id, srNumber, title, status, businessRequirement);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * id 범위 (afterId, toId] 적재
+     */
+    private void load(long afterId, long toId) {
+        long cursor = afterId;
+        while (cursor < toId) {
+            long pageAfter = cursor;
+            List<ServiceRequestRepository.TextRow> rows = readOnlyTransaction.execute(
+                    status -> serviceRequestRepository.findTextRows(pageAfter, toId, LOAD_PAGE_SIZE));
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+            for (ServiceRequestRepository.TextRow row : rows) {
+                srDuplicateIndex.putIfUntouched(row.getId(), row.getSrNumber(), row.getTitle(), row.getStatus(),
+                        row.getBusinessRequirement());
+            }
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                return;
+            }
+            cursor = rows.get(rows.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.itmsg.domain.sr.service;
+
+import com.itmsg.domain.spec.entity.Specification;
+import com.itmsg.domain.sr.repository.SrListViewRepository;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SR 목록 읽기 모델(sr_list_view) 갱신
+ * 목록 행에 복사된 값이 바뀌는 변경(SR, 프로젝트명, 요청자명, 명세서 번호/상태)마다
+ * 영향받는 SR 행만 발행 트랜잭션 안에서 다시 계산하므로, 커밋되면 원본과 읽기 모델이 함께 반영된다.
+ *
+ * 부서명과 첨부파일은 변경 API 가 없어 이벤트가 없으므로, 해당 SR 이 다음에 변경될 때 함께 갱신된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SrListViewUpdater {
+
+    /** UPSERT 한 번에 넘기는 최대 SR 수 (IN 목록 크기 제한) */
+    private static final int BATCH_SIZE = 500;
+
+    private final SrListViewRepository srListViewRepository;
+
+    @EventListener
+    @Transactional
+    public void onEntityChanged(EntityChangedEvent event) {
+        Set<Long> srIds = affectedSrIds(event);
+        if (srIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(srIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            refresh(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+    }
+
+    private void refresh(Collection<Long> srIds) {
+        srListViewRepository.upsert(srIds);
+        srListViewRepository.deleteRemoved(srIds);
+    }
+
+    /**
+     * 목록 행을 다시 계산해야 하는 SR
+     */
+    private Set<Long> affectedSrIds(EntityChangedEvent event) {
+        Set<Long> srIds = new LinkedHashSet<>();
+        switch (event.getEntityType()) {
+            case SR -> srIds.add(event.getEntityId());
+            case PROJECT -> srIds.addAll(srListViewRepository.findIdsByProjectId(event.getEntityId()));
+            case USER -> srIds.addAll(srListViewRepository.findIdsByRequesterId(event.getEntityId()));
+            case SPEC -> {
+                // 새 명세서는 SR 에 막 연결되어 아직 읽기 모델에 spec_id 가 없다
+                Specification spec = event.getEntity(Specification.class);
+                if (spec.getServiceRequest() != null) {
+                    srIds.add(spec.getServiceRequest().getId());
+                }
+                srIds.addAll(srListViewRepository.findIdsBySpecId(event.getEntityId()));
+            }
+            default -> {
+                // 목록 읽기 모델에 복사되지 않는 엔티티
+            }
+        }
+        return srIds;
+    }
+}
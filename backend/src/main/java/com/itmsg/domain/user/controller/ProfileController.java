@@ -2,11 +2,8 @@ package com.itmsg.domain.user.controller;
 
 import com.itmsg.domain.user.dto.UserResponse;
 import com.itmsg.domain.user.dto.UserUpdateRequest;
-import com.itmsg.domain.user.entity.User;
-import com.itmsg.domain.user.repository.UserRepository;
 import com.itmsg.domain.user.service.UserService;
-import com.itmsg.global.exception.BusinessException;
-import com.itmsg.global.exception.ErrorCode;
+import com.itmsg.global.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -14,8 +11,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -30,7 +25,6 @@ import org.springframework.web.bind.annotation.*;
 public class ProfileController {
     
     private final UserService userService;
-    private final UserRepository userRepository;
     
     @Operation(
         summary = "내 프로필 조회",
@@ -68,16 +62,7 @@ public class ProfileController {
      * 현재 로그인한 사용자의 ID를 가져옵니다.
      */
     private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED);
-        }
-        
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        
-        return user.getId();
+        return AuthenticatedUser.current().getUserId();
     }
 }
 
@@ -5,6 +5,7 @@ import com.itmsg.domain.user.dto.UserCreateRequest;
 import com.itmsg.domain.user.dto.UserResponse;
 import com.itmsg.domain.user.dto.UserUpdateRequest;
 import com.itmsg.domain.user.service.UserService;
+import com.itmsg.global.common.dto.SuggestionResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,6 +22,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 사용자 관리 Controller
  *
@@ -37,7 +40,7 @@ public class UserController {
     
     @Operation(
         summary = "사용자 목록 조회",
-        description = "시스템 관리자가 전체 사용자 목록을 페이징하여 조회합니다."
+        description = "시스템 관리자가 사용자 목록을 검색 및 필터링하여 페이징 조회합니다."
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -46,11 +49,28 @@ public class UserController {
     })
     @GetMapping
     public ResponseEntity<Page<UserResponse>> getUsers(
+            @Parameter(description = "이름") @RequestParam(required = false) String name,
+            @Parameter(description = "회사 ID") @RequestParam(required = false) Long companyId,
+            @Parameter(description = "부서 ID") @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "활성 여부") @RequestParam(required = false) Boolean isActive,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<UserResponse> users = userService.getUsers(pageable);
+        Page<UserResponse> users = userService.getUsers(name, companyId, departmentId, isActive, pageable);
         return ResponseEntity.ok(users);
     }
     
+    @Operation(
+        summary = "사용자 자동완성",
+        description = "이름으로 사용자를 찾아 id/이름/부서명만 반환합니다 (승인자, PM, 담당자 선택용). 오타를 허용합니다. "
+                + "선택 UI 에서 쓰이므로 로그인한 모든 사용자가 호출할 수 있습니다."
+    )
+    @GetMapping("/suggest")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<SuggestionResponse>> suggestUsers(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.suggestUsers(q, limit));
+    }
+    
     @Operation(
         summary = "사용자 상세 조회",
         description = "특정 사용자의 상세 정보를 조회합니다."
@@ -30,6 +30,9 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
+    /** 계정이 잠기는 로그인 실패 횟수 */
+    public static final int MAX_FAILED_LOGIN_COUNT = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -130,6 +133,13 @@ public class User extends BaseEntity {
         this.passwordChangeRequired = false;
     }
 
+    /**
+     * 같은 비밀번호를 더 높은 강도로 다시 해싱한 값으로 교체 (비밀번호 변경 이력에는 영향 없음)
+     */
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     /**
      * 초기 비밀번호 변경 필요 설정
      */
@@ -151,7 +161,7 @@ public class User extends BaseEntity {
      */
     public void loginFailed() {
         this.failedLoginCount++;
-        if (this.failedLoginCount >= 5) {
+        if (this.failedLoginCount >= MAX_FAILED_LOGIN_COUNT) {
             this.isLocked = true;
         }
     }
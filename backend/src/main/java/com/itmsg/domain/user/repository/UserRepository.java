@@ -1,20 +1,24 @@
 package com.itmsg.domain.user.repository;
 
 import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.common.repository.SuggestionRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * User Repository
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
     /**
      * 이메일로 사용자 조회
@@ -28,30 +32,47 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailWithRoles(@Param("email") String email);
 
     /**
-     * 이메일 중복 체크
+     * 로그인 실패 횟수를 원자적으로 증가시키고 증가된 값을 반환 (한도에 도달하면 계정 잠금)
+     * 엔티티를 읽고 쓰지 않으므로 동시 실패 요청에서도 증가분이 유실되거나 낙관적 잠금 충돌이 나지 않으며,
+     * version 을 올려 이 행을 먼저 읽은 다른 트랜잭션의 덮어쓰기를 막는다.
+     *
+     * @return 증가된 실패 횟수 (사용자가 없으면 null)
      */
-    boolean existsByEmail(String email);
+    @Transactional
+    @Query(value = "UPDATE users SET failed_login_count = failed_login_count + 1, " +
+                   "is_locked = is_locked OR failed_login_count + 1 >= :maxFailedCount, " +
+                   "version = COALESCE(version, 0) + 1, updated_at = CURRENT_TIMESTAMP, updated_by = 'system' " +
+                   "WHERE email = :email AND deleted_at IS NULL " +
+                   "RETURNING failed_login_count",
+           nativeQuery = true)
+    Integer incrementFailedLoginCount(@Param("email") String email, @Param("maxFailedCount") int maxFailedCount);
 
     /**
-     * 사용자 검색 (필터링)
+     * 이메일 중복 체크
      */
-    @Query("SELECT u FROM User u " +
-           "WHERE (:name IS NULL OR u.name LIKE %:name%) " +
-           "AND (:companyId IS NULL OR u.company.id = :companyId) " +
-           "AND (:departmentId IS NULL OR u.department.id = :departmentId) " +
-           "AND (:isActive IS NULL OR u.isActive = :isActive) " +
-           "AND u.deletedAt IS NULL")
-    Page<User> search(@Param("name") String name,
-                      @Param("companyId") Long companyId,
-                      @Param("departmentId") Long departmentId,
-                      @Param("isActive") Boolean isActive,
-                      Pageable pageable);
+    boolean existsByEmail(String email);
 
     /**
      * 회사별 활성 사용자 조회
      */
     @Query("SELECT u FROM User u WHERE u.company.id = :companyId AND u.isActive = true AND u.deletedAt IS NULL")
     Page<User> findActiveUsersByCompany(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * 자동완성 검색 (이름, 부분 일치 + 오타 허용 유사도)
+     * 로그인한 모든 사용자가 호출하므로 이메일은 검색/반환하지 않고, 동명이인 구분용으로 부서명만 반환한다.
+     */
+    @Query(value = "SELECT u.id AS \"id\", u.name AS \"label\", d.name AS \"detail\" " +
+                   "FROM users u LEFT JOIN departments d ON d.id = u.department_id " +
+                   "WHERE u.deleted_at IS NULL AND u.is_active = true " +
+                   "AND (u.name ILIKE :pattern OR :query <% u.name) " +
+                   "ORDER BY (u.name ILIKE :prefix) DESC, word_similarity(:query, u.name) DESC, u.name, u.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<SuggestionRow> suggest(@Param("query") String query,
+                                @Param("pattern") String pattern,
+                                @Param("prefix") String prefix,
+                                @Param("limit") int limit);
 }
 
 
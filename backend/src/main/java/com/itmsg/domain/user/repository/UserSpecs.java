@@ -0,0 +1,23 @@
+package com.itmsg.domain.user.repository;
+
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.common.repository.Specs;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 사용자 검색 조건 (전달된 필터만 WHERE 절에 포함)
+ */
+public final class UserSpecs {
+
+    private UserSpecs() {
+    }
+
+    public static Specification<User> search(String name, Long companyId, Long departmentId, Boolean isActive) {
+        return Specification.allOf(
+                Specs.notDeleted(),
+                Specs.contains("name", name),
+                Specs.equalId("company", companyId),
+                Specs.equalId("department", departmentId),
+                Specs.equal("isActive", isActive));
+    }
+}
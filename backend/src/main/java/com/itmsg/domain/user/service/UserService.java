@@ -10,16 +10,24 @@ import com.itmsg.domain.user.dto.UserResponse;
 import com.itmsg.domain.user.dto.UserUpdateRequest;
 import com.itmsg.domain.user.entity.User;
 import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.domain.user.repository.UserSpecs;
+import com.itmsg.global.common.dto.SuggestionResponse;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.util.Typeahead;
 import com.itmsg.global.exception.BusinessException;
 import com.itmsg.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 사용자 관리 Service
  */
@@ -33,15 +41,32 @@ public class UserService {
     private final CompanyRepository companyRepository;
     private final DepartmentRepository departmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
-     * 사용자 목록 조회
+     * 사용자 목록 조회 (검색 및 필터링)
      */
-    public Page<UserResponse> getUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
+    public Page<UserResponse> getUsers(String name, Long companyId, Long departmentId, Boolean isActive,
+                                       Pageable pageable) {
+        return userRepository.findAll(UserSpecs.search(name, companyId, departmentId, isActive), pageable)
                 .map(UserResponse::from);
     }
     
+    /**
+     * 사용자 자동완성 검색
+     */
+    public List<SuggestionResponse> suggestUsers(String query, int limit) {
+        String normalized = Typeahead.normalize(query);
+        if (normalized == null) {
+            return List.of();
+        }
+        return userRepository.suggest(normalized, Typeahead.containsPattern(normalized),
+                        Typeahead.prefixPattern(normalized), Typeahead.limit(limit))
+                .stream()
+                .map(SuggestionResponse::from)
+                .toList();
+    }
+    
     /**
      * 사용자 상세 조회
      */
@@ -97,6 +122,7 @@ public class UserService {
         user.requirePasswordChange();
         
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(EntityChangedEvent.created(EntityType.USER, savedUser.getId(), null, savedUser));
         log.info("사용자 생성 완료: {}", savedUser.getEmail());
         
         return UserResponse.from(savedUser);
@@ -128,6 +154,7 @@ public class UserService {
             user.updatePosition(request.getPosition());
         }
         
+        eventPublisher.publishEvent(EntityChangedEvent.updated(EntityType.USER, user.getId(), null, null, user));
         log.info("사용자 정보 수정 완료: {}", user.getEmail());
         
         return UserResponse.from(user);
@@ -157,6 +184,7 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
         user.delete();
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(EntityType.USER, user.getId(), null, user));
         
         log.info("사용자 삭제 완료: {}", user.getEmail());
     }
@@ -0,0 +1,141 @@
+package com.itmsg.global.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 만료 시간이 있는 메모리 캐시
+ * 같은 키를 동시에 조회하면 한 요청만 로더를 실행하고 나머지는 그 결과를 기다린다 (single-flight).
+ * 로드 실패는 캐시하지 않으며, 로드 중 무효화된 키는 결과가 저장되지 않아 다음 조회에서 다시 로드한다.
+ * 캐시 조회 결과는 cache.gets 카운터(cache, result=hit/miss 태그)로 기록한다.
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TtlCache(String name, Duration ttl, int maxEntries, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = Math.max(1, maxEntries);
+        this.hitCounter = Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("cache.size", Tags.of("cache", name), entries);
+    }
+
+    /**
+     * 캐시 값 조회 (없거나 만료되면 로드)
+     * 로드는 호출 스레드에서 실행되며, 로더 예외는 그대로 전달된다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> existing = entries.get(key);
+        if (existing != null && !existing.isExpired()) {
+            hitCounter.increment();
+            return existing.join();
+        }
+
+        Entry<V> mine = new Entry<>();
+        Entry<V> winner = entries.compute(key, (k, current) ->
+                current != null && !current.isExpired() ? current : mine);
+        if (winner != mine) {
+            hitCounter.increment();
+            return winner.join();
+        }
+
+        missCounter.increment();
+        evictIfFull();
+        try {
+            V value = loader.apply(key);
+            winner.complete(value, System.nanoTime() + ttlNanos);
+            return value;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 키 무효화
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 키 무효화
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 최대 개수를 넘으면 만료된 항목부터, 그래도 넘으면 임의 항목을 제거한다
+     */
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        entries.values().removeIf(Entry::isExpired);
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 캐시 항목 (로드 중에는 만료되지 않음)
+     */
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long expiresAtNanos;
+        private volatile boolean loaded;
+
+        void complete(V value, long expiresAtNanos) {
+            this.expiresAtNanos = expiresAtNanos;
+            this.loaded = true;
+            future.complete(value);
+        }
+
+        boolean isExpired() {
+            return loaded && System.nanoTime() - expiresAtNanos > 0;
+        }
+
+        V join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.itmsg.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 DTO
+ * nextCursor 를 다음 요청의 cursor 파라미터로 전달하면 마지막 항목 다음부터 이어서 조회한다
+ */
+@Getter
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPage<T> of(List<T> content, boolean hasNext, String nextCursor) {
+        return CursorPage.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? nextCursor : null)
+                .build();
+    }
+}
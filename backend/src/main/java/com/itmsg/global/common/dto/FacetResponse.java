@@ -0,0 +1,19 @@
+package com.itmsg.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 목록 필터 패싯 건수 응답 DTO
+ * facets 는 패싯 이름(status, srType 등) → 값 → 건수이며 값은 건수가 많은 순서다.
+ * 값이 없는(null) 행은 패싯에서 빠지고 total 에만 포함된다.
+ */
+@Getter
+@Builder
+public class FacetResponse {
+
+    private long total;
+    private Map<String, Map<String, Long>> facets;
+}
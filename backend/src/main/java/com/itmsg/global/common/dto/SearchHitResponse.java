@@ -0,0 +1,62 @@
+package com.itmsg.global.common.dto;
+
+import com.itmsg.global.common.repository.SearchHitRow;
+import com.itmsg.global.common.util.TsQueries;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+/**
+ * 전문 검색 결과 응답 DTO
+ * titleHighlight/highlight 는 HTML 이스케이프된 원문에 일치 구간만 &lt;mark&gt; 로 감싼 조각이다
+ */
+@Getter
+@Builder
+public class SearchHitResponse {
+
+    private Long id;
+    private String number;
+    private String title;
+    private String status;
+    private double score;
+    private String titleHighlight;
+    private String highlight;
+
+    public static SearchHitResponse from(SearchHitRow row) {
+        return SearchHitResponse.builder()
+                .id(row.getId())
+                .number(row.getNumber())
+                .title(row.getTitle())
+                .status(row.getStatus())
+                .score(row.getScore() != null ? row.getScore() : 0.0)
+                .titleHighlight(toHtml(row.getTitleHighlight()))
+                .highlight(toHtml(row.getHighlight()))
+                .build();
+    }
+
+    /**
+     * 페이지 크기 + 1 건으로 조회한 결과를 Slice 로 변환 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static Slice<SearchHitResponse> toSlice(List<SearchHitRow> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<SearchHitResponse> content = rows.stream()
+                .limit(pageable.getPageSize())
+                .map(SearchHitResponse::from)
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static String toHtml(String fragment) {
+        if (fragment == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(fragment)
+                .replace(String.valueOf(TsQueries.HIGHLIGHT_START), "<mark>")
+                .replace(String.valueOf(TsQueries.HIGHLIGHT_STOP), "</mark>");
+    }
+}
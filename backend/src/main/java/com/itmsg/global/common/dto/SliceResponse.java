@@ -0,0 +1,40 @@
+package com.itmsg.global.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * COUNT 쿼리 없는 목록 응답 DTO (무한 스크롤용)
+ * 다음 페이지 존재 여부는 페이지 크기 + 1 건 조회로 판단하며,
+ * totalElements 는 totalMode 가 NONE 이면 null, ESTIMATE 면 근사값, EXACT 면 정확한 값이다
+ */
+@Getter
+@Builder
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int number;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private TotalMode totalMode;
+
+    public static <T> SliceResponse<T> of(Slice<T> slice, Long totalElements, TotalMode totalMode) {
+        return SliceResponse.<T>builder()
+                .content(slice.getContent())
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .totalElements(totalElements)
+                .totalMode(totalMode)
+                .build();
+    }
+
+    public static <T> SliceResponse<T> of(Page<T> page) {
+        return of(page, page.getTotalElements(), TotalMode.EXACT);
+    }
+}
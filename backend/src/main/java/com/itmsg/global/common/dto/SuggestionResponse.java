@@ -0,0 +1,26 @@
+package com.itmsg.global.common.dto;
+
+import com.itmsg.global.common.repository.SuggestionRow;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 결과 응답 DTO
+ * 선택 UI 에 필요한 최소 정보만 담는다 (label: 이름, detail: 코드/이메일 등 구분 정보)
+ */
+@Getter
+@Builder
+public class SuggestionResponse {
+
+    private Long id;
+    private String label;
+    private String detail;
+
+    public static SuggestionResponse from(SuggestionRow row) {
+        return SuggestionResponse.builder()
+                .id(row.getId())
+                .label(row.getLabel())
+                .detail(row.getDetail())
+                .build();
+    }
+}
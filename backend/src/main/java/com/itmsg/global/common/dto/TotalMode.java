@@ -0,0 +1,13 @@
+package com.itmsg.global.common.dto;
+
+/**
+ * 목록 조회 시 전체 건수 계산 방식
+ */
+public enum TotalMode {
+    /** 전체 건수 없음 (COUNT 쿼리 생략) */
+    NONE,
+    /** 실행 계획 예상 건수 (근사값) */
+    ESTIMATE,
+    /** COUNT 쿼리로 계산한 정확한 건수 */
+    EXACT
+}
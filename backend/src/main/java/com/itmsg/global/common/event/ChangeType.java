@@ -0,0 +1,21 @@
+package com.itmsg.global.common.event;
+
+import lombok.Getter;
+
+/**
+ * 엔티티 변경 종류
+ */
+@Getter
+public enum ChangeType {
+
+    CREATED("생성"),
+    UPDATED("수정"),
+    STATUS_CHANGED("상태 변경"),
+    DELETED("삭제");
+
+    private final String description;
+
+    ChangeType(String description) {
+        this.description = description;
+    }
+}
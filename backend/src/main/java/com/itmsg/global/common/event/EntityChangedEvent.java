@@ -0,0 +1,68 @@
+package com.itmsg.global.common.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 엔티티 변경 이벤트
+ * 서비스가 생성/수정/상태 변경/삭제 시 발행하며, 발행한 트랜잭션 안에서 동기적으로 전달된다.
+ * 커밋 이후에만 처리해야 하는 리스너는 @TransactionalEventListener 를 사용한다.
+ */
+@Getter
+public class EntityChangedEvent {
+
+    private final EntityType entityType;
+    private final ChangeType changeType;
+    private final Long entityId;
+    private final String previousStatus;
+    private final String status;
+    private final Object entity;
+    private final LocalDateTime occurredAt;
+
+    private EntityChangedEvent(EntityType entityType, ChangeType changeType, Long entityId,
+                               String previousStatus, String status, Object entity) {
+        this.entityType = entityType;
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.entity = entity;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    /**
+     * 생성 이벤트
+     */
+    public static EntityChangedEvent created(EntityType entityType, Long entityId, Enum<?> status, Object entity) {
+        return new EntityChangedEvent(entityType, ChangeType.CREATED, entityId, null, name(status), entity);
+    }
+
+    /**
+     * 수정 이벤트 (상태가 바뀌었으면 STATUS_CHANGED)
+     */
+    public static EntityChangedEvent updated(EntityType entityType, Long entityId,
+                                             Enum<?> previousStatus, Enum<?> status, Object entity) {
+        ChangeType changeType = Objects.equals(previousStatus, status) ? ChangeType.UPDATED : ChangeType.STATUS_CHANGED;
+        return new EntityChangedEvent(entityType, changeType, entityId, name(previousStatus), name(status), entity);
+    }
+
+    /**
+     * 삭제 이벤트
+     */
+    public static EntityChangedEvent deleted(EntityType entityType, Long entityId, Enum<?> status, Object entity) {
+        return new EntityChangedEvent(entityType, ChangeType.DELETED, entityId, name(status), name(status), entity);
+    }
+
+    /**
+     * 엔티티 객체를 지정한 타입으로 반환
+     */
+    public <T> T getEntity(Class<T> type) {
+        return type.cast(entity);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.itmsg.global.common.event;
+
+import lombok.Getter;
+
+/**
+ * 변경 이벤트 대상 엔티티 종류
+ */
+@Getter
+public enum EntityType {
+
+    SR("SR"),
+    SPEC("SPEC"),
+    APPROVAL("승인"),
+    ISSUE("이슈"),
+    RELEASE("릴리즈"),
+    INCIDENT("장애"),
+    PROJECT("프로젝트"),
+    PARTNER("파트너"),
+    ASSET("자산"),
+    USER("사용자");
+
+    private final String description;
+
+    EntityType(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,124 @@
+package com.itmsg.global.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 메모리 토큰 버킷 요청 제한기
+ * 키마다 capacity 개의 토큰을 두고 refillPeriod 동안 capacity 개가 고르게 다시 채워진다.
+ * 요청마다 토큰 하나를 소비하며, 토큰이 없으면 거부하고 다음 토큰까지 남은 시간을 알려준다.
+ *
+ * 키 수가 maxKeys 를 넘으면 가득 찬(한동안 요청이 없던) 버킷부터, 그래도 넘으면 임의 버킷을 제거해 maxKeys 의 90% 로 줄인다.
+ * 제거된 키는 가득 찬 버킷으로 다시 시작하므로, 키가 매우 많은 공격에서는 제한이 느슨해질 수 있다 (메모리 상한 우선).
+ * 제한은 노드 단위이다. 요청 결과는 rate-limit.requests 카운터(limiter, result=allowed/rejected 태그)로 기록한다.
+ */
+public class TokenBucketLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeys;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketLimiter(String name, int capacity, Duration refillPeriod, int maxKeys, MeterRegistry meterRegistry) {
+        this(name, capacity, refillPeriod, maxKeys, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * 시각 공급자 지정 생성자 (테스트에서 시간을 직접 진행시킬 때 사용)
+     */
+    TokenBucketLimiter(String name, int capacity, Duration refillPeriod, int maxKeys, MeterRegistry meterRegistry,
+                       LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = this.capacity / Math.max(1, refillPeriod.toNanos());
+        this.maxKeys = Math.max(1, maxKeys);
+        this.allowedCounter = Counter.builder("rate-limit.requests")
+                .tag("limiter", name)
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("rate-limit.requests")
+                .tag("limiter", name)
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("rate-limit.keys", Tags.of("limiter", name), buckets);
+    }
+
+    /**
+     * 토큰 하나 소비 시도
+     *
+     * @return 허용되면 Duration.ZERO, 거부되면 다음 토큰까지 남은 시간
+     */
+    public Duration tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            evictIfFull(now);
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+        }
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos == 0) {
+            allowedCounter.increment();
+            return Duration.ZERO;
+        }
+        rejectedCounter.increment();
+        return Duration.ofNanos(waitNanos);
+    }
+
+    private void evictIfFull(long now) {
+        if (buckets.size() < maxKeys) {
+            return;
+        }
+        int target = Math.max(1, maxKeys * 9 / 10);
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        Iterator<String> iterator = buckets.keySet().iterator();
+        while (buckets.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 토큰 버킷 (마지막 갱신 시점부터 경과 시간만큼 채운 뒤 소비)
+     */
+    private final class Bucket {
+        private double tokens;
+        private long updatedAtNanos;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.updatedAtNanos = now;
+        }
+
+        synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - updatedAtNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                updatedAtNanos = now;
+            }
+        }
+    }
+}
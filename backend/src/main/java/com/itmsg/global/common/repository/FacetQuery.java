@@ -0,0 +1,74 @@
+package com.itmsg.global.common.repository;
+
+import com.itmsg.global.common.dto.FacetResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 패싯 건수 집계
+ * 모든 패싯 컬럼의 값별 건수와 전체 건수를 GROUP BY GROUPING SETS 쿼리 한 번으로 계산한다.
+ * 행마다 GROUPING(...) 비트로 어느 패싯(또는 전체 합계)의 행인지 구분한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FacetQuery {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 행의 패싯별 건수
+     *
+     * @param filter 목록 검색 조건
+     * @param facets 집계할 패싯 (이름 → 컬럼, 응답 순서)
+     */
+    public FacetResponse count(RowFilter filter, List<Facet> facets) {
+        String columns = facets.stream().map(Facet::column).collect(Collectors.joining(", "));
+        String sets = facets.stream().map(facet -> "(" + facet.column() + ")").collect(Collectors.joining(", "));
+        String sql = "SELECT " + columns + ", GROUPING(" + columns + ") AS grp, COUNT(*) AS cnt"
+                + " FROM " + filter.table()
+                + " WHERE " + filter.where()
+                + " GROUP BY GROUPING SETS (" + sets + ", ())"
+                + " ORDER BY grp, cnt DESC";
+
+        int allBits = (1 << facets.size()) - 1;
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        facets.forEach(facet -> counts.put(facet.name(), new LinkedHashMap<>()));
+        long[] total = {0};
+
+        jdbcTemplate.query(sql, rs -> {
+            int grouping = rs.getInt("grp");
+            long count = rs.getLong("cnt");
+            if (grouping == allBits) {
+                total[0] = count;
+                return;
+            }
+            for (int i = 0; i < facets.size(); i++) {
+                // GROUPING 비트는 첫 번째 인자가 최상위 비트이며, 묶인 컬럼만 0 이다
+                if (grouping == (allBits ^ (1 << (facets.size() - 1 - i)))) {
+                    Object value = rs.getObject(i + 1);
+                    if (value != null) {
+                        counts.get(facets.get(i).name()).put(value.toString(), count);
+                    }
+                    return;
+                }
+            }
+        }, filter.args().toArray());
+
+        return FacetResponse.builder()
+                .total(total[0])
+                .facets(counts)
+                .build();
+    }
+
+    /**
+     * 패싯 (응답 이름 + 컬럼, 컬럼명은 코드 상수만 사용)
+     */
+    public record Facet(String name, String column) {
+    }
+}
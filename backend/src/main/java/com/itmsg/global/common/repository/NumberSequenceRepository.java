@@ -0,0 +1,32 @@
+package com.itmsg.global.common.repository;
+
+import com.itmsg.global.entity.NumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 자동 채번 카운터 Repository
+ */
+@Repository
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, NumberSequence.Key> {
+
+    /**
+     * 카운터를 원자적으로 증가시키고 증가된 값을 반환
+     * 행이 없으면 생성하며, 행 잠금은 별도 트랜잭션 안에서만 유지되어 호출 트랜잭션 길이와 무관하다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT INTO number_sequences (prefix, period, current_value, updated_at) " +
+                   "VALUES (:prefix, :period, :increment, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (prefix, period) DO UPDATE " +
+                   "SET current_value = number_sequences.current_value + EXCLUDED.current_value, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "RETURNING current_value",
+           nativeQuery = true)
+    Long increment(@Param("prefix") String prefix,
+                   @Param("period") String period,
+                   @Param("increment") long increment);
+}
@@ -0,0 +1,40 @@
+package com.itmsg.global.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 근사 건수 계산기
+ * 조건 쿼리를 실행하지 않고 EXPLAIN 의 예상 행 수(Plan Rows)를 읽는다.
+ * 예상 행 수는 pg_class.reltuples 와 컬럼 통계로 계산되므로 ANALYZE 이후 변경분만큼 오차가 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RowEstimator {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\":\\s*(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 예상 행 수 (추정할 수 없으면 null)
+     */
+    public Long estimate(RowFilter filter) {
+        try {
+            String plan = jdbcTemplate.queryForObject(
+                    "EXPLAIN (FORMAT JSON) " + filter.sql(), String.class, filter.args().toArray());
+            Matcher matcher = plan != null ? PLAN_ROWS.matcher(plan) : null;
+            return matcher != null && matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+        } catch (DataAccessException e) {
+            log.warn("예상 건수 계산 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.itmsg.global.common.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 건수 추정/집계용 테이블 조건 (RowEstimator, FacetQuery 입력)
+ * 값이 null 인 조건은 목록 검색 쿼리와 같이 무시하며, 삭제되지 않은 행(deleted_at IS NULL)만 대상으로 한다.
+ * 테이블/컬럼명은 코드 상수만 사용한다 (SQL 에 그대로 들어감).
+ * 같은 테이블과 조건/값이면 equals 가 같으므로 캐시 키로 쓸 수 있다.
+ */
+public final class RowFilter {
+
+    private final String table;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> args = new ArrayList<>();
+
+    private RowFilter(String table) {
+        this.table = table;
+        this.conditions.add("deleted_at IS NULL");
+    }
+
+    public static RowFilter of(String table) {
+        return new RowFilter(table);
+    }
+
+    public RowFilter eq(String column, Object value) {
+        return add(column + " = ?", value);
+    }
+
+    public RowFilter like(String column, String value) {
+        return add(column + " LIKE ?", value != null ? "%" + value + "%" : null);
+    }
+
+    public RowFilter ge(String column, Object value) {
+        return add(column + " >= ?", value);
+    }
+
+    public RowFilter le(String column, Object value) {
+        return add(column + " <= ?", value);
+    }
+
+    String sql() {
+        return "SELECT 1 FROM " + table + " WHERE " + where();
+    }
+
+    String table() {
+        return table;
+    }
+
+    String where() {
+        return String.join(" AND ", conditions);
+    }
+
+    List<Object> args() {
+        return Collections.unmodifiableList(args);
+    }
+
+    private RowFilter add(String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            args.add(value instanceof Enum<?> e ? e.name() : value);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RowFilter other)) {
+            return false;
+        }
+        return table.equals(other.table) && conditions.equals(other.conditions) && args.equals(other.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(table, conditions, args);
+    }
+}
@@ -0,0 +1,15 @@
+package com.itmsg.global.common.repository;
+
+/**
+ * 전문 검색 결과 Projection
+ * titleHighlight/highlight 는 일치 구간을 STX(\u0002)/ETX(\u0003) 문자로 감싼 원문 조각이다
+ */
+public interface SearchHitRow {
+    Long getId();
+    String getNumber();
+    String getTitle();
+    String getStatus();
+    Double getScore();
+    String getTitleHighlight();
+    String getHighlight();
+}
@@ -0,0 +1,81 @@
+package com.itmsg.global.common.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 목록 검색용 JPA Specification 조각
+ * 값이 null 인 조건은 null Specification 을 반환하고, Specification.where/and 는 이를 무시한다.
+ * 따라서 조합된 쿼리에는 실제로 전달된 조건만 들어가며, 필터 조합마다 해당 인덱스를 쓰는 실행 계획이 만들어진다.
+ */
+public final class Specs {
+
+    private Specs() {
+    }
+
+    /**
+     * 삭제되지 않은 행
+     */
+    public static <T> Specification<T> notDeleted() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * attribute = value
+     */
+    public static <T> Specification<T> equal(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    /**
+     * 연관 엔티티 id 일치 (조인 없이 외래 키 컬럼 비교)
+     */
+    public static <T> Specification<T> equalId(String association, Long id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(association).get("id"), id);
+    }
+
+    /**
+     * attribute LIKE %value%
+     */
+    public static <T> Specification<T> contains(String attribute, String value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.like(root.get(attribute), "%" + value + "%");
+    }
+
+    /**
+     * attribute &gt;= value
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> atLeast(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), value);
+    }
+
+    /**
+     * attribute &lt;= value
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> atMost(String attribute, Y value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), value);
+    }
+
+    /**
+     * keyset 위치 이후의 행 (정렬 키, id 내림차순)
+     * key &lt;= :key AND (key &lt; :key OR id &lt; :id) 형태로 만들어 (key DESC, id DESC) 인덱스 범위 조회가 되게 한다.
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> seekBefore(String key, Y keyValue, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get(key), keyValue),
+                cb.or(cb.lessThan(root.get(key), keyValue), cb.lessThan(root.get("id"), id)));
+    }
+}
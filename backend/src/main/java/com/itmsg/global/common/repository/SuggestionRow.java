@@ -0,0 +1,10 @@
+package com.itmsg.global.common.repository;
+
+/**
+ * 자동완성 결과 Projection (id + 표시 이름 + 보조 정보)
+ */
+public interface SuggestionRow {
+    Long getId();
+    String getLabel();
+    String getDetail();
+}
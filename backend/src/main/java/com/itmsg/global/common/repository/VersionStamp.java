@@ -0,0 +1,13 @@
+package com.itmsg.global.common.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 변경 여부 판단용 집계 Projection
+ * 행 수, 최종 수정 시각, version 합계 중 하나라도 바뀌면 내용이 바뀐 것으로 본다
+ */
+public interface VersionStamp {
+    Long getRowCount();
+    LocalDateTime getLastUpdatedAt();
+    Long getVersionSum();
+}
@@ -0,0 +1,66 @@
+package com.itmsg.global.common.service;
+
+import com.itmsg.global.common.cache.TtlCache;
+import com.itmsg.global.common.dto.FacetResponse;
+import com.itmsg.global.common.event.EntityChangedEvent;
+import com.itmsg.global.common.event.EntityType;
+import com.itmsg.global.common.repository.FacetQuery;
+import com.itmsg.global.common.repository.RowFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 목록 패싯 건수 서비스
+ * 같은 조건의 패싯 건수를 필터 단위로 짧게(facets.ttl-ms) 캐시하고,
+ * 해당 엔티티 타입의 변경이 커밋되면 그 타입의 캐시를 모두 무효화한다.
+ */
+@Service
+public class FacetService {
+
+    private final FacetQuery facetQuery;
+    private final TtlCache<FacetKey, FacetResponse> cache;
+
+    public FacetService(
+            FacetQuery facetQuery,
+            MeterRegistry meterRegistry,
+            @Value("${facets.ttl-ms:10000}") long ttlMillis,
+            @Value("${facets.max-entries:500}") int maxEntries) {
+        this.facetQuery = facetQuery;
+        this.cache = new TtlCache<>("facets", Duration.ofMillis(ttlMillis), maxEntries, meterRegistry);
+    }
+
+    /**
+     * 패싯 건수 조회 (캐시)
+     */
+    public FacetResponse count(EntityType type, RowFilter filter, List<FacetQuery.Facet> facets) {
+        return cache.get(new FacetKey(type, filter), key -> facetQuery.count(key.filter(), facets));
+    }
+
+    /**
+     * 커밋 후 변경된 엔티티 타입의 패싯 캐시 무효화
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        EntityType type = event.getEntityType();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateIf(key -> key.type() == type);
+                }
+            });
+        } else {
+            cache.invalidateIf(key -> key.type() == type);
+        }
+    }
+
+    private record FacetKey(EntityType type, RowFilter filter) {
+    }
+}
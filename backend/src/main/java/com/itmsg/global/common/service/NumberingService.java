@@ -1,148 +1,216 @@
 package com.itmsg.global.common.service;
 
-import com.itmsg.domain.approval.repository.ApprovalRepository;
-import com.itmsg.domain.asset.repository.AssetRepository;
-import com.itmsg.domain.incident.repository.IncidentRepository;
-import com.itmsg.domain.issue.repository.IssueRepository;
-import com.itmsg.domain.partner.repository.PartnerRepository;
-import com.itmsg.domain.release.repository.ReleaseRepository;
-import com.itmsg.domain.sr.repository.ServiceRequestRepository;
-import com.itmsg.domain.spec.repository.SpecificationRepository;
-import lombok.RequiredArgsConstructor;
+import com.itmsg.global.common.repository.NumberSequenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 자동 채번 서비스
+ * number_sequences 카운터를 원자적으로 증가시켜 번호를 발급하므로
+ * JVM 잠금 없이 여러 인스턴스에서 동시에 호출해도 번호가 중복되지 않는다
+ *
+ * numbering.block-size 가 1보다 크면 접두어별로 번호 블록을 미리 확보(hi/lo)하고
+ * 블록이 소진될 때까지 메모리에서 발급한다. 노드 간 번호 순서는 발급 시각과 다를 수 있으며,
+ * 월이 바뀌거나 노드가 종료될 때 남은 번호는 폐기된다 (numbering.reserved.wasted 메트릭).
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class NumberingService {
-    
-    private final ServiceRequestRepository serviceRequestRepository;
-    private final SpecificationRepository specificationRepository;
-    private final ApprovalRepository approvalRepository;
-    private final IssueRepository issueRepository;
-    private final ReleaseRepository releaseRepository;
-    private final IncidentRepository incidentRepository;
-    private final PartnerRepository partnerRepository;
-    private final AssetRepository assetRepository;
-    
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyMM");
+    private static final String NO_PERIOD = "";
+
+    private final NumberSequenceRepository numberSequenceRepository;
+    private final MeterRegistry meterRegistry;
+    private final int blockSize;
+    private final ConcurrentMap<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> reserveLocks = new ConcurrentHashMap<>();
+
+    public NumberingService(
+            NumberSequenceRepository numberSequenceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${numbering.block-size:1}") int blockSize) {
+        this.numberSequenceRepository = numberSequenceRepository;
+        this.meterRegistry = meterRegistry;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
     /**
      * SR 번호 자동 생성
      * 형식: SR{YY}{MM}-{####} (예: SR2501-0001)
      */
-    public synchronized String generateSrNumber(LocalDate requestDate) {
-        int year = requestDate.getYear() % 100;
-        int month = requestDate.getMonthValue();
-        
-        Long count = serviceRequestRepository.countByYearAndMonth(requestDate.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("SR%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateSrNumber(LocalDate requestDate) {
+        return generateMonthlyNumber("SR", requestDate);
+    }
+
     /**
      * SPEC 번호 자동 생성
      * 형식: SPEC{YY}{MM}-{####} (예: SPEC2501-0001)
      */
-    public synchronized String generateSpecNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        int year = now.getYear() % 100;
-        int month = now.getMonthValue();
-        
-        Long count = specificationRepository.countByYearAndMonth(now.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("SPEC%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateSpecNumber() {
+        return generateMonthlyNumber("SPEC", LocalDate.now());
+    }
+
     /**
      * 승인 번호 자동 생성
      * 형식: APP{YY}{MM}-{####} (예: APP2501-0001)
      */
-    public synchronized String generateApprovalNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        int year = now.getYear() % 100;
-        int month = now.getMonthValue();
-        
-        Long count = approvalRepository.countByYearAndMonth(now.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("APP%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateApprovalNumber() {
+        return generateMonthlyNumber("APP", LocalDate.now());
+    }
+
     /**
      * 이슈 번호 자동 생성
      * 형식: ISS{YY}{MM}-{####} (예: ISS2501-0001)
      */
-    public synchronized String generateIssueNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        int year = now.getYear() % 100;
-        int month = now.getMonthValue();
-        
-        Long count = issueRepository.countByYearAndMonth(now.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("ISS%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateIssueNumber() {
+        return generateMonthlyNumber("ISS", LocalDate.now());
+    }
+
     /**
      * 릴리즈 번호 자동 생성
      * 형식: REL{YY}{MM}-{####} (예: REL2501-0001)
      */
-    public synchronized String generateReleaseNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        int year = now.getYear() % 100;
-        int month = now.getMonthValue();
-        
-        Long count = releaseRepository.countByYearAndMonth(now.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("REL%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateReleaseNumber() {
+        return generateMonthlyNumber("REL", LocalDate.now());
+    }
+
     /**
      * 장애 번호 자동 생성
      * 형식: INC{YY}{MM}-{####} (예: INC2501-0001)
      */
-    public synchronized String generateIncidentNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        int year = now.getYear() % 100;
-        int month = now.getMonthValue();
-        
-        Long count = incidentRepository.countByYearAndMonth(now.getYear(), month);
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("INC%02d%02d-%04d", year, month, sequence);
-    }
-    
+    public String generateIncidentNumber() {
+        return generateMonthlyNumber("INC", LocalDate.now());
+    }
+
     /**
      * 파트너 코드 생성 (간단한 시퀀스)
      * 형식: PTR{####} (예: PTR0001)
-     * Note: 파트너는 월별 리셋이 필요없으므로 전체 카운트 사용
+     * Note: 파트너는 월별 리셋이 필요없으므로 기간 구분 없는 카운터 사용
      */
-    public synchronized String generatePartnerCode() {
-        Long count = partnerRepository.count();
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("PTR%04d", sequence);
+    public String generatePartnerCode() {
+        return String.format("PTR%04d", nextValue("PTR", NO_PERIOD));
     }
-    
+
     /**
      * 자산 번호 생성 (간단한 시퀀스)
      * 형식: AST{####} (예: AST0001)
-     * Note: 자산은 월별 리셋이 필요없으므로 전체 카운트 사용
+     * Note: 자산은 월별 리셋이 필요없으므로 기간 구분 없는 카운터 사용
      */
-    public synchronized String generateAssetNumber() {
-        Long count = assetRepository.count();
-        long sequence = (count != null ? count : 0) + 1;
-        
-        return String.format("AST%04d", sequence);
+    public String generateAssetNumber() {
+        return String.format("AST%04d", nextValue("AST", NO_PERIOD));
+    }
+
+    /**
+     * 월별 번호 생성: {prefix}{YY}{MM}-{####}
+     */
+    private String generateMonthlyNumber(String prefix, LocalDate date) {
+        String period = date.format(PERIOD_FORMAT);
+        return String.format("%s%s-%04d", prefix, period, nextValue(prefix, period));
+    }
+
+    /**
+     * 다음 일련번호 발급
+     * 블록 모드는 현재 기간(또는 기간 구분 없는 카운터)에만 적용하고,
+     * 과거/미래 일자로 요청된 SR 번호는 블록을 건드리지 않도록 DB에서 하나씩 발급한다
+     */
+    private long nextValue(String prefix, String period) {
+        if (blockSize == 1 || !(NO_PERIOD.equals(period) || period.equals(currentPeriod()))) {
+            return numberSequenceRepository.increment(prefix, period, 1);
+        }
+
+        while (true) {
+            SequenceBlock block = blocks.get(prefix);
+            if (block != null && block.period.equals(period)) {
+                long value = block.next.getAndIncrement();
+                if (value <= block.last) {
+                    return value;
+                }
+            }
+            reserveBlock(prefix, period, block);
+        }
+    }
+
+    /**
+     * 새 번호 블록 확보
+     * DB 증가(REQUIRES_NEW)는 맵 갱신 함수 밖에서 접두어별 잠금으로 한 번만 실행하고,
+     * 관찰한 블록이 그대로일 때만 새 블록으로 교체한다.
+     * 다른 스레드가 이미 블록을 교체했다면 아무것도 하지 않는다
+     */
+    private void reserveBlock(String prefix, String period, SequenceBlock observed) {
+        synchronized (reserveLocks.computeIfAbsent(prefix, key -> new Object())) {
+            if (blocks.get(prefix) != observed) {
+                return;
+            }
+            long last = numberSequenceRepository.increment(prefix, period, blockSize);
+            SequenceBlock reserved = new SequenceBlock(period, last - blockSize + 1, last);
+            boolean swapped = observed == null
+                    ? blocks.putIfAbsent(prefix, reserved) == null
+                    : blocks.replace(prefix, observed, reserved);
+            if (!swapped) {
+                // 종료 처리로 블록이 비워진 경우 확보한 번호는 쓰지 않는다
+                recordWaste(prefix, reserved);
+            } else if (observed != null && !observed.period.equals(period)) {
+                recordWaste(prefix, observed);
+            }
+        }
+    }
+
+    /**
+     * 기간이 바뀌거나 노드가 종료되어 사용하지 못하고 버려지는 번호 집계
+     */
+    private void recordWaste(String prefix, SequenceBlock block) {
+        long remaining = block.remaining();
+        if (remaining <= 0) {
+            return;
+        }
+        Counter.builder("numbering.reserved.wasted")
+                .description("확보했지만 발급되지 않고 폐기된 번호 수")
+                .tag("prefix", prefix)
+                .register(meterRegistry)
+                .increment(remaining);
+        log.info("채번 블록 폐기: prefix={}, period={}, 미사용 {}건", prefix, block.period, remaining);
     }
-}
 
+    /**
+     * 종료 시 남은 블록의 미사용 번호 집계
+     */
+    @PreDestroy
+    void releaseBlocks() {
+        blocks.forEach(this::recordWaste);
+        blocks.clear();
+    }
+
+    private String currentPeriod() {
+        return LocalDate.now().format(PERIOD_FORMAT);
+    }
+
+    /**
+     * 노드가 확보한 번호 블록 [next, last]
+     */
+    private static final class SequenceBlock {
+        private final String period;
+        private final AtomicLong next;
+        private final long last;
+
+        private SequenceBlock(String period, long first, long last) {
+            this.period = period;
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        private long remaining() {
+            return Math.max(0, last - next.get() + 1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.itmsg.global.common.util;
+
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 인코딩/디코딩 유틸
+ * 정렬 키 값들을 구분자로 이어 Base64 URL-safe 문자열로 만든다 (클라이언트에는 불투명한 값)
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩
+     */
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(DELIMITER);
+            }
+            raw.append(values[i] != null ? values[i] : "");
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩
+     * 항목 수가 맞지 않거나 형식이 잘못되면 INVALID_INPUT 예외
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+        }
+    }
+}
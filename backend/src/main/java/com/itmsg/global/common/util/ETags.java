@@ -0,0 +1,108 @@
+package com.itmsg.global.common.util;
+
+import com.itmsg.global.common.repository.VersionStamp;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * ETag 조건부 조회 유틸
+ * 엔티티 version/updatedAt 으로 만든 약한 ETag 를 If-None-Match 와 비교하여,
+ * 일치하면 본문을 조회/직렬화하지 않고 304 를 반환한다.
+ * 응답에 연관 엔티티의 값(이름 등)이 포함되면 해당 엔티티의 version 도 ETag 에 넣어야 한다
+ */
+public final class ETags {
+
+    /** 캐시는 허용하되 매번 재검증 (인증 사용자별 응답이므로 private) */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ETags() {
+    }
+
+    /**
+     * 구성 값으로 약한 ETag 생성 (예: W/"sr-SR2501-0001-3")
+     */
+    public static String of(String scope, Object... parts) {
+        StringBuilder value = new StringBuilder("W/\"").append(scope);
+        for (Object part : parts) {
+            value.append('-').append(part);
+        }
+        return value.append('"').toString();
+    }
+
+    /**
+     * 테이블 집계로 약한 ETag 생성 (목록에 포함되는 연관 테이블 집계는 이어서 전달)
+     */
+    public static String of(String scope, VersionStamp... stamps) {
+        List<Object> parts = new ArrayList<>();
+        for (VersionStamp stamp : stamps) {
+            long lastUpdated = stamp.getLastUpdatedAt() != null
+                    ? stamp.getLastUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                    : 0L;
+            parts.add(stamp.getRowCount());
+            parts.add(lastUpdated);
+            parts.add(stamp.getVersionSum() != null ? stamp.getVersionSum() : 0L);
+        }
+        return of(scope, parts.toArray());
+    }
+
+    /**
+     * 조건부 응답
+     * ETag 가 If-None-Match 와 일치하면 304, 아니면 본문을 만들어 ETag 와 함께 200 으로 반환한다.
+     * ETag 가 null 이면 조건부 처리 없이 본문을 반환한다.
+     */
+    public static <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (matches(request, etag)) {
+            return notModified(etag);
+        }
+        return ok(etag, body.get());
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag 와 일치하는지 확인 (약한 비교)
+     */
+    public static boolean matches(WebRequest request, String etag) {
+        String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        String expected = opaqueTag(etag);
+        for (String header : headers) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if ("*".equals(tag) || opaqueTag(tag).equals(expected)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 304 응답
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * ETag 를 붙인 200 응답
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
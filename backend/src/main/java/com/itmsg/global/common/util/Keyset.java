@@ -0,0 +1,93 @@
+package com.itmsg.global.common.util;
+
+import com.itmsg.global.common.dto.CursorPage;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(커서) 페이지네이션 위치 (정렬 키 + id, 둘 다 내림차순)
+ * 다음 페이지는 "key < 커서 key 또는 (key = 커서 key 이고 id < 커서 id)" 인 행을 정렬 순서대로 읽는다.
+ * 첫 페이지는 모든 행보다 앞선 가상의 위치(최대 정렬 키, Long.MAX_VALUE)에서 시작하므로
+ * 리포지토리 쿼리에 null 분기가 필요 없다.
+ */
+public record Keyset<K>(K key, Long id) {
+
+    /** 페이지 크기 상한 */
+    public static final int MAX_SIZE = 100;
+
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final LocalDateTime MAX_DATE_TIME = MAX_DATE.atStartOfDay();
+
+    /**
+     * 날짜 정렬 커서 해석 (null 이면 첫 페이지)
+     */
+    public static Keyset<LocalDate> ofDate(String cursor) {
+        return decode(cursor, MAX_DATE, LocalDate::parse);
+    }
+
+    /**
+     * 일시 정렬 커서 해석 (null 이면 첫 페이지)
+     */
+    public static Keyset<LocalDateTime> ofDateTime(String cursor) {
+        return decode(cursor, MAX_DATE_TIME, LocalDateTime::parse);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 읽을 건수 (size + 1)
+     */
+    public static int fetchSize(int size) {
+        return boundedSize(size) + 1;
+    }
+
+    /**
+     * keyset 정렬 (정렬 키, id 내림차순)
+     */
+    public static Sort sort(String key) {
+        return Sort.by(Sort.Direction.DESC, key, "id");
+    }
+
+    /**
+     * size + 1 건으로 조회한 행을 커서 페이지로 변환
+     *
+     * @param key 행의 정렬 키
+     * @param id  행의 id
+     */
+    public static <T, R> CursorPage<R> page(List<T> rows, int size,
+                                            Function<T, ?> key, Function<T, Long> id, Function<T, R> mapper) {
+        int pageSize = boundedSize(size);
+        boolean hasNext = rows.size() > pageSize;
+        List<T> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (!page.isEmpty()) {
+            T last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(key.apply(last), id.apply(last));
+        }
+        return CursorPage.of(page.stream().map(mapper).toList(), hasNext, nextCursor);
+    }
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_SIZE 로 제한
+     */
+    public static int boundedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    private static <K> Keyset<K> decode(String cursor, K first, Function<String, K> parser) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Keyset<>(first, Long.MAX_VALUE);
+        }
+        String[] parts = CursorCodec.decode(cursor, 2);
+        try {
+            return new Keyset<>(parser.apply(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "잘못된 커서입니다.");
+        }
+    }
+}
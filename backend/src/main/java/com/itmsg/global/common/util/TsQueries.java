@@ -0,0 +1,44 @@
+package com.itmsg.global.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL 전문 검색 질의 유틸
+ * 사용자 입력을 문자/숫자 단위로 잘라 각 단어를 접두어 질의(단어:*)로 만들고 AND 로 결합한다.
+ * tsquery 연산자(& | ! : * 괄호 등)는 모두 구분자로 취급하므로 입력으로 질의 문법을 주입할 수 없다.
+ */
+public final class TsQueries {
+
+    /** 질의에 사용할 최대 단어 수 */
+    private static final int MAX_TERMS = 8;
+
+    /** 하이라이트 시작/끝 표시 (검색 쿼리의 ts_headline StartSel/StopSel 과 동일) */
+    public static final char HIGHLIGHT_START = '\u0002';
+    public static final char HIGHLIGHT_STOP = '\u0003';
+
+    private TsQueries() {
+    }
+
+    /**
+     * 접두어 AND 질의 생성 (예: "서버 장애" → "서버:* & 장애:*"), 단어가 없으면 null
+     */
+    public static String prefixQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i <= keyword.length() && terms.size() < MAX_TERMS; i++) {
+            char ch = i < keyword.length() ? keyword.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(ch)) {
+                term.append(ch);
+            } else if (!term.isEmpty()) {
+                terms.add(term.toString().toLowerCase(Locale.ROOT) + ":*");
+                term.setLength(0);
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+}
@@ -0,0 +1,58 @@
+package com.itmsg.global.common.util;
+
+/**
+ * 자동완성(typeahead) 검색어 유틸
+ * 자동완성 쿼리는 pg_trgm 인덱스로 부분 일치(ILIKE)와 오타 허용 단어 유사도(&lt;%)를 함께 찾는다.
+ * LIKE 패턴은 입력의 %, _, \ 를 이스케이프해 와일드카드로 해석되지 않게 한다 (PostgreSQL 기본 이스케이프 문자 \).
+ */
+public final class Typeahead {
+
+    /** 검색어 최대 길이 */
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    /** 결과 수 기본값/상한 */
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private Typeahead() {
+    }
+
+    /**
+     * 검색어 정리 (앞뒤 공백 제거, 길이 제한), 비어 있으면 null
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return null;
+        }
+        String trimmed = query.strip();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return trimmed.length() > MAX_QUERY_LENGTH ? trimmed.substring(0, MAX_QUERY_LENGTH) : trimmed;
+    }
+
+    /**
+     * 부분 일치 패턴 (%검색어%)
+     */
+    public static String containsPattern(String query) {
+        return "%" + escape(query) + "%";
+    }
+
+    /**
+     * 접두어 일치 패턴 (검색어%) - 접두어 일치 결과를 먼저 정렬하는 데 사용
+     */
+    public static String prefixPattern(String query) {
+        return escape(query) + "%";
+    }
+
+    /**
+     * 결과 수 범위 제한
+     */
+    public static int limit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static String escape(String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,45 @@
+package com.itmsg.global.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 자동 채번 카운터 Entity
+ * 접두어/기간(YYMM)별 마지막 발급 번호를 보관한다
+ */
+@Entity
+@Table(name = "number_sequences")
+@IdClass(NumberSequence.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NumberSequence {
+
+    @Id
+    @Column(nullable = false, length = 10)
+    private String prefix;
+
+    @Id
+    @Column(nullable = false, length = 4)
+    private String period;
+
+    @Column(nullable = false)
+    private Long currentValue;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 키 (접두어 + 기간)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String prefix;
+        private String period;
+    }
+}
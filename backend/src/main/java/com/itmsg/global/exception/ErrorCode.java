@@ -14,6 +14,7 @@ public enum ErrorCode {
     INVALID_INPUT("C001", "입력값이 올바르지 않습니다."),
     INTERNAL_SERVER_ERROR("C999", "서버 오류가 발생했습니다."),
     RESOURCE_NOT_FOUND("C002", "요청한 리소스를 찾을 수 없습니다."),
+    SERVER_BUSY("C003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     
     // User
     USER_NOT_FOUND("U001", "사용자를 찾을 수 없습니다."),
@@ -29,6 +30,7 @@ public enum ErrorCode {
     INVALID_TOKEN("A003", "유효하지 않은 토큰입니다."),
     EXPIRED_TOKEN("A004", "만료된 토큰입니다."),
     INVALID_CREDENTIALS("A005", "이메일 또는 비밀번호가 올바르지 않습니다."),
+    TOO_MANY_REQUESTS("A006", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     
     // Company
     COMPANY_NOT_FOUND("CP001", "회사를 찾을 수 없습니다."),
@@ -104,7 +106,10 @@ public enum ErrorCode {
     // Asset
     ASSET_NOT_FOUND("AS001", "자산을 찾을 수 없습니다."),
     DUPLICATE_ASSET_NUMBER("AS002", "이미 존재하는 자산 번호입니다."),
-    ASSET_ALREADY_EXPIRED("AS003", "이미 폐기된 자산입니다.");
+    ASSET_ALREADY_EXPIRED("AS003", "이미 폐기된 자산입니다."),
+    
+    // Saved Search
+    SAVED_SEARCH_NOT_FOUND("SS001", "저장된 검색을 찾을 수 없습니다.");
     
     private final String code;
     private final String message;
@@ -0,0 +1,19 @@
+package com.itmsg.global.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 초과 예외 (429 응답, Retry-After 헤더 포함)
+ */
+@Getter
+public class TooManyRequestsException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(Duration retryAfter) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+}
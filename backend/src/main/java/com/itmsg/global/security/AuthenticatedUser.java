@@ -0,0 +1,55 @@
+package com.itmsg.global.security;
+
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Access Token 으로 인증된 요청의 사용자 정보 (SecurityContext principal)
+ * 토큰의 사용자 식별 클레임으로 만들어지므로, 서비스는 users 테이블 조회 없이 현재 사용자의 id/회사/부서를 사용할 수 있다.
+ * User 연관관계가 필요하면 userRepository.getReferenceById(getUserId()) 로 참조만 만든다.
+ * 값은 토큰 발급 시점 기준이며, 소속 변경은 토큰 갱신 후 반영된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser implements AuthenticatedPrincipal, Serializable {
+
+    private final Long userId;
+    private final String email;
+    private final String displayName;
+    private final Long companyId;
+    private final Long departmentId;
+
+    /**
+     * 현재 요청의 인증 사용자 (인증되지 않았으면 UNAUTHORIZED)
+     */
+    public static AuthenticatedUser current() {
+        return findCurrent().orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED));
+    }
+
+    /**
+     * 현재 요청의 인증 사용자 (배치/시스템 작업이면 빈 값)
+     */
+    public static Optional<AuthenticatedUser> findCurrent() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return Optional.of(user);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 인증 이름 (이메일, JPA Auditing 작성자 등에 사용)
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,101 @@
+package com.itmsg.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증된 Access Token 의 인증 정보 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하고, 각 항목은 토큰 만료 시각(exp)까지만 유효하다.
+ * 최대 개수를 넘으면 만료된 항목부터, 그래도 넘으면 임의 항목을 제거한다.
+ * 조회 결과는 cache.gets 카운터(cache=jwt.authentication, result=hit/miss 태그)로 기록한다.
+ */
+final class JwtAuthenticationCache {
+
+    private static final String NAME = "jwt.authentication";
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    JwtAuthenticationCache(int maxEntries, MeterRegistry meterRegistry) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.hitCounter = Counter.builder("cache.gets")
+                .tag("cache", NAME)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets")
+                .tag("cache", NAME)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("cache.size", Tags.of("cache", NAME), entries);
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (없거나 토큰이 만료되었으면 null)
+     */
+    Authentication get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+            hitCounter.increment();
+            return entry.authentication();
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        missCounter.increment();
+        return null;
+    }
+
+    /**
+     * 인증 정보 저장
+     *
+     * @param expiresAtMillis 토큰 만료 시각 (epoch ms)
+     */
+    void put(String key, Authentication authentication, long expiresAtMillis) {
+        evictIfFull();
+        entries.put(key, new Entry(authentication, expiresAtMillis));
+    }
+
+    /**
+     * 토큰 캐시 키 (SHA-256, Base64)
+     */
+    static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(Authentication authentication, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -24,6 +24,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    /** EventSource 는 헤더를 보낼 수 없으므로 SSE 경로에 한해 1회용 스트림 티켓을 쿼리 파라미터로 허용 */
+    private static final String STREAM_PATH = "/api/dashboard/stream";
+    private static final String TICKET_PARAMETER = "ticket";
 
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -34,10 +37,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Request에서 토큰 추출
         String token = resolveToken(request);
 
-        // 토큰 유효성 검증
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 토큰에서 인증 정보 추출
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 토큰 검증 및 인증 정보 추출 (한 번의 파싱, 검증된 토큰은 캐시)
+        Authentication authentication = StringUtils.hasText(token) ? jwtTokenProvider.authenticate(token) : null;
+        if (authentication == null && STREAM_PATH.equals(request.getRequestURI())) {
+            String ticket = request.getParameter(TICKET_PARAMETER);
+            authentication = StringUtils.hasText(ticket) ? jwtTokenProvider.authenticateStreamTicket(ticket) : null;
+        }
+        if (authentication != null) {
             // SecurityContext에 인증 정보 설정
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
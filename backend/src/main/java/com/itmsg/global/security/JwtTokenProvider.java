@@ -1,7 +1,11 @@
 package com.itmsg.global.security;
 
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.global.exception.BusinessException;
+import com.itmsg.global.exception.ErrorCode;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -12,35 +16,66 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
  * JWT 토큰 생성 및 검증 Provider
+ * 서명 검증 파서는 한 번만 만들어 재사용하며, 요청 인증(authenticate)은 검증과 파싱을 한 번에 수행한다.
+ * Access Token 에는 사용자 id/이름/회사/부서 클레임을 담아 인증 정보(AuthenticatedUser)를 DB 조회 없이 만든다.
+ * 검증된 Access Token 의 인증 정보는 토큰 만료 시각까지 캐시하여 같은 토큰의 재검증을 생략한다 (jwt.auth-cache.max-entries).
+ * 헤더를 보낼 수 없는 SSE 연결에는 Access Token 대신 짧게 유효한 1회용 스트림 티켓을 발급한다 (jwt.stream-ticket-validity).
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+    private static final String COMPANY_ID_CLAIM = "cid";
+    private static final String DEPARTMENT_ID_CLAIM = "did";
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String STREAM_TICKET_TYPE = "stream";
+    /** 사용된 스트림 티켓 기록을 정리하는 기준 개수 */
+    private static final int USED_TICKET_PURGE_THRESHOLD = 1000;
+
     private final SecretKey secretKey;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
+    private final long streamTicketValidity;
+    private final JwtParser jwtParser;
+    private final JwtAuthenticationCache authenticationCache;
+    /** 사용된 스트림 티켓 id -> 만료 시각(ms) */
+    private final ConcurrentMap<String, Long> usedStreamTickets = new ConcurrentHashMap<>();
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.stream-ticket-validity:30000}") long streamTicketValidity,
+            @Value("${jwt.auth-cache.max-entries:10000}") int authCacheMaxEntries,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.streamTicketValidity = streamTicketValidity;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.authenticationCache = new JwtAuthenticationCache(authCacheMaxEntries, meterRegistry);
     }
 
     /**
      * Access Token 생성
      */
-    public String createAccessToken(String email, Collection<? extends GrantedAuthority> authorities) {
+    public String createAccessToken(User user, Collection<? extends GrantedAuthority> authorities) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidity);
 
@@ -49,42 +84,133 @@ public class JwtTokenProvider {
                 .collect(Collectors.joining(","));
 
         return Jwts.builder()
-                .setSubject(email)
+                .subject(user.getEmail())
                 .claim("roles", roles)
                 .claim("type", "access")
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(NAME_CLAIM, user.getName())
+                .claim(COMPANY_ID_CLAIM, user.getCompany() != null ? user.getCompany().getId() : null)
+                .claim(DEPARTMENT_ID_CLAIM, user.getDepartment() != null ? user.getDepartment().getId() : null)
+                .issuedAt(now)
+                .expiration(validity)
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
 
     /**
-     * Refresh Token 생성
+     * Refresh Token 생성 (로그인 시 새 토큰 계열 시작)
      */
     public String createRefreshToken(String email) {
+        return createRefreshToken(email, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Refresh Token 생성 (갱신 시 같은 계열의 새 토큰)
+     */
+    public String createRefreshToken(String email, String familyId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidity);
 
         return Jwts.builder()
-                .setSubject(email)
+                .subject(email)
+                .id(UUID.randomUUID().toString())
                 .claim("type", "refresh")
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .issuedAt(now)
+                .expiration(validity)
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
 
     /**
-     * 토큰에서 인증 정보 추출
+     * SSE 스트림 연결용 티켓 생성
+     * 현재 인증 정보의 사용자/권한 클레임을 담으며 jwt.stream-ticket-validity 동안 한 번만 사용할 수 있다
      */
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+    public String createStreamTicket(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        Date now = new Date();
+        Date validity = new Date(now.getTime() + streamTicketValidity);
 
-        Object rolesClaim = claims.get("roles");
-        if (rolesClaim == null) {
-            throw new RuntimeException("권한 정보가 없는 토큰입니다.");
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        return Jwts.builder()
+                .subject(user.getEmail())
+                .id(UUID.randomUUID().toString())
+                .claim("roles", roles)
+                .claim("type", STREAM_TICKET_TYPE)
+                .claim(USER_ID_CLAIM, user.getUserId())
+                .claim(NAME_CLAIM, user.getDisplayName())
+                .claim(COMPANY_ID_CLAIM, user.getCompanyId())
+                .claim(DEPARTMENT_ID_CLAIM, user.getDepartmentId())
+                .issuedAt(now)
+                .expiration(validity)
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    /**
+     * 스트림 티켓 인증 (1회용, 캐시하지 않음)
+     * 유효하지 않거나, 스트림 티켓이 아니거나, 이미 사용된 티켓이면 null.
+     * 사용 기록은 노드별로 관리하므로 여러 노드에서는 유효 시간 안에 노드마다 한 번씩 쓰일 수 있다
+     */
+    public Authentication authenticateStreamTicket(String ticket) {
+        Claims claims = verify(ticket);
+        if (claims == null) {
+            return null;
+        }
+        if (!STREAM_TICKET_TYPE.equals(claims.get("type")) || claims.getId() == null
+                || claims.getExpiration() == null || claims.get(USER_ID_CLAIM) == null) {
+            log.error("스트림 티켓 형식이 아닌 토큰입니다.");
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (usedStreamTickets.size() >= USED_TICKET_PURGE_THRESHOLD) {
+            usedStreamTickets.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+        if (usedStreamTickets.putIfAbsent(claims.getId(), claims.getExpiration().getTime()) != null) {
+            log.error("이미 사용된 스트림 티켓입니다.");
+            return null;
+        }
+        return toAuthentication(claims);
+    }
+
+    /**
+     * 요청 토큰 인증 (서명/만료 검증과 인증 정보 추출을 한 번의 파싱으로 수행)
+     * 캐시에 있으면 재검증 없이 반환하고, 유효하지 않거나 권한/사용자 정보가 없는 토큰이면 null 을 반환한다.
+     * (사용자 클레임이 없는 이전 형식의 토큰은 Refresh Token 으로 재발급받아야 한다)
+     */
+    public Authentication authenticate(String token) {
+        String key = JwtAuthenticationCache.keyOf(token);
+        Authentication cached = authenticationCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        if (claims == null) {
+            return null;
+        }
+        if (claims.get("roles") == null || claims.get(USER_ID_CLAIM) == null) {
+            log.error("권한 또는 사용자 정보가 없는 토큰입니다.");
+            return null;
         }
+        if (!"access".equals(claims.get("type"))) {
+            log.error("Access Token 이 아닌 토큰입니다.");
+            return null;
+        }
+        Authentication authentication = toAuthentication(claims);
+        if (claims.getExpiration() != null) {
+            authenticationCache.put(key, authentication, claims.getExpiration().getTime());
+        }
+        return authentication;
+    }
 
+    private Authentication toAuthentication(Claims claims) {
+        Object rolesClaim = claims.get("roles");
         Collection<? extends GrantedAuthority> authorities;
         try {
             if (rolesClaim instanceof String) {
@@ -102,19 +228,29 @@ public class JwtTokenProvider {
             authorities = Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"));
         }
 
-        return new UsernamePasswordAuthenticationToken(claims.getSubject(), "", authorities);
+        AuthenticatedUser principal = new AuthenticatedUser(
+                longClaim(claims, USER_ID_CLAIM),
+                claims.getSubject(),
+                claims.get(NAME_CLAIM, String.class),
+                longClaim(claims, COMPANY_ID_CLAIM),
+                longClaim(claims, DEPARTMENT_ID_CLAIM));
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    /**
+     * 숫자 클레임 (JSON 파싱 결과는 Integer/Long 일 수 있음)
+     */
+    private Long longClaim(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value instanceof Number number ? number.longValue() : null;
     }
 
     /**
-     * 토큰 유효성 검증
+     * 서명/만료 검증 후 Claims 반환 (유효하지 않으면 null)
      */
-    public boolean validateToken(String token) {
+    private Claims verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SecurityException | MalformedJwtException e) {
             log.error("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -124,35 +260,46 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
     /**
-     * 토큰에서 Claims 추출
+     * Refresh Token 검증 및 정보 추출
+     * 유효하지 않거나, Refresh Token 이 아니거나, 토큰/계열 id 가 없는 이전 형식이면 null
      */
-    private Claims parseClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = verify(token);
+        if (claims == null) {
+            return null;
+        }
+        String familyId = claims.get(FAMILY_ID_CLAIM, String.class);
+        if (!"refresh".equals(claims.get("type")) || claims.getId() == null || familyId == null
+                || claims.getExpiration() == null) {
+            log.error("Refresh Token 형식이 아닌 토큰입니다.");
+            return null;
         }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        return new RefreshTokenClaims(claims.getSubject(), claims.getId(), familyId, expiresAt);
     }
 
     /**
-     * 토큰에서 이메일 추출
+     * Access Token 유효 시간 반환
      */
-    public String getEmailFromToken(String token) {
-        return parseClaims(token).getSubject();
+    public long getAccessTokenValidity() {
+        return accessTokenValidity;
     }
 
     /**
-     * Access Token 유효 시간 반환
+     * Refresh Token 유효 시간 반환
      */
-    public long getAccessTokenValidity() {
-        return accessTokenValidity;
+    public long getRefreshTokenValidity() {
+        return refreshTokenValidity;
+    }
+
+    /**
+     * 스트림 티켓 유효 시간 반환
+     */
+    public long getStreamTicketValidity() {
+        return streamTicketValidity;
     }
 }
@@ -0,0 +1,131 @@
+package com.itmsg.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ * BCrypt 해싱(의도적으로 느린 연산)을 요청 스레드 대신 크기가 제한된 전용 스레드 풀에서 실행한다.
+ * 대기 큐(auth.password-hashing.queue-capacity)가 가득 차면 즉시 거부(RejectedExecutionException)하여
+ * 로그인 폭주가 Tomcat 스레드와 다른 API 를 막지 않게 한다.
+ *
+ * 메트릭: password.hashing (operation 태그, 해싱 시간), password.hashing.wait (큐 대기 시간),
+ * password.hashing.rejected (거부 수), password.hashing.queue (대기 중 작업 수)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.threads:4}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:200}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger sequence = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("비밀번호 해싱 작업의 큐 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("대기 큐 초과로 거부된 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("password.hashing.queue", List.of(), executor, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * 비밀번호 검증
+     * 일치하고 저장된 해시의 강도가 설정(auth.password-hashing.bcrypt-strength)보다 낮으면
+     * 같은 작업에서 새 강도로 다시 해싱한 값을 함께 반환한다.
+     *
+     * @throws RejectedExecutionException 대기 큐가 가득 찬 경우
+     */
+    public CompletableFuture<Verification> verify(String rawPassword, String encodedPassword) {
+        return submit("verify", () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, upgradedPassword);
+        });
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @throws RejectedExecutionException 대기 큐가 가득 찬 경우
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                Timer.Sample sample = Timer.start(meterRegistry);
+                try {
+                    return task.get();
+                } finally {
+                    sample.stop(Timer.builder("password.hashing")
+                            .description("비밀번호 해싱 소요 시간")
+                            .tag("operation", operation)
+                            .register(meterRegistry));
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기 큐 초과로 요청 거부: operation={}", operation);
+            throw e;
+        }
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matched          일치 여부
+     * @param upgradedPassword 강도를 높여 다시 해싱한 값 (상향이 필요 없으면 null)
+     */
+    public record Verification(boolean matched, String upgradedPassword) {
+    }
+}
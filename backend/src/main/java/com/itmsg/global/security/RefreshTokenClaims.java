@@ -0,0 +1,14 @@
+package com.itmsg.global.security;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증된 Refresh Token 정보
+ *
+ * @param email     사용자 이메일 (subject)
+ * @param tokenId   토큰 id (jti, 갱신할 때마다 새로 발급)
+ * @param familyId  토큰 계열 id (fid, 로그인 시 발급되어 갱신 후에도 유지)
+ * @param expiresAt 토큰 만료 시각
+ */
+public record RefreshTokenClaims(String email, String tokenId, String familyId, LocalDateTime expiresAt) {
+}
@@ -1,6 +1,8 @@
 package com.itmsg.global.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -38,6 +40,8 @@ public class SecurityConfig {
                 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/",
@@ -63,9 +67,12 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt 비밀번호 인코더 (강도는 auth.password-hashing.bcrypt-strength, 기존 해시는 로그인 시 상향)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
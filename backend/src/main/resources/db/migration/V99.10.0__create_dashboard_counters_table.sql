@@ -0,0 +1,40 @@
+-- 대시보드 카운터 테이블 생성
+-- SR/프로젝트/승인/이슈/장애/자산/사용자 변경 시 같은 트랜잭션에서 증감되며, 정기 재계산 작업으로 보정된다
+CREATE TABLE dashboard_counters (
+    counter_key VARCHAR(100) PRIMARY KEY,
+    counter_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 현재 데이터로 카운터 초기화
+INSERT INTO dashboard_counters (counter_key, counter_value)
+SELECT 'USER:TOTAL', COUNT(*) FROM users WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'PROJECT:TOTAL', COUNT(*) FROM projects WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'PROJECT:STATUS:' || status, COUNT(*) FROM projects WHERE deleted_at IS NULL GROUP BY status
+UNION ALL
+SELECT 'SR:TOTAL', COUNT(*) FROM service_requests WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'SR:STATUS:' || status, COUNT(*) FROM service_requests WHERE deleted_at IS NULL GROUP BY status
+UNION ALL
+SELECT 'SR:MONTH:' || TO_CHAR(request_date, 'YYMM'), COUNT(*) FROM service_requests WHERE deleted_at IS NULL GROUP BY TO_CHAR(request_date, 'YYMM')
+UNION ALL
+SELECT 'APPROVAL:TOTAL', COUNT(*) FROM approvals WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'APPROVAL:STATUS:' || status, COUNT(*) FROM approvals WHERE deleted_at IS NULL GROUP BY status
+UNION ALL
+SELECT 'ISSUE:TOTAL', COUNT(*) FROM issues WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'ISSUE:STATUS:' || status, COUNT(*) FROM issues WHERE deleted_at IS NULL GROUP BY status
+UNION ALL
+SELECT 'INCIDENT:TOTAL', COUNT(*) FROM incidents WHERE deleted_at IS NULL
+UNION ALL
+SELECT 'INCIDENT:STATUS:' || status, COUNT(*) FROM incidents WHERE deleted_at IS NULL GROUP BY status
+UNION ALL
+SELECT 'ASSET:TOTAL', COUNT(*) FROM assets WHERE deleted_at IS NULL;
+
+-- 코멘트 추가
+COMMENT ON TABLE dashboard_counters IS '대시보드 집계 카운터';
+COMMENT ON COLUMN dashboard_counters.counter_key IS '카운터 키 (예: SR:TOTAL, SR:STATUS:APPROVED, SR:MONTH:2501)';
+COMMENT ON COLUMN dashboard_counters.counter_value IS '카운터 값';
@@ -0,0 +1,4 @@
+-- 활동 피드 keyset 조회용 인덱스 (적용 내용 없음)
+-- 활동 피드는 V99.12.0 의 activity_log (occurred_at DESC, id DESC) 인덱스로 조회하므로
+-- 원본 테이블(service_requests, projects, approvals)에는 피드 전용 인덱스를 만들지 않는다.
+-- 버전 번호를 유지하기 위해 빈 마이그레이션으로 남겨 둔다
@@ -0,0 +1,59 @@
+-- 활동 로그 테이블 생성 (append-only)
+-- SR/프로젝트/승인/이슈/장애/릴리즈/자산의 생성, 상태 변경, 삭제 내역을 기록하며
+-- 애플리케이션의 쓰기 버퍼가 커밋된 변경만 모아 배치로 적재한다
+CREATE TABLE activity_log (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    title VARCHAR(300) NOT NULL,
+    description VARCHAR(500),
+    status VARCHAR(50),
+    actor_name VARCHAR(100),
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- 최근 활동 조회 (전체 / 타입별) 인덱스
+CREATE INDEX idx_activity_log_recent ON activity_log(occurred_at DESC, id DESC);
+CREATE INDEX idx_activity_log_type_recent ON activity_log(entity_type, occurred_at DESC, id DESC);
+CREATE INDEX idx_activity_log_entity ON activity_log(entity_type, entity_id);
+
+COMMENT ON TABLE activity_log IS '활동 로그 (append-only)';
+COMMENT ON COLUMN activity_log.entity_type IS '대상 엔티티 타입 (SR, PROJECT, APPROVAL, ISSUE, INCIDENT, RELEASE, ASSET)';
+COMMENT ON COLUMN activity_log.change_type IS '변경 유형 (CREATED, STATUS_CHANGED, DELETED)';
+COMMENT ON COLUMN activity_log.actor_name IS '활동을 수행한 사용자 이름';
+
+-- 기존 데이터의 생성 내역으로 초기화
+INSERT INTO activity_log (entity_type, entity_id, change_type, title, description, status, actor_name, occurred_at)
+SELECT entity_type, entity_id, 'CREATED', title, description, status, actor_name, occurred_at
+FROM (
+    SELECT 'SR' AS entity_type, sr.id AS entity_id, 'SR-' || sr.sr_number AS title, sr.title AS description,
+           sr.status AS status, u.name AS actor_name, sr.created_at AS occurred_at
+    FROM service_requests sr LEFT JOIN users u ON u.id = sr.requester_id
+    WHERE sr.deleted_at IS NULL
+    UNION ALL
+    SELECT 'PROJECT', p.id, p.name, '프로젝트 생성됨', p.status, u.name, p.created_at
+    FROM projects p LEFT JOIN users u ON u.id = p.pm_id
+    WHERE p.deleted_at IS NULL
+    UNION ALL
+    SELECT 'APPROVAL', a.id, '승인-' || a.approval_number, a.approval_type || ' 승인 요청', a.status, u.name, a.created_at
+    FROM approvals a LEFT JOIN users u ON u.id = a.requester_id
+    WHERE a.deleted_at IS NULL
+    UNION ALL
+    SELECT 'ISSUE', i.id, i.issue_number, i.title, i.status, u.name, i.created_at
+    FROM issues i LEFT JOIN users u ON u.id = i.reporter_id
+    WHERE i.deleted_at IS NULL
+    UNION ALL
+    SELECT 'INCIDENT', inc.id, inc.incident_number, inc.title, inc.status, u.name, inc.created_at
+    FROM incidents inc LEFT JOIN users u ON u.id = inc.assignee_id
+    WHERE inc.deleted_at IS NULL
+    UNION ALL
+    SELECT 'RELEASE', r.id, r.release_number, r.title, r.status, u.name, r.created_at
+    FROM releases r LEFT JOIN users u ON u.id = r.requester_id
+    WHERE r.deleted_at IS NULL
+    UNION ALL
+    SELECT 'ASSET', ast.id, ast.asset_number, ast.name, ast.status, u.name, ast.created_at
+    FROM assets ast LEFT JOIN users u ON u.id = ast.manager_id
+    WHERE ast.deleted_at IS NULL
+) seed
+ORDER BY occurred_at, entity_type, entity_id;
@@ -0,0 +1,23 @@
+-- 대시보드 월별 KPI 스냅샷 테이블 생성
+-- 스케줄 작업이 당월 행을 주기적으로 갱신하며, 전월 대비 추세와 차트 이력은 이 테이블에서 조회한다
+CREATE TABLE dashboard_kpi_snapshots (
+    snapshot_month DATE NOT NULL,
+    kpi_key VARCHAR(50) NOT NULL,
+    kpi_value DOUBLE PRECISION NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (snapshot_month, kpi_key)
+);
+
+-- SR 접수 건수 이력은 요청일 기준으로 복원 가능하므로 과거 월까지 초기화
+-- (활성 프로젝트, 승인 대기 등 시점 상태 값은 스케줄 작업이 당월부터 기록)
+INSERT INTO dashboard_kpi_snapshots (snapshot_month, kpi_key, kpi_value)
+SELECT DATE_TRUNC('month', request_date)::DATE, 'SR_INTAKE', COUNT(*)
+FROM service_requests
+WHERE deleted_at IS NULL
+GROUP BY DATE_TRUNC('month', request_date)::DATE;
+
+-- 코멘트 추가
+COMMENT ON TABLE dashboard_kpi_snapshots IS '대시보드 월별 KPI 스냅샷';
+COMMENT ON COLUMN dashboard_kpi_snapshots.snapshot_month IS '스냅샷 월 (해당 월 1일)';
+COMMENT ON COLUMN dashboard_kpi_snapshots.kpi_key IS 'KPI 키 (예: ACTIVE_PROJECTS, SR_INTAKE, PENDING_APPROVALS, COMPLETION_RATE, SR_STATUS:APPROVED)';
+COMMENT ON COLUMN dashboard_kpi_snapshots.kpi_value IS '월말(당월은 마지막 스냅샷 시점) 기준 KPI 값';
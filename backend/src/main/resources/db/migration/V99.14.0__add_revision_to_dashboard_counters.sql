@@ -0,0 +1,5 @@
+-- 대시보드 카운터 변경 리비전 추가
+-- 카운터 값이 바뀔 때마다 증가하며, 리비전 합계로 대시보드 통계 ETag 를 계산한다
+ALTER TABLE dashboard_counters ADD COLUMN revision BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN dashboard_counters.revision IS '값 변경 리비전 (통계 ETag 계산용)';
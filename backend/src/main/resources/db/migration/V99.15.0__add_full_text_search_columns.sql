@@ -0,0 +1,31 @@
+-- SR/이슈/장애 전문 검색 컬럼 및 GIN 인덱스
+-- 한국어 형태소 사전이 없으므로 'simple' 설정(소문자화만 수행)으로 색인하고, 검색어는 접두어(:*) 질의로 변환한다
+-- 제목은 가중치 A, 본문은 가중치 B 로 색인하여 제목 일치가 상위에 오도록 한다
+-- 생성 컬럼(STORED)이므로 애플리케이션 변경 없이 INSERT/UPDATE 시 자동 갱신된다
+
+ALTER TABLE service_requests ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(business_requirement, '')), 'B')
+    ) STORED;
+
+ALTER TABLE issues ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'B')
+    ) STORED;
+
+ALTER TABLE incidents ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(resolution, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_sr_search ON service_requests USING GIN (search_vector) WHERE deleted_at IS NULL;
+CREATE INDEX idx_issue_search ON issues USING GIN (search_vector) WHERE deleted_at IS NULL;
+CREATE INDEX idx_incident_search ON incidents USING GIN (search_vector) WHERE deleted_at IS NULL;
+
+-- 코멘트 추가
+COMMENT ON COLUMN service_requests.search_vector IS '전문 검색 벡터 (제목 A, 업무 요구사항 B)';
+COMMENT ON COLUMN issues.search_vector IS '전문 검색 벡터 (제목 A, 내용 B)';
+COMMENT ON COLUMN incidents.search_vector IS '전문 검색 벡터 (제목 A, 조치 내용 B)';
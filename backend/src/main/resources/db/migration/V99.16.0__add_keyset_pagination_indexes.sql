@@ -0,0 +1,11 @@
+-- 목록 API keyset(커서) 페이지네이션용 인덱스
+-- 각 목록의 기본 정렬 (정렬 컬럼 DESC, id DESC) 순서로 삭제되지 않은 행만 색인하여,
+-- 커서 위치에서 인덱스를 바로 탐색(seek)하고 OFFSET 건너뛰기 없이 다음 페이지를 읽는다
+CREATE INDEX idx_sr_keyset ON service_requests(request_date DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_spec_keyset ON specifications(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_approval_keyset ON approvals(requested_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_issue_keyset ON issues(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_release_keyset ON releases(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_incident_keyset ON incidents(occurred_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_asset_keyset ON assets(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_project_keyset ON projects(created_at DESC, id DESC) WHERE deleted_at IS NULL;
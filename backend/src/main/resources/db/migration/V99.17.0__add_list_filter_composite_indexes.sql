@@ -0,0 +1,8 @@
+-- 목록 검색 필터 조합용 복합 인덱스
+-- 검색 쿼리가 전달된 조건만 WHERE 절에 넣으므로, 자주 쓰는 필터 조합은 등호 컬럼 + 정렬 컬럼 순서의
+-- 복합 인덱스 하나로 조건 탐색과 기본 정렬을 함께 처리한다
+CREATE INDEX idx_sr_project_status_date ON service_requests(project_id, status, request_date DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_sr_requester_status_date ON service_requests(requester_id, status, request_date DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_approval_requester_status ON approvals(requester_id, status, requested_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_issue_assignee_status ON issues(assignee_id, status, created_at DESC) WHERE deleted_at IS NULL;
+CREATE INDEX idx_incident_assignee_status ON incidents(assignee_id, status, occurred_at DESC) WHERE deleted_at IS NULL;
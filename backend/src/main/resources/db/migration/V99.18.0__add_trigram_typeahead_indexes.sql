@@ -0,0 +1,11 @@
+-- 자동완성(typeahead) 검색용 trigram 인덱스
+-- pg_trgm GIN 인덱스는 부분 일치(ILIKE '%검색어%')와 오타를 허용하는 단어 유사도(<%) 검색을 모두 지원한다
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_user_name_trgm ON users USING GIN (name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_project_name_trgm ON projects USING GIN (name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_project_code_trgm ON projects USING GIN (code gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_partner_name_trgm ON partners USING GIN (name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_partner_code_trgm ON partners USING GIN (code gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_asset_name_trgm ON assets USING GIN (name gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX idx_asset_serial_number_trgm ON assets USING GIN (serial_number gin_trgm_ops) WHERE deleted_at IS NULL;
@@ -0,0 +1,59 @@
+-- SR 목록 읽기 모델 (비정규화)
+-- 목록 화면에 필요한 SR 컬럼과 프로젝트명/요청자명/부서명/명세서 번호·상태/첨부파일 수를 한 행에 보관하여
+-- 목록 조회를 연관 엔티티 조회 없이 이 테이블 하나로 처리한다.
+-- SR/프로젝트/사용자/명세서 변경 시 같은 트랜잭션에서 해당 행을 다시 계산하며(SrListViewUpdater),
+-- 삭제된 SR 의 행은 제거한다.
+CREATE TABLE sr_list_view (
+    sr_id BIGINT PRIMARY KEY REFERENCES service_requests(id) ON DELETE CASCADE,
+    sr_number VARCHAR(20) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    sr_type VARCHAR(20) NOT NULL,
+    sr_category VARCHAR(50),
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20),
+    request_date DATE,
+    due_date DATE,
+    release_date DATE,
+    release_number VARCHAR(50),
+    project_id BIGINT NOT NULL,
+    project_name VARCHAR(200),
+    requester_id BIGINT NOT NULL,
+    requester_name VARCHAR(50),
+    requester_dept_id BIGINT,
+    requester_dept_name VARCHAR(50),
+    spec_id BIGINT,
+    spec_number VARCHAR(20),
+    spec_status VARCHAR(20),
+    attachment_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    created_by VARCHAR(50) NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO sr_list_view (sr_id, sr_number, title, sr_type, sr_category, status, priority,
+                          request_date, due_date, release_date, release_number,
+                          project_id, project_name, requester_id, requester_name,
+                          requester_dept_id, requester_dept_name, spec_id, spec_number, spec_status,
+                          attachment_count, created_at, created_by, updated_at)
+SELECT sr.id, sr.sr_number, sr.title, sr.sr_type, sr.sr_category, sr.status, sr.priority,
+       sr.request_date, sr.due_date, sr.release_date, sr.release_number,
+       sr.project_id, p.name, sr.requester_id, u.name,
+       sr.requester_dept_id, d.name, sr.spec_id, s.spec_number, s.status,
+       (SELECT COUNT(*) FROM sr_files f WHERE f.sr_id = sr.id),
+       sr.created_at, sr.created_by, sr.updated_at
+FROM service_requests sr
+JOIN projects p ON p.id = sr.project_id
+JOIN users u ON u.id = sr.requester_id
+LEFT JOIN departments d ON d.id = sr.requester_dept_id
+LEFT JOIN specifications s ON s.id = sr.spec_id
+WHERE sr.deleted_at IS NULL;
+
+-- 기본 정렬(요청일 DESC, id DESC)과 자주 쓰는 필터(상태/프로젝트/요청자) + 정렬 순서 인덱스
+CREATE INDEX idx_sr_list_view_keyset ON sr_list_view(request_date DESC, sr_id DESC);
+CREATE INDEX idx_sr_list_view_status ON sr_list_view(status, request_date DESC, sr_id DESC);
+CREATE INDEX idx_sr_list_view_project ON sr_list_view(project_id, status, request_date DESC, sr_id DESC);
+CREATE INDEX idx_sr_list_view_requester ON sr_list_view(requester_id, status, request_date DESC, sr_id DESC);
+CREATE INDEX idx_sr_list_view_spec ON sr_list_view(spec_id);
+
+COMMENT ON TABLE sr_list_view IS 'SR 목록 읽기 모델 (비정규화, 변경 시 같은 트랜잭션에서 갱신)';
+COMMENT ON COLUMN sr_list_view.attachment_count IS '첨부파일 수 (sr_files)';
@@ -0,0 +1,34 @@
+-- 저장된 검색 (사용자별 SR/이슈/장애 목록 필터 정의)
+-- 조건 컬럼은 대상 목록 API 의 검색 파라미터와 같으며, 값이 NULL 인 조건은 적용하지 않는다
+CREATE TABLE saved_searches (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    name VARCHAR(100) NOT NULL,
+    target VARCHAR(20) NOT NULL CHECK (target IN ('SR', 'ISSUE', 'INCIDENT')),
+    title VARCHAR(200),
+    status VARCHAR(30),
+    sr_type VARCHAR(20),
+    severity VARCHAR(20),
+    project_id BIGINT,
+    requester_id BIGINT,
+    reporter_id BIGINT,
+    assignee_id BIGINT,
+    start_date DATE,
+    end_date DATE,
+    occurred_start TIMESTAMP,
+    occurred_end TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(50) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_by VARCHAR(50) NOT NULL,
+    deleted_at TIMESTAMP,
+    version BIGINT DEFAULT 0
+);
+
+CREATE INDEX idx_saved_search_user ON saved_searches(user_id) WHERE deleted_at IS NULL;
+
+COMMENT ON TABLE saved_searches IS '저장된 검색 (사용자별 목록 필터)';
+COMMENT ON COLUMN saved_searches.target IS '검색 대상 (SR, ISSUE, INCIDENT)';
+COMMENT ON COLUMN saved_searches.status IS '상태 조건 (대상 엔티티의 상태 값)';
+COMMENT ON COLUMN saved_searches.start_date IS 'SR 요청일 시작 조건';
+COMMENT ON COLUMN saved_searches.occurred_start IS '장애 발생 시작 시간 조건';
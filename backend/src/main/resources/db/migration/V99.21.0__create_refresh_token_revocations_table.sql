@@ -0,0 +1,23 @@
+-- 리프레시 토큰 폐기 목록
+-- 리프레시 토큰은 발급 시 토큰 id(jti)와 계열 id(fid, 로그인 단위)를 가지며, 갱신할 때마다 같은 계열의 새 토큰으로 교체된다.
+-- TOKEN: 갱신에 사용된(교체된) 토큰. 같은 토큰이 다시 사용되면 재사용으로 보고 계열 전체를 폐기한다.
+-- FAMILY: 로그아웃 또는 재사용 감지로 폐기된 계열
+-- expires_at 이 지난 행은 해당 토큰이 더 이상 유효하지 않으므로 주기적으로 삭제한다.
+CREATE TABLE refresh_token_revocations (
+    id BIGSERIAL PRIMARY KEY,
+    scope VARCHAR(10) NOT NULL CHECK (scope IN ('TOKEN', 'FAMILY')),
+    token_id VARCHAR(36) NOT NULL,
+    reason VARCHAR(20) NOT NULL CHECK (reason IN ('ROTATED', 'LOGOUT', 'REUSE_DETECTED')),
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_refresh_token_revocation UNIQUE (scope, token_id)
+);
+
+CREATE INDEX idx_refresh_token_revocation_expires ON refresh_token_revocations(expires_at);
+CREATE INDEX idx_refresh_token_revocation_family ON refresh_token_revocations(revoked_at) WHERE scope = 'FAMILY';
+
+COMMENT ON TABLE refresh_token_revocations IS '리프레시 토큰 폐기 목록 (교체된 토큰, 폐기된 토큰 계열)';
+COMMENT ON COLUMN refresh_token_revocations.scope IS '폐기 단위 (TOKEN: 토큰 id, FAMILY: 계열 id)';
+COMMENT ON COLUMN refresh_token_revocations.token_id IS '토큰 id(jti) 또는 계열 id(fid)';
+COMMENT ON COLUMN refresh_token_revocations.reason IS '폐기 사유 (ROTATED, LOGOUT, REUSE_DETECTED)';
+COMMENT ON COLUMN refresh_token_revocations.expires_at IS '폐기 정보 보관 기한 (이후에는 토큰 자체가 만료됨)';
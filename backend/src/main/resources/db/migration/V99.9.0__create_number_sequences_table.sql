@@ -0,0 +1,65 @@
+-- 채번 카운터 테이블 생성
+-- 접두어/기간(YYMM)별 마지막 발급 번호를 보관하며, UPSERT ... RETURNING 으로 원자적으로 증가시킨다
+CREATE TABLE number_sequences (
+    prefix VARCHAR(10) NOT NULL,
+    period VARCHAR(4) NOT NULL,
+    current_value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (prefix, period)
+);
+
+-- 기존 발급 번호로 카운터 초기화 (삭제된 데이터 포함, 중복 발급 방지)
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'SR', SUBSTRING(sr_number FROM '^SR([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(sr_number FROM '-([0-9]+)$') AS BIGINT))
+FROM service_requests
+WHERE sr_number ~ '^SR[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(sr_number FROM '^SR([0-9]{4})-[0-9]+$');
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'SPEC', SUBSTRING(spec_number FROM '^SPEC([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(spec_number FROM '-([0-9]+)$') AS BIGINT))
+FROM specifications
+WHERE spec_number ~ '^SPEC[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(spec_number FROM '^SPEC([0-9]{4})-[0-9]+$');
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'APP', SUBSTRING(approval_number FROM '^APP([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(approval_number FROM '-([0-9]+)$') AS BIGINT))
+FROM approvals
+WHERE approval_number ~ '^APP[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(approval_number FROM '^APP([0-9]{4})-[0-9]+$');
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'ISS', SUBSTRING(issue_number FROM '^ISS([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(issue_number FROM '-([0-9]+)$') AS BIGINT))
+FROM issues
+WHERE issue_number ~ '^ISS[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(issue_number FROM '^ISS([0-9]{4})-[0-9]+$');
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'REL', SUBSTRING(release_number FROM '^REL([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(release_number FROM '-([0-9]+)$') AS BIGINT))
+FROM releases
+WHERE release_number ~ '^REL[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(release_number FROM '^REL([0-9]{4})-[0-9]+$');
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'INC', SUBSTRING(incident_number FROM '^INC([0-9]{4})-[0-9]+$'), MAX(CAST(SUBSTRING(incident_number FROM '-([0-9]+)$') AS BIGINT))
+FROM incidents
+WHERE incident_number ~ '^INC[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(incident_number FROM '^INC([0-9]{4})-[0-9]+$');
+
+-- 파트너/자산 코드는 기간 구분 없이 하나의 카운터 사용 (period = '')
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'PTR', '', MAX(CAST(SUBSTRING(code FROM '^PTR([0-9]+)$') AS BIGINT))
+FROM partners
+WHERE code ~ '^PTR[0-9]+$'
+HAVING COUNT(*) > 0;
+
+INSERT INTO number_sequences (prefix, period, current_value)
+SELECT 'AST', '', MAX(CAST(SUBSTRING(asset_number FROM '^AST([0-9]+)$') AS BIGINT))
+FROM assets
+WHERE asset_number ~ '^AST[0-9]+$'
+HAVING COUNT(*) > 0;
+
+-- 코멘트 추가
+COMMENT ON TABLE number_sequences IS '자동 채번 카운터';
+COMMENT ON COLUMN number_sequences.prefix IS '번호 접두어 (SR, SPEC, APP, ISS, REL, INC, PTR, AST)';
+COMMENT ON COLUMN number_sequences.period IS '채번 기간 (YYMM, 기간 구분이 없으면 빈 문자열)';
+COMMENT ON COLUMN number_sequences.current_value IS '마지막으로 발급된 일련번호';
@@ -0,0 +1,146 @@
+package com.itmsg.domain.auth.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.itmsg.domain.auth.dto.LoginRequest;
+import com.itmsg.domain.auth.dto.LoginResponse;
+import com.itmsg.domain.user.entity.User;
+import com.itmsg.domain.user.repository.UserRepository;
+import com.itmsg.global.security.JwtTokenProvider;
+import com.itmsg.global.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리량/지연 시간 벤치마크
+ * 동시 사용자 16명이 AuthService.login 을 반복 호출할 때 BCrypt 강도(bcryptStrength)와
+ * 해싱 스레드 수(hashingThreads)별 처리량(loginThroughput, ops/s)과 지연 분포(loginLatency, p99 포함)를 측정한다.
+ *
+ * 사용자 조회는 Mock Repository, 트랜잭션은 아무것도 하지 않는 트랜잭션 관리자로 대체하므로
+ * 해싱 풀과 후속 처리 풀, 토큰 발급 비용만 측정한다 (DB 지연 제외).
+ *
+ * 실행: mvn test-compile 후 main 실행, 또는
+ * java -cp target/test-classes:target/classes:{테스트 classpath} org.openjdk.jmh.Main LoginBenchmark
+ * (설정 변경 예: -p bcryptStrength=12 -p hashingThreads=8 -t 32)
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class LoginBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final String PASSWORD = "password1234!";
+
+    @Param({"10", "12"})
+    private int bcryptStrength;
+
+    @Param({"2", "4"})
+    private int hashingThreads;
+
+    private AuthService authService;
+    private LoginRequest request;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.itmsg")).setLevel(Level.WARN);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, hashingThreads, 200);
+        AuthCompletionExecutor completionExecutor = new AuthCompletionExecutor(meterRegistry, 8, 200);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                "benchmarkJwtSecretKeyThatIsAtLeast256BitsLongForHS256Algorithm!!",
+                3_600_000L, 604_800_000L, 30_000L, 10_000, meterRegistry);
+
+        User user = User.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .name("벤치마크")
+                .isActive(true)
+                .isApproved(true)
+                .isLocked(false)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        // stubOnly: 호출 기록을 남기지 않아 장시간 실행에도 메모리가 늘지 않음
+        UserRepository userRepository = Mockito.mock(UserRepository.class, Mockito.withSettings().stubOnly());
+        Mockito.when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.findByEmailWithRoles(EMAIL)).thenReturn(Optional.of(user));
+
+        authService = new AuthService(null, jwtTokenProvider, userRepository, null, null, null,
+                passwordEncoder, passwordHasher, completionExecutor, null,
+                new TransactionTemplate(new NoOpTransactionManager()), null);
+
+        request = new LoginRequest();
+        request.setEmail(EMAIL);
+        request.setPassword(PASSWORD);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public LoginResponse loginThroughput() {
+        return authService.login(request).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LoginResponse loginLatency() {
+        return authService.login(request).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoginBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * 트랜잭션 없이 콜백만 실행하는 트랜잭션 관리자
+     */
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
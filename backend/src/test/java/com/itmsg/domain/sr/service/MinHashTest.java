@@ -0,0 +1,87 @@
+package com.itmsg.domain.sr.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MinHashTest {
+
+    /** 64개 해시 추정의 표준오차는 최대 약 0.06 → 3σ 범위 */
+    private static final double TOLERANCE = 0.19;
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 40, 60, 80})
+    void similarityApproximatesJaccardOfShingles(int offset) {
+        String a = words(0, 100);
+        String b = words(offset, offset + 100);
+
+        double estimated = MinHash.similarity(MinHash.signature(a), MinHash.signature(b));
+
+        assertThat(estimated).isCloseTo(jaccard(a, b), within(TOLERANCE));
+    }
+
+    @Test
+    void identicalTextsHaveSimilarityOne() {
+        long[] a = MinHash.signature("서버 증설 요청", "운영 서버 CPU 사용률이 높아 증설이 필요합니다");
+        long[] b = MinHash.signature("서버 증설 요청", "운영 서버 CPU 사용률이 높아 증설이 필요합니다");
+
+        assertThat(MinHash.similarity(a, b)).isEqualTo(1.0);
+        assertThat(MinHash.bandKeys(a)).containsExactly(MinHash.bandKeys(b));
+    }
+
+    @Test
+    void caseAndPunctuationAreIgnored() {
+        long[] a = MinHash.signature("VPN 접속 오류!", "재택 근무 중 VPN 접속이 안 됩니다.");
+        long[] b = MinHash.signature("vpn 접속 오류", "재택 근무 중 vpn 접속이 안 됩니다");
+
+        assertThat(MinHash.similarity(a, b)).isEqualTo(1.0);
+    }
+
+    @Test
+    void disjointTextsHaveSimilarityNearZero() {
+        long[] a = MinHash.signature(words(0, 100));
+        long[] b = MinHash.signature(words(1000, 1100));
+
+        assertThat(MinHash.similarity(a, b)).isCloseTo(jaccard(words(0, 100), words(1000, 1100)), within(TOLERANCE));
+    }
+
+    @Test
+    void blankTextHasNoSignature() {
+        assertThat(MinHash.signature(null, " ", "!?")).isNull();
+    }
+
+    /**
+     * 소문자/숫자/공백 하나로만 이루어진 (정규화가 필요 없는) 텍스트
+     */
+    private static String words(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> Integer.toString(i * 7919, 36))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static double jaccard(String a, String b) {
+        Set<String> shinglesA = shingles(a);
+        Set<String> shinglesB = shingles(b);
+        Set<String> intersection = new HashSet<>(shinglesA);
+        intersection.retainAll(shinglesB);
+        Set<String> union = new HashSet<>(shinglesA);
+        union.addAll(shinglesB);
+        return (double) intersection.size() / union.size();
+    }
+
+    private static Set<String> shingles(String text) {
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            shingles.add(text.substring(i, i + 3));
+        }
+        return shingles;
+    }
+}
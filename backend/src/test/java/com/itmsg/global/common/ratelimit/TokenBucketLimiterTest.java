@@ -0,0 +1,115 @@
+package com.itmsg.global.common.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketLimiterTest {
+
+    /** 5개 / 1초 → 토큰 하나당 200ms */
+    private static final int CAPACITY = 5;
+    private static final Duration REFILL_PERIOD = Duration.ofSeconds(1);
+    private static final long NANOS_PER_TOKEN = REFILL_PERIOD.toNanos() / CAPACITY;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private MeterRegistry meterRegistry;
+    private TokenBucketLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new TokenBucketLimiter("test", CAPACITY, REFILL_PERIOD, 100, meterRegistry, clock::get);
+    }
+
+    @Test
+    void allowsUpToCapacityThenRejectsWithTimeUntilNextToken() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+
+        Duration retryAfter = limiter.tryAcquire("a");
+
+        assertThat(retryAfter.toNanos()).isCloseTo(NANOS_PER_TOKEN, within(1_000L));
+    }
+
+    @Test
+    void retryAfterShrinksAsTimePasses() {
+        drain("a");
+
+        advance(TimeUnit.MILLISECONDS.toNanos(150));
+
+        assertThat(limiter.tryAcquire("a").toNanos())
+                .isCloseTo(NANOS_PER_TOKEN - TimeUnit.MILLISECONDS.toNanos(150), within(1_000L));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        drain("a");
+
+        advance(NANOS_PER_TOKEN);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        drain("a");
+
+        advance(REFILL_PERIOD.toNanos() * 10);
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        drain("a");
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("a");
+        }
+
+        advance(NANOS_PER_TOKEN);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        drain("a");
+
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void recordsAllowedAndRejectedCounts() {
+        drain("a");
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        assertThat(meterRegistry.get("rate-limit.requests").tag("result", "allowed").counter().count())
+                .isEqualTo(CAPACITY);
+        assertThat(meterRegistry.get("rate-limit.requests").tag("result", "rejected").counter().count())
+                .isEqualTo(2);
+    }
+
+    private void drain(String key) {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(limiter.tryAcquire(key)).isZero();
+        }
+    }
+
+    private void advance(long nanos) {
+        clock.addAndGet(nanos);
+    }
+}
@@ -0,0 +1,147 @@
+package com.itmsg.global.security;
+
+import com.itmsg.domain.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 인증 비교 벤치마크
+ * 변경 전 경로(요청마다 Jwts.parser() 를 새로 만들어 검증과 Claims 추출로 토큰을 두 번 파싱)와
+ * authenticate(공유 파서로 한 번 파싱 + 인증 캐시)를 비교한다. 변경 전 경로는 이 클래스에 그대로 옮겨 두었다.
+ *
+ * - cold: 캐시 크기 1 에 서로 다른 토큰을 번갈아 넣어 매번 캐시 미스 (검증/파싱 비용만 비교)
+ * - warm: 모든 토큰을 미리 인증해 두어 매번 캐시 히트
+ *
+ * 실행: mvn test-compile 후 main 실행, 또는
+ * java -cp target/test-classes:target/classes:{테스트 classpath} org.openjdk.jmh.Main JwtAuthenticationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmarkJwtSecretKeyThatIsAtLeast256BitsLongForHS256Algorithm!!";
+    private static final int TOKEN_COUNT = 1024;
+
+    @Param({"cold", "warm"})
+    private String cache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey secretKey;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        int cacheEntries = "cold".equals(cache) ? 1 : TOKEN_COUNT * 2;
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L, 30_000L, cacheEntries,
+                new SimpleMeterRegistry());
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            User user = User.builder()
+                    .email("user" + i + "@example.com")
+                    .name("사용자" + i)
+                    .build();
+            ReflectionTestUtils.setField(user, "id", (long) i + 1);
+            tokens[i] = jwtTokenProvider.createAccessToken(user, authorities);
+            if ("warm".equals(cache)) {
+                jwtTokenProvider.authenticate(tokens[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        String token = nextToken();
+        return validateToken(token) ? getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.authenticate(nextToken());
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider.validateToken (요청마다 파서 생성)
+     */
+    private boolean validateToken(String token) {
+        try {
+            Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token);
+            return true;
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 변경 전 JwtTokenProvider.getAuthentication (파서를 다시 만들어 두 번째 파싱)
+     */
+    private Authentication getAuthentication(String token) {
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
+        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("roles", String.class).split(","))
+                .filter(role -> !role.trim().isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), "", authorities);
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % TOKEN_COUNT;
+        return token;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -25,14 +25,12 @@ export interface RecentActivity {
   userName: string;
 }
 
+// 전체 건수 없이 다음 페이지 존재 여부(hasNext)만 제공
 export interface RecentActivitiesPage {
   content: RecentActivity[];
-  totalElements: number;
-  totalPages: number;
   size: number;
   number: number;
-  first: boolean;
-  last: boolean;
+  hasNext: boolean;
 }
 
 export const getDashboardStats = async (): Promise<DashboardStats> => {
@@ -673,10 +673,10 @@ const DashboardPage: React.FC = () => {
                       </TableContainer>
 
                       {/* 페이징 */}
-                      {activitiesPage.totalPages > 1 && (
+                      {(activitiesPage.number > 0 || activitiesPage.hasNext) && (
                         <Box sx={{ display: 'flex', justifyContent: 'center', p: 1, borderTop: 1, borderColor: 'divider' }}>
                           <Pagination
-                            count={activitiesPage.totalPages}
+                            count={activitiesPage.number + (activitiesPage.hasNext ? 2 : 1)}
                             page={activitiesPage.number + 1}
                             onChange={handlePageChange}
                             color="primary"
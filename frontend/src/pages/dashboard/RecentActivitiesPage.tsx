@@ -112,6 +112,10 @@ const RecentActivitiesPage: React.FC = () => {
       case 'sr': return 'SR 요청';
       case 'project': return '프로젝트';
       case 'approval': return '승인';
+      case 'issue': return '이슈';
+      case 'incident': return '장애';
+      case 'release': return '릴리즈';
+      case 'asset': return '자산';
       default: return type;
     }
   };
@@ -161,6 +165,10 @@ const RecentActivitiesPage: React.FC = () => {
               <MenuItem value="sr">SR 요청</MenuItem>
               <MenuItem value="project">프로젝트</MenuItem>
               <MenuItem value="approval">승인</MenuItem>
+              <MenuItem value="issue">이슈</MenuItem>
+              <MenuItem value="incident">장애</MenuItem>
+              <MenuItem value="release">릴리즈</MenuItem>
+              <MenuItem value="asset">자산</MenuItem>
             </Select>
           </FormControl>
         </Box>
@@ -250,10 +258,10 @@ const RecentActivitiesPage: React.FC = () => {
               </TableContainer>
 
               {/* 페이징 */}
-              {activitiesPage.totalPages > 1 && (
+              {(activitiesPage.number > 0 || activitiesPage.hasNext) && (
                 <Box sx={{ display: 'flex', justifyContent: 'center', p: 2 }}>
                   <Pagination
-                    count={activitiesPage.totalPages}
+                    count={activitiesPage.number + (activitiesPage.hasNext ? 2 : 1)}
                     page={activitiesPage.number + 1}
                     onChange={handlePageChange}
                     color="primary"
@@ -276,10 +284,7 @@ const RecentActivitiesPage: React.FC = () => {
       {activitiesPage && (
         <Box sx={{ mt: 2, display: 'flex', gap: 2, flexWrap: 'wrap' }}>
           <Typography variant="body2" color="text.secondary">
-            총 {activitiesPage.totalElements}개 항목
-          </Typography>
-          <Typography variant="body2" color="text.secondary">
-            {activitiesPage.number + 1} / {activitiesPage.totalPages} 페이지
+            {activitiesPage.number + 1} 페이지{activitiesPage.hasNext ? '' : ' (마지막)'}
           </Typography>
         </Box>
       )}